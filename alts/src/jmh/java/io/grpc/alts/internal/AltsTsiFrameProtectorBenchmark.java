@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.alts.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Protect and unprotect throughput of {@link AltsTsiFrameProtector} for various frame sizes, both
+ * standalone and through a pair of channels with a {@link TsiFrameHandler}.
+ */
+@State(Scope.Benchmark)
+public class AltsTsiFrameProtectorBenchmark {
+  @Param({"1024", "16384", "131072", "1048576"})
+  public int frameSize;
+
+  @Param({"1048576"})
+  public int payloadSize;
+
+  @Param({"false", "true"})
+  public boolean decryptInPlace;
+
+  private final ByteBufAllocator alloc = PooledByteBufAllocator.DEFAULT;
+  private final List<ByteBuf> protectedBufs = new ArrayList<>();
+  private final TsiFrameProtector.Consumer<ByteBuf> addProtected =
+      new TsiFrameProtector.Consumer<ByteBuf>() {
+        @Override
+        public void accept(ByteBuf buf) {
+          protectedBufs.add(buf);
+        }
+      };
+  private AltsTsiFrameProtector protector;
+  private EmbeddedChannel clientChannel;
+  private EmbeddedChannel serverChannel;
+  private ByteBuf payload;
+
+  @Setup
+  public void setUp() {
+    byte[] key = new byte[AltsChannelCrypter.getKeyLength()];
+    new SecureRandom().nextBytes(key);
+    protector = new AltsTsiFrameProtector(
+        frameSize, new AltsChannelCrypter(key, /* isClient= */ true), alloc);
+    clientChannel = new EmbeddedChannel(new TsiFrameHandler(new AltsTsiFrameProtector(
+        frameSize, new AltsChannelCrypter(key, /* isClient= */ true), alloc, decryptInPlace)));
+    serverChannel = new EmbeddedChannel(new TsiFrameHandler(new AltsTsiFrameProtector(
+        frameSize, new AltsChannelCrypter(key, /* isClient= */ false), alloc, decryptInPlace)));
+    byte[] data = new byte[payloadSize];
+    new SecureRandom().nextBytes(data);
+    payload = alloc.directBuffer(payloadSize).writeBytes(data);
+  }
+
+  @TearDown
+  public void tearDown() {
+    protector.destroy();
+    clientChannel.finishAndReleaseAll();
+    serverChannel.finishAndReleaseAll();
+    payload.release();
+  }
+
+  /** Frames and encrypts the payload, as done for each flush of the channel. */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public int protect() throws Exception {
+    protector.protectFlush(
+        Collections.singletonList(payload.retainedDuplicate()), addProtected, alloc);
+    int protectedBytes = 0;
+    for (ByteBuf buf : protectedBufs) {
+      protectedBytes += buf.readableBytes();
+      buf.release();
+    }
+    protectedBufs.clear();
+    return protectedBytes;
+  }
+
+  /**
+   * Writes the payload on one channel and reads it back from its peer, which includes the
+   * buffering of received frames in the decoder. Unprotect can't be measured on its own, since
+   * each frame may only be decrypted once with the expected counter.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public int roundTrip() {
+    clientChannel.writeOutbound(payload.retainedDuplicate());
+    ByteBuf protectedBuf;
+    while ((protectedBuf = clientChannel.readOutbound()) != null) {
+      serverChannel.writeInbound(protectedBuf);
+    }
+    int unprotectedBytes = 0;
+    ByteBuf unprotectedBuf;
+    while ((unprotectedBuf = serverChannel.readInbound()) != null) {
+      unprotectedBytes += unprotectedBuf.readableBytes();
+      unprotectedBuf.release();
+    }
+    return unprotectedBytes;
+  }
+}
@@ -21,8 +21,10 @@ import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Verify.verify;
 
 import com.google.common.primitives.Ints;
+import io.grpc.internal.GrpcUtil;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import java.security.GeneralSecurityException;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,7 +38,14 @@ public final class AltsTsiFrameProtector implements TsiFrameProtector {
   private static final int LIMIT_MAX_ALLOWED_FRAME_SIZE = 1024 * 1024;
   // Frame size negotiation extends frame size range to [MIN_FRAME_SIZE, MAX_FRAME_SIZE].
   private static final int MIN_FRAME_SIZE = 16 * 1024;
-  private static final int MAX_FRAME_SIZE = 128 * 1024;
+  // Larger frames amortize the per-frame header, tag and cipher setup on bulk transfers, at the
+  // cost of buffering whole frames before they can be decrypted.
+  private static final int MAX_FRAME_SIZE =
+      GrpcUtil.getFlag("GRPC_EXPERIMENTAL_ALTS_LARGE_FRAMES", false)
+          ? LIMIT_MAX_ALLOWED_FRAME_SIZE
+          : 128 * 1024;
+  private static final boolean EXPERIMENTAL_ALTS_IN_PLACE_UNPROTECT =
+      GrpcUtil.getFlag("GRPC_EXPERIMENTAL_ALTS_IN_PLACE_UNPROTECT", false);
 
   private final Protector protector;
   private final Unprotector unprotector;
@@ -44,10 +53,18 @@ public final class AltsTsiFrameProtector implements TsiFrameProtector {
   /** Create a new AltsTsiFrameProtector. */
   public AltsTsiFrameProtector(
       int maxProtectedFrameBytes, ChannelCrypterNetty crypter, ByteBufAllocator alloc) {
+    this(maxProtectedFrameBytes, crypter, alloc, EXPERIMENTAL_ALTS_IN_PLACE_UNPROTECT);
+  }
+
+  AltsTsiFrameProtector(
+      int maxProtectedFrameBytes,
+      ChannelCrypterNetty crypter,
+      ByteBufAllocator alloc,
+      boolean decryptInPlace) {
     checkArgument(maxProtectedFrameBytes > HEADER_BYTES + crypter.getSuffixLength());
     maxProtectedFrameBytes = Math.min(LIMIT_MAX_ALLOWED_FRAME_SIZE, maxProtectedFrameBytes);
     protector = new Protector(maxProtectedFrameBytes, crypter);
-    unprotector = new Unprotector(crypter, alloc);
+    unprotector = new Unprotector(crypter, alloc, decryptInPlace);
   }
 
   static int getHeaderLenFieldBytes() {
@@ -103,6 +120,8 @@ public final class AltsTsiFrameProtector implements TsiFrameProtector {
   static final class Protector {
     private final int maxUnprotectedBytesPerFrame;
     private final int suffixBytes;
+    // Reused across frames and flushes to avoid allocating a list per frame.
+    private final List<ByteBuf> framePlain = new ArrayList<>();
     private ChannelCrypterNetty crypter;
 
     Protector(int maxProtectedFrameBytes, ChannelCrypterNetty crypter) {
@@ -124,6 +143,7 @@ public final class AltsTsiFrameProtector implements TsiFrameProtector {
       try {
         protectedBuf = handleUnprotected(unprotectedBufs, alloc);
       } finally {
+        framePlain.clear();
         for (ByteBuf buf : unprotectedBufs) {
           buf.release();
         }
@@ -163,7 +183,7 @@ public final class AltsTsiFrameProtector implements TsiFrameProtector {
 
           // Ownership of the backing buffer remains with protectedBuf.
           ByteBuf frameOut = writeSlice(protectedBuf, unprotectedBytesLeft + suffixBytes);
-          List<ByteBuf> framePlain = new ArrayList<>();
+          framePlain.clear();
           while (unprotectedBytesLeft > 0) {
             // Ownership of the buffer backing in remains with unprotectedBufs.
             ByteBuf in = unprotectedBufs.get(bufferIdx);
@@ -193,6 +213,7 @@ public final class AltsTsiFrameProtector implements TsiFrameProtector {
   static final class Unprotector {
     private final int suffixBytes;
     private final ChannelCrypterNetty crypter;
+    private final boolean decryptInPlace;
 
     private DeframerState state = DeframerState.READ_HEADER;
     private int requiredProtectedBytes;
@@ -201,9 +222,23 @@ public final class AltsTsiFrameProtector implements TsiFrameProtector {
     private int unhandledIdx = 0;
     private long unhandledBytes = 0;
     private List<ByteBuf> unhandledBufs = new ArrayList<>(16);
+    // Scratch lists for handlePayload(), reused to avoid allocating them for every frame.
+    private final List<ByteBuf> firstFrameCiphertext = new ArrayList<>();
+    private final List<ByteBuf> ciphertextsAndTags = new ArrayList<>();
 
     Unprotector(ChannelCrypterNetty crypter, ByteBufAllocator alloc) {
+      this(crypter, alloc, false);
+    }
+
+    /**
+     * Creates an unprotector. If {@code decryptInPlace} is set, frames received whole in a single
+     * writable direct buffer are decrypted within that buffer and returned as slices of it instead
+     * of being copied into a new buffer. The returned buffers then keep the received buffer alive
+     * until they are released.
+     */
+    Unprotector(ChannelCrypterNetty crypter, ByteBufAllocator alloc, boolean decryptInPlace) {
       this.crypter = crypter;
+      this.decryptInPlace = decryptInPlace;
       this.suffixBytes = crypter.getSuffixLength();
       this.header = alloc.directBuffer(HEADER_BYTES);
       this.firstFrameTag = alloc.directBuffer(suffixBytes);
@@ -275,11 +310,21 @@ public final class AltsTsiFrameProtector implements TsiFrameProtector {
     }
 
     private ByteBuf handlePayload(ByteBufAllocator alloc) throws GeneralSecurityException {
+      ByteBuf firstBuf = unhandledBufs.get(unhandledIdx);
+      if (decryptInPlace
+          && firstBuf.readableBytes() >= requiredProtectedBytes
+          && firstBuf.isDirect()
+          && !firstBuf.isReadOnly()
+          && firstBuf.nioBufferCount() == 1) {
+        // The frame only completed once firstBuf was received, so firstBuf is the last buffer.
+        verify(unhandledIdx == unhandledBufs.size() - 1);
+        return handlePayloadInPlace(firstBuf, alloc);
+      }
+
       int requiredCiphertextBytes = requiredProtectedBytes - suffixBytes;
       int firstFrameUnprotectedLen = requiredCiphertextBytes;
 
       // We get the ciphertexts of the first frame and copy over the tag into a single buffer.
-      List<ByteBuf> firstFrameCiphertext = new ArrayList<>();
       while (requiredCiphertextBytes > 0) {
         ByteBuf buf = unhandledBufs.get(unhandledIdx);
         if (buf.readableBytes() <= requiredCiphertextBytes) {
@@ -312,8 +357,6 @@ public final class AltsTsiFrameProtector implements TsiFrameProtector {
       ByteBuf lastBuf = unhandledBufs.get(unhandledIdx);
 
       // We get the remaining ciphertexts and tags contained in the last buffer.
-      List<ByteBuf> ciphertextsAndTags = new ArrayList<>();
-      List<Integer> unprotectedLens = new ArrayList<>();
       long requiredUnprotectedBytesCompleteFrames = firstFrameUnprotectedLen;
       while (lastBuf.readableBytes() >= HEADER_BYTES + suffixBytes) {
         // Read frame size.
@@ -330,7 +373,6 @@ public final class AltsTsiFrameProtector implements TsiFrameProtector {
         ciphertextsAndTags.add(lastBuf.readSlice(payloadSize + suffixBytes));
         // Update sizes for frame.
         requiredUnprotectedBytesCompleteFrames += payloadSize;
-        unprotectedLens.add(payloadSize);
       }
 
       // We leave space for suffixBytes to allow for in-place encryption. This allows for calling
@@ -346,8 +388,9 @@ public final class AltsTsiFrameProtector implements TsiFrameProtector {
         unprotectedBuf.writerIndex(unprotectedBuf.writerIndex() - suffixBytes);
 
         for (int frameIdx = 0; frameIdx < ciphertextsAndTags.size(); ++frameIdx) {
-          out = writeSlice(unprotectedBuf, unprotectedLens.get(frameIdx) + suffixBytes);
-          crypter.decrypt(out, ciphertextsAndTags.get(frameIdx));
+          ByteBuf ciphertextAndTag = ciphertextsAndTags.get(frameIdx);
+          out = writeSlice(unprotectedBuf, ciphertextAndTag.readableBytes());
+          crypter.decrypt(out, ciphertextAndTag);
           verify(out.writableBytes() == suffixBytes);
           unprotectedBuf.writerIndex(unprotectedBuf.writerIndex() - suffixBytes);
         }
@@ -357,6 +400,58 @@ public final class AltsTsiFrameProtector implements TsiFrameProtector {
       }
     }
 
+    /**
+     * Decrypts the current frame and all further complete frames of {@code buf} in place. If there
+     * is more than one frame, their plaintexts are returned as components of a composite buffer.
+     */
+    private ByteBuf handlePayloadInPlace(ByteBuf buf, ByteBufAllocator alloc)
+        throws GeneralSecurityException {
+      ByteBuf unprotectedBuf = decryptInPlace(buf, requiredProtectedBytes);
+      try {
+        CompositeByteBuf composite = null;
+        while (buf.readableBytes() >= HEADER_BYTES + suffixBytes) {
+          int frameSize = buf.getIntLE(buf.readerIndex());
+          checkArgument(
+              frameSize >= HEADER_TYPE_FIELD_BYTES + suffixBytes,
+              "Invalid header field: frame size too small");
+          checkArgument(
+              frameSize - HEADER_TYPE_FIELD_BYTES <= LIMIT_MAX_ALLOWED_FRAME_SIZE - HEADER_BYTES,
+              "Invalid header field: frame size too large");
+          // Leave incomplete frames for the next call.
+          if (buf.readableBytes() - HEADER_LEN_FIELD_BYTES < frameSize) {
+            break;
+          }
+          int protectedBytes = frameSize - HEADER_TYPE_FIELD_BYTES;
+          buf.skipBytes(HEADER_LEN_FIELD_BYTES);
+          checkArgument(buf.readIntLE() == HEADER_TYPE_DEFAULT, "Invalid header field: frame type");
+          if (composite == null) {
+            // Never let the composite consolidate, as that would copy the frames after all.
+            composite = alloc.compositeDirectBuffer(Integer.MAX_VALUE);
+            composite.addComponent(true, unprotectedBuf);
+            unprotectedBuf = composite;
+          }
+          composite.addComponent(true, decryptInPlace(buf, protectedBytes));
+        }
+        return unprotectedBuf.retain();
+      } finally {
+        unprotectedBuf.release();
+      }
+    }
+
+    /**
+     * Reads the next {@code protectedBytes} of {@code buf}, which hold a frame's ciphertext and
+     * tag, and overwrites them with the plaintext. Returns a retained slice of the plaintext.
+     */
+    private ByteBuf decryptInPlace(ByteBuf buf, int protectedBytes)
+        throws GeneralSecurityException {
+      int start = buf.readerIndex();
+      ByteBuf ciphertextAndTag = buf.readSlice(protectedBytes);
+      ByteBuf out = buf.slice(start, protectedBytes).writerIndex(0);
+      crypter.decrypt(out, ciphertextAndTag);
+      verify(out.writableBytes() == suffixBytes);
+      return buf.retainedSlice(start, out.readableBytes());
+    }
+
     private void clearState() {
       int bufsSize = unhandledBufs.size();
       ByteBuf lastBuf = unhandledBufs.get(bufsSize - 1);
@@ -371,6 +466,8 @@ public final class AltsTsiFrameProtector implements TsiFrameProtector {
         unhandledBufs.add(lastBuf);
         unhandledBytes = lastBuf.readableBytes();
       }
+      firstFrameCiphertext.clear();
+      ciphertextsAndTags.clear();
       state = DeframerState.READ_HEADER;
       requiredProtectedBytes = 0;
       header.clear();
@@ -26,6 +26,7 @@ import com.google.common.testing.GcFinalization;
 import io.grpc.alts.internal.ByteBufTestUtils.RegisterRef;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.util.ReferenceCounted;
 import io.netty.util.ResourceLeakDetector;
 import io.netty.util.ResourceLeakDetector.Level;
@@ -482,6 +483,100 @@ public class AltsTsiFrameProtectorTest {
     unprotector.destroy();
   }
 
+  @Test
+  public void parseFrame_twoFramesDecryptInPlace() throws GeneralSecurityException {
+    int payloadBytes = 1536;
+    int payloadBytes1 = 1024;
+    int payloadBytes2 = payloadBytes - payloadBytes1;
+    ByteBufAllocator alloc = ByteBufAllocator.DEFAULT;
+    List<Object> out = new ArrayList<>();
+    FakeChannelCrypter crypter = new FakeChannelCrypter();
+    AltsTsiFrameProtector.Unprotector unprotector =
+        new AltsTsiFrameProtector.Unprotector(crypter, alloc, /* decryptInPlace= */ true);
+
+    ByteBuf plain = getRandom(payloadBytes, ref);
+    ByteBuf outFrame =
+        getDirectBuffer(
+            2 * (AltsTsiFrameProtector.getHeaderBytes() + FakeChannelCrypter.getTagBytes())
+                + payloadBytes,
+            ref);
+
+    outFrame.writeIntLE(
+        AltsTsiFrameProtector.getHeaderTypeFieldBytes()
+            + payloadBytes1
+            + FakeChannelCrypter.getTagBytes());
+    outFrame.writeIntLE(6);
+    List<ByteBuf> framePlain1 = Collections.singletonList(plain.readSlice(payloadBytes1));
+    ByteBuf frameOut1 = writeSlice(outFrame, payloadBytes1 + FakeChannelCrypter.getTagBytes());
+
+    outFrame.writeIntLE(
+        AltsTsiFrameProtector.getHeaderTypeFieldBytes()
+            + payloadBytes2
+            + FakeChannelCrypter.getTagBytes());
+    outFrame.writeIntLE(6);
+    List<ByteBuf> framePlain2 = Collections.singletonList(plain);
+    ByteBuf frameOut2 = writeSlice(outFrame, payloadBytes2 + FakeChannelCrypter.getTagBytes());
+
+    crypter.encrypt(frameOut1, framePlain1);
+    crypter.encrypt(frameOut2, framePlain2);
+    plain.readerIndex(0);
+
+    unprotector.unprotect(outFrame, out, alloc);
+    assertThat(out.size()).isEqualTo(1);
+    ByteBuf out1 = (ByteBuf) out.get(0);
+    assertThat(out1).isInstanceOf(CompositeByteBuf.class);
+    assertThat(out1).isEqualTo(plain);
+    assertThat(outFrame.readableBytes()).isEqualTo(0);
+    // The plaintext is a view of the received buffer, which it keeps alive.
+    assertThat(outFrame.refCnt()).isGreaterThan(1);
+
+    out1.release();
+    assertThat(outFrame.refCnt()).isEqualTo(1);
+
+    unprotector.destroy();
+  }
+
+  @Test
+  public void parseFrame_decryptInPlace_secondFrameTooLarge() throws GeneralSecurityException {
+    int payloadBytes = 1024;
+    ByteBufAllocator alloc = ByteBufAllocator.DEFAULT;
+    List<Object> out = new ArrayList<>();
+    FakeChannelCrypter crypter = new FakeChannelCrypter();
+    AltsTsiFrameProtector.Unprotector unprotector =
+        new AltsTsiFrameProtector.Unprotector(crypter, alloc, /* decryptInPlace= */ true);
+
+    ByteBuf plain = getRandom(payloadBytes, ref);
+    ByteBuf outFrame =
+        getDirectBuffer(
+            2 * (AltsTsiFrameProtector.getHeaderBytes() + FakeChannelCrypter.getTagBytes())
+                + payloadBytes,
+            ref);
+    outFrame.writeIntLE(
+        AltsTsiFrameProtector.getHeaderTypeFieldBytes()
+            + payloadBytes
+            + FakeChannelCrypter.getTagBytes());
+    outFrame.writeIntLE(6);
+    ByteBuf frameOut = writeSlice(outFrame, payloadBytes + FakeChannelCrypter.getTagBytes());
+    crypter.encrypt(frameOut, Collections.singletonList(plain));
+
+    // Rejected while in the same buffer as the first frame, as when read on its own.
+    outFrame.writeIntLE(
+        AltsTsiFrameProtector.getLimitMaxAllowedFrameSize()
+            - AltsTsiFrameProtector.getHeaderLenFieldBytes()
+            + 1);
+    outFrame.writeIntLE(6);
+    outFrame.writeZero(FakeChannelCrypter.getTagBytes());
+    try {
+      unprotector.unprotect(outFrame, out, alloc);
+      fail("Exception expected");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex).hasMessageThat().contains("Invalid header field: frame size too large");
+    }
+    assertThat(out).isEmpty();
+
+    unprotector.destroy();
+  }
+
   private ByteBuf ref(ByteBuf buf) {
     if (buf != null) {
       references.add(buf);
@@ -168,8 +168,7 @@ public final class InternalChannelz {
 
   /** Returns a server list. */
   public ServerList getServers(long fromId, int maxPageSize) {
-    List<InternalInstrumented<ServerStats>> serverList
-        = new ArrayList<>(maxPageSize);
+    List<InternalInstrumented<ServerStats>> serverList = new ArrayList<>();
     Iterator<InternalInstrumented<ServerStats>> iterator
         = servers.tailMap(fromId).values().iterator();
 
@@ -192,7 +191,8 @@ public final class InternalChannelz {
     if (serverSockets == null) {
       return null;
     }
-    List<InternalWithLogId> socketList = new ArrayList<>(maxPageSize);
+    // Not presized, as maxPageSize may be far larger than the number of sockets
+    List<InternalWithLogId> socketList = new ArrayList<>();
     Iterator<InternalInstrumented<SocketStats>> iterator
         = serverSockets.tailMap(fromId).values().iterator();
     while (socketList.size() < maxPageSize && iterator.hasNext()) {
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.concurrent.Executor;
+import javax.annotation.Nullable;
+
+/**
+ * Accesses internal data.  Do not use this.
+ */
+@Internal
+public final class InternalSynchronizationContext {
+  private InternalSynchronizationContext() {}
+
+  /**
+   * Creates a {@link SynchronizationContext} whose tasks are only run from {@code drainExecutor},
+   * instead of from the threads that execute them.  A single drain of the queued tasks is scheduled
+   * on the executor at a time, so it doesn't need to run tasks in order.  If the executor throws
+   * instead of accepting a drain, the tasks are run from the thread that executed them.
+   */
+  @Internal
+  public static SynchronizationContext createWithDrainExecutor(
+      UncaughtExceptionHandler uncaughtExceptionHandler, Executor drainExecutor,
+      @Nullable DrainObserver drainObserver) {
+    return new SynchronizationContext(uncaughtExceptionHandler, drainExecutor, drainObserver);
+  }
+
+  /** Observes the drains of a {@link SynchronizationContext} that runs tasks from an executor. */
+  @Internal
+  public interface DrainObserver {
+    /**
+     * Called from the executor after each drain.
+     *
+     * @param tasks the number of tasks run by the drain
+     * @param delayNanos the time between scheduling the drain and the executor running it
+     * @param durationNanos the time spent running the tasks
+     */
+    void onDrained(int tasks, long delayNanos, long durationNanos);
+  }
+}
@@ -50,6 +50,39 @@ public final class InternalTcpMetrics {
               OPTIONAL_LABELS,
               false);
 
+  public static final DoubleHistogramMetricInstrument RTT_VAR_INSTRUMENT =
+      MetricInstrumentRegistry.getDefaultRegistry()
+          .registerDoubleHistogram(
+              "grpc.tcp.rtt_var",
+              "Mean deviation of the round-trip time of a TCP connection",
+              "s",
+              Collections.emptyList(),
+              Collections.emptyList(),
+              OPTIONAL_LABELS,
+              false);
+
+  public static final LongHistogramMetricInstrument CONGESTION_WINDOW_INSTRUMENT =
+      MetricInstrumentRegistry.getDefaultRegistry()
+          .registerLongHistogram(
+              "grpc.tcp.congestion_window",
+              "Congestion window of a TCP connection",
+              "{segment}",
+              Collections.emptyList(),
+              Collections.emptyList(),
+              OPTIONAL_LABELS,
+              false);
+
+  public static final LongHistogramMetricInstrument UNACKED_SEGMENTS_INSTRUMENT =
+      MetricInstrumentRegistry.getDefaultRegistry()
+          .registerLongHistogram(
+              "grpc.tcp.unacked_segments",
+              "Number of segments sent but not yet acknowledged on a TCP connection",
+              "{segment}",
+              Collections.emptyList(),
+              Collections.emptyList(),
+              OPTIONAL_LABELS,
+              false);
+
   public static final LongCounterMetricInstrument CONNECTIONS_CREATED_INSTRUMENT =
       MetricInstrumentRegistry
           .getDefaultRegistry()
@@ -232,7 +232,7 @@ public final class Metadata {
    */
   public boolean containsKey(Key<?> key) {
     for (int i = 0; i < size; i++) {
-      if (bytesEqual(key.asciiName(), name(i))) {
+      if (nameMatches(i, key)) {
         return true;
       }
     }
@@ -247,7 +247,7 @@ public final class Metadata {
   @Nullable
   public <T> T get(Key<T> key) {
     for (int i = size - 1; i >= 0; i--) {
-      if (bytesEqual(key.asciiName(), name(i))) {
+      if (nameMatches(i, key)) {
         return valueAsT(i, key);
       }
     }
@@ -275,7 +275,7 @@ public final class Metadata {
             return true;
           }
           for (; idx < size; idx++) {
-            if (bytesEqual(key.asciiName(), name(idx))) {
+            if (nameMatches(idx, key)) {
               hasNext = true;
               return hasNext;
             }
@@ -308,7 +308,7 @@ public final class Metadata {
   @Nullable
   public <T> Iterable<T> getAll(final Key<T> key) {
     for (int i = 0; i < size; i++) {
-      if (bytesEqual(key.asciiName(), name(i))) {
+      if (nameMatches(i, key)) {
         return new IterableAt<>(key, i);
       }
     }
@@ -564,6 +564,25 @@ public final class Metadata {
     return Arrays.equals(left, right);
   }
 
+  /**
+   * Returns true if the name at index {@code i} matches {@code key}. On a match, the stored name is
+   * replaced by the key's own (equal) name array. Names received from the wire are then
+   * effectively interned on first lookup, so repeated lookups with the same key take the
+   * reference-equality fast path instead of comparing bytes.
+   */
+  private boolean nameMatches(int i, Key<?> key) {
+    byte[] keyName = key.asciiName();
+    byte[] name = name(i);
+    if (name == keyName) {
+      return true;
+    }
+    if (!bytesEqual(keyName, name)) {
+      return false;
+    }
+    name(i, keyName);
+    return true;
+  }
+
   /** Marshaller for metadata values that are serialized into raw binary. */
   public interface BinaryMarshaller<T> {
     /**
@@ -28,7 +28,9 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -64,6 +66,13 @@ public final class SynchronizationContext implements Executor {
 
   private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
   private final AtomicReference<Thread> drainingThread = new AtomicReference<>();
+  // When set, the tasks are only run from this executor, never from the threads draining.
+  @Nullable
+  private final Executor drainExecutor;
+  @Nullable
+  private final InternalSynchronizationContext.DrainObserver drainObserver;
+  // Whether a drain is scheduled on drainExecutor, so that at most one is at a time.
+  private final AtomicBoolean drainScheduled = new AtomicBoolean();
 
   /**
    * Creates a SynchronizationContext.
@@ -75,23 +84,49 @@ public final class SynchronizationContext implements Executor {
   public SynchronizationContext(UncaughtExceptionHandler uncaughtExceptionHandler) {
     this.uncaughtExceptionHandler =
         checkNotNull(uncaughtExceptionHandler, "uncaughtExceptionHandler");
+    this.drainExecutor = null;
+    this.drainObserver = null;
+  }
+
+  /**
+   * Creates a SynchronizationContext that runs its tasks from {@code drainExecutor}. See {@link
+   * InternalSynchronizationContext#createWithDrainExecutor}.
+   */
+  SynchronizationContext(
+      UncaughtExceptionHandler uncaughtExceptionHandler, Executor drainExecutor,
+      @Nullable InternalSynchronizationContext.DrainObserver drainObserver) {
+    this.uncaughtExceptionHandler =
+        checkNotNull(uncaughtExceptionHandler, "uncaughtExceptionHandler");
+    this.drainExecutor = checkNotNull(drainExecutor, "drainExecutor");
+    this.drainObserver = drainObserver;
   }
 
   /**
    * Run all tasks in the queue in the current thread, if no other thread is running this method.
-   * Otherwise do nothing.
+   * Otherwise do nothing.  If the context runs its tasks from an executor, they are run there
+   * instead of in the current thread.
    *
    * <p>Upon returning, it guarantees that all tasks submitted by {@code #executeLater} before it
    * have been or will eventually be run, while not requiring any more calls to {@code drain()}.
    */
   public final void drain() {
+    if (drainExecutor != null) {
+      scheduleDrain();
+    } else {
+      runQueuedTasks();
+    }
+  }
+
+  private int runQueuedTasks() {
+    int tasks = 0;
     do {
       if (!drainingThread.compareAndSet(null, Thread.currentThread())) {
-        return;
+        return tasks;
       }
       try {
         Runnable runnable;
         while ((runnable = queue.poll()) != null) {
+          tasks++;
           try {
             runnable.run();
           } catch (Throwable t) {
@@ -103,6 +138,55 @@ public final class SynchronizationContext implements Executor {
       }
       // must check queue again here to catch any added prior to clearing drainingThread
     } while (!queue.isEmpty());
+    return tasks;
+  }
+
+  private void scheduleDrain() {
+    if (queue.isEmpty() || !drainScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    final long scheduledNanos = System.nanoTime();
+    try {
+      drainExecutor.execute(new Runnable() {
+        @Override
+        public void run() {
+          runScheduledDrain(scheduledNanos);
+        }
+
+        @Override
+        public String toString() {
+          return "drain of " + SynchronizationContext.this;
+        }
+      });
+    } catch (RuntimeException e) {
+      // Usually a RejectedExecutionException, as the executor is shutting down. Whatever the
+      // failure, run the tasks here instead of leaving them in the queue with no drain scheduled.
+      // This thread takes the place of the drain, so that no other one is scheduled meanwhile to
+      // wait on it.
+      runDrain();
+    }
+  }
+
+  private void runScheduledDrain(long scheduledNanos) {
+    long startNanos = System.nanoTime();
+    int tasks = runDrain();
+    if (drainObserver != null) {
+      drainObserver.onDrained(tasks, startNanos - scheduledNanos, System.nanoTime() - startNanos);
+    }
+  }
+
+  /**
+   * Runs the queued tasks as the drain that set {@link #drainScheduled}. Only one thread does at a
+   * time, so it never has to wait for another one to let go of {@link #drainingThread}.
+   */
+  private int runDrain() {
+    int tasks = 0;
+    do {
+      tasks += runQueuedTasks();
+      drainScheduled.set(false);
+      // must check queue again here to catch any added prior to clearing drainScheduled
+    } while (!queue.isEmpty() && drainScheduled.compareAndSet(false, true));
+    return tasks;
   }
 
   /**
@@ -118,9 +202,10 @@ public final class SynchronizationContext implements Executor {
 
   /**
    * Adds a task and run it in this synchronization context as soon as possible.  The task may run
-   * inline.  If there are tasks that are previously queued by {@link #executeLater} but have not
-   * been run, this method will trigger them to be run before the given task.  This is equivalent to
-   * calling {@link #executeLater} immediately followed by {@link #drain}.
+   * inline, unless the context runs its tasks from an executor.  If there are tasks that are
+   * previously queued by {@link #executeLater} but have not been run, this method will trigger them
+   * to be run before the given task.  This is equivalent to calling {@link #executeLater}
+   * immediately followed by {@link #drain}.
    */
   @Override
   public final void execute(Runnable task) {
@@ -155,6 +155,20 @@ public class MetadataTest {
     assertNull(metadata.get(KEY));
   }
 
+  @Test
+  public void get_internsReceivedNames() {
+    Metadata.Key<String> key = Metadata.Key.of("received", Metadata.ASCII_STRING_MARSHALLER);
+    byte[] receivedName = "received".getBytes(US_ASCII);
+    Metadata metadata = new Metadata(receivedName, "value".getBytes(US_ASCII));
+    assertSame(receivedName, metadata.serialize()[0]);
+
+    assertEquals("value", metadata.get(key));
+    assertSame(key.asciiName(), metadata.serialize()[0]);
+    assertEquals("value", metadata.get(key));
+    assertTrue(metadata.containsKey(key));
+    assertEquals(Arrays.asList("value"), Lists.newArrayList(metadata.getAll(key)));
+  }
+
   @Test
   public void discardAll() {
     Fish lance = new Fish(LANCE);
@@ -28,9 +28,14 @@ import static org.mockito.Mockito.verify;
 import com.google.common.util.concurrent.testing.TestingExecutors;
 import io.grpc.SynchronizationContext.ScheduledHandle;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -377,6 +382,137 @@ public class SynchronizationContextTest {
     verify(task3).run();
   }
 
+  @Test
+  public void drainExecutor_tasksOnlyRunFromExecutor() {
+    Queue<Runnable> drains = new ArrayDeque<>();
+    List<Integer> drainedTasks = new ArrayList<>();
+    SynchronizationContext executorSyncContext =
+        InternalSynchronizationContext.createWithDrainExecutor(
+            (t, e) -> uncaughtErrors.add(e),
+            drains::add,
+            (tasks, delayNanos, durationNanos) -> drainedTasks.add(tasks));
+
+    executorSyncContext.execute(task1);
+    executorSyncContext.executeLater(task2);
+    executorSyncContext.drain();
+    verify(task1, never()).run();
+    verify(task2, never()).run();
+    assertThat(drains).hasSize(1);
+
+    drains.poll().run();
+    InOrder inOrder = inOrder(task1, task2);
+    inOrder.verify(task1).run();
+    inOrder.verify(task2).run();
+    assertThat(drainedTasks).containsExactly(2);
+    assertThat(drains).isEmpty();
+  }
+
+  @Test
+  public void drainExecutor_tasksExecutedByTasksRunInSameDrain() {
+    Queue<Runnable> drains = new ArrayDeque<>();
+    SynchronizationContext executorSyncContext =
+        InternalSynchronizationContext.createWithDrainExecutor(
+            (t, e) -> uncaughtErrors.add(e), drains::add, null);
+    doAnswer(new Answer<Void>() {
+        @Override
+        public Void answer(InvocationOnMock invocation) {
+          executorSyncContext.throwIfNotInThisSynchronizationContext();
+          executorSyncContext.execute(task2);
+          return null;
+        }
+      }).when(task1).run();
+
+    executorSyncContext.execute(task1);
+    drains.poll().run();
+    InOrder inOrder = inOrder(task1, task2);
+    inOrder.verify(task1).run();
+    inOrder.verify(task2).run();
+    assertThat(drains).isEmpty();
+
+    executorSyncContext.execute(task3);
+    assertThat(drains).hasSize(1);
+  }
+
+  @Test
+  public void drainExecutor_rejected_tasksRunFromCaller() {
+    SynchronizationContext executorSyncContext =
+        InternalSynchronizationContext.createWithDrainExecutor(
+            (t, e) -> uncaughtErrors.add(e),
+            command -> {
+              throw new RejectedExecutionException();
+            },
+            null);
+
+    executorSyncContext.execute(task1);
+    verify(task1).run();
+    executorSyncContext.execute(task2);
+    verify(task2).run();
+  }
+
+  @Test
+  public void drainExecutor_throws_tasksRunFromCallerAndLaterDrainsScheduled() {
+    Queue<Runnable> drains = new ArrayDeque<>();
+    AtomicBoolean fail = new AtomicBoolean(true);
+    SynchronizationContext executorSyncContext =
+        InternalSynchronizationContext.createWithDrainExecutor(
+            (t, e) -> uncaughtErrors.add(e),
+            command -> {
+              if (fail.get()) {
+                throw new IllegalStateException("broken executor");
+              }
+              drains.add(command);
+            },
+            null);
+
+    executorSyncContext.execute(task1);
+    verify(task1).run();
+
+    // The failed drain didn't leave the context thinking a drain is still scheduled.
+    fail.set(false);
+    executorSyncContext.execute(task2);
+    verify(task2, never()).run();
+    assertThat(drains).hasSize(1);
+    drains.poll().run();
+    verify(task2).run();
+    assertThat(uncaughtErrors).isEmpty();
+  }
+
+  @Test
+  public void drainExecutor_rejected_noDrainScheduledWhileTasksRunFromCaller() {
+    Queue<Runnable> drains = new ArrayDeque<>();
+    AtomicBoolean reject = new AtomicBoolean(true);
+    SynchronizationContext executorSyncContext =
+        InternalSynchronizationContext.createWithDrainExecutor(
+            (t, e) -> uncaughtErrors.add(e),
+            command -> {
+              if (reject.get()) {
+                throw new RejectedExecutionException();
+              }
+              drains.add(command);
+            },
+            null);
+    doAnswer(invocation -> {
+      // A drain scheduled now could only wait for the caller, which runs task2 anyway.
+      reject.set(false);
+      executorSyncContext.execute(task2);
+      return null;
+    }).when(task1).run();
+
+    executorSyncContext.execute(task1);
+
+    InOrder inOrder = inOrder(task1, task2);
+    inOrder.verify(task1).run();
+    inOrder.verify(task2).run();
+    assertThat(drains).isEmpty();
+    assertThat(uncaughtErrors).isEmpty();
+
+    // Drains are scheduled again once the caller is done.
+    executorSyncContext.execute(task3);
+    assertThat(drains).hasSize(1);
+    drains.poll().run();
+    verify(task3).run();
+  }
+
   static class MockScheduledExecutorService extends ForwardingScheduledExecutorService {
     private ScheduledExecutorService delegate = TestingExecutors.noOpScheduledExecutor();
 
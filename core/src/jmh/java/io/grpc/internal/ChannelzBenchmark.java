@@ -38,7 +38,7 @@ import org.openjdk.jmh.annotations.State;
 @State(Scope.Benchmark)
 public class ChannelzBenchmark {
   // Number of items already present
-  @Param({"10", "100", "1000", "10000"})
+  @Param({"10", "100", "1000", "10000", "100000"})
   public int preexisting;
 
   public InternalChannelz channelz = new InternalChannelz();
@@ -50,6 +50,7 @@ public class ChannelzBenchmark {
   public InternalInstrumented<ServerStats> serverForServerSocket;
   public InternalInstrumented<SocketStats> serverSocketToAdd;
   public InternalInstrumented<SocketStats> serverSocketToRemove;
+  public long lastServerSocketId;
 
   /**
    * Javadoc.
@@ -85,6 +86,7 @@ public class ChannelzBenchmark {
 
       // for addServerSocket / removeServerSocket
       channelz.addServerSocket(serverForServerSocket, sock);
+      lastServerSocketId = sock.getLogId().getId();
     }
   }
 
@@ -130,6 +132,34 @@ public class ChannelzBenchmark {
     channelz.removeServerSocket(serverForServerSocket, serverSocketToRemove);
   }
 
+  /**
+   * A page of a server's sockets from the middle, as requested by GetServerSockets. Server and
+   * socket IDs are allocated alternately, so the middle is {@code preexisting} IDs back.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public InternalChannelz.ServerSocketsList getServerSocketsPage() {
+    return channelz.getServerSockets(
+        serverForServerSocket.getLogId().getId(), lastServerSocketId - preexisting, 100);
+  }
+
+  /** A page of a server's sockets, when the requested page is larger than the socket count. */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public InternalChannelz.ServerSocketsList getServerSocketsLargePage() {
+    return channelz.getServerSockets(
+        serverForServerSocket.getLogId().getId(), lastServerSocketId, Integer.MAX_VALUE);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public InternalInstrumented<SocketStats> getSocket() {
+    return channelz.getSocket(lastServerSocketId);
+  }
+
   private static <T> InternalInstrumented<T> create() {
     return new InternalInstrumented<T>() {
       final InternalLogId id = InternalLogId.allocate(getClass(), "fake-tag");
@@ -19,6 +19,7 @@ package io.grpc.internal;
 import com.google.common.base.Preconditions;
 import io.grpc.Attributes;
 import io.grpc.Decompressor;
+import io.grpc.InternalMetadata;
 import io.grpc.InternalStatus;
 import io.grpc.Metadata;
 import io.grpc.Status;
@@ -135,6 +136,18 @@ public abstract class AbstractServerStream extends AbstractStream
     }
   }
 
+  /**
+   * Returns {@code true} if {@code trailers}, as passed to {@link Sink#writeTrailers}, carry
+   * nothing but the {@code grpc-status} of {@code status}. This is the case for most successful
+   * calls, and lets transports send a precomputed trailer block instead of serializing the
+   * trailers.
+   */
+  public static boolean isStatusOnlyTrailers(Metadata trailers, Status status) {
+    // addStatusToTrailers() always adds grpc-status, and adds grpc-message iff there is a
+    // description, so a single entry without a description can only be grpc-status.
+    return status.getDescription() == null && InternalMetadata.headerCount(trailers) == 1;
+  }
+
   private void addStatusToTrailers(Metadata trailers, Status status) {
     trailers.discardAll(InternalStatus.CODE_KEY);
     trailers.discardAll(InternalStatus.MESSAGE_KEY);
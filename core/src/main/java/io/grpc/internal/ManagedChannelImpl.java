@@ -61,6 +61,7 @@ import io.grpc.InternalChannelz.ChannelTrace;
 import io.grpc.InternalConfigSelector;
 import io.grpc.InternalInstrumented;
 import io.grpc.InternalLogId;
+import io.grpc.InternalSynchronizationContext;
 import io.grpc.InternalWithLogId;
 import io.grpc.LoadBalancer;
 import io.grpc.LoadBalancer.CreateSubchannelArgs;
@@ -177,22 +178,7 @@ final class ManagedChannelImpl extends ManagedChannel implements
   private final int maxTraceEvents;
 
   @VisibleForTesting
-  final SynchronizationContext syncContext = new SynchronizationContext(
-      new Thread.UncaughtExceptionHandler() {
-        @Override
-        public void uncaughtException(Thread t, Throwable e) {
-          logger.log(
-              Level.SEVERE,
-              "[" + getLogId() + "] Uncaught exception in the SynchronizationContext. Panic!",
-              e);
-          try {
-            panic(e);
-          } catch (Throwable anotherT) {
-            logger.log(
-                Level.SEVERE, "[" + getLogId() + "] Uncaught exception while panicking", anotherT);
-          }
-        }
-      });
+  final SynchronizationContext syncContext;
 
   private boolean fullStreamDecompression;
 
@@ -579,6 +565,30 @@ final class ManagedChannelImpl extends ManagedChannel implements
     this.authorityOverride = builder.authorityOverride;
     this.metricRecorder = new MetricRecorderImpl(builder.metricSinks,
         MetricInstrumentRegistry.getDefaultRegistry());
+    Thread.UncaughtExceptionHandler uncaughtExceptionHandler =
+        new Thread.UncaughtExceptionHandler() {
+          @Override
+          public void uncaughtException(Thread t, Throwable e) {
+            logger.log(
+                Level.SEVERE,
+                "[" + getLogId() + "] Uncaught exception in the SynchronizationContext. Panic!",
+                e);
+            try {
+              panic(e);
+            } catch (Throwable anotherT) {
+              logger.log(
+                  Level.SEVERE, "[" + getLogId() + "] Uncaught exception while panicking",
+                  anotherT);
+            }
+          }
+        };
+    if (builder.syncContextExecutor == null) {
+      this.syncContext = new SynchronizationContext(uncaughtExceptionHandler);
+    } else {
+      this.syncContext = InternalSynchronizationContext.createWithDrainExecutor(
+          uncaughtExceptionHandler, builder.syncContextExecutor,
+          new SynchronizationContextMetrics(metricRecorder, target));
+    }
     NameResolver.Args.Builder nameResolverArgsBuilder = NameResolver.Args.newBuilder()
             .setDefaultPort(builder.getDefaultPort())
             .setProxyDetector(proxyDetector)
@@ -212,6 +212,8 @@ public final class ManagedChannelImplBuilder
   private boolean recordRetryMetrics = true;
   private boolean tracingEnabled = true;
   List<MetricSink> metricSinks = new ArrayList<>();
+  @Nullable
+  Executor syncContextExecutor;
 
   /**
    * An interface for Transport implementors to provide the {@link ClientTransportFactory}
@@ -688,6 +690,16 @@ public final class ManagedChannelImplBuilder
     tracingEnabled = value;
   }
 
+  /**
+   * Runs the tasks of the channel's synchronization context, which include load balancing, name
+   * resolution and the idle timer, from {@code executor} instead of from the threads that queue
+   * them, like transport threads.  Using a single thread, such as an event loop, keeps that work
+   * on one thread.  By default, the tasks are run from the threads that queue them.
+   */
+  public void setSynchronizationContextExecutor(Executor executor) {
+    syncContextExecutor = checkNotNull(executor, "executor");
+  }
+
   /**
    * Verifies the authority is valid.
    */
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.internal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import io.grpc.DoubleHistogramMetricInstrument;
+import io.grpc.InternalSynchronizationContext;
+import io.grpc.LongHistogramMetricInstrument;
+import io.grpc.MetricInstrumentRegistry;
+import io.grpc.MetricRecorder;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records the drains of a channel's synchronization context, when it runs its tasks from an
+ * executor.
+ */
+final class SynchronizationContextMetrics implements InternalSynchronizationContext.DrainObserver {
+  private static final double NANOS_PER_SECOND = 1e9;
+
+  private static final LongHistogramMetricInstrument drainTasks;
+  private static final DoubleHistogramMetricInstrument drainDelay;
+  private static final DoubleHistogramMetricInstrument drainDuration;
+
+  private final MetricRecorder metricRecorder;
+  private final List<String> labelValues;
+
+  SynchronizationContextMetrics(MetricRecorder metricRecorder, String target) {
+    this.metricRecorder = checkNotNull(metricRecorder, "metricRecorder");
+    this.labelValues = ImmutableList.of(target);
+  }
+
+  static {
+    MetricInstrumentRegistry metricInstrumentRegistry
+        = MetricInstrumentRegistry.getDefaultRegistry();
+    drainTasks = metricInstrumentRegistry.registerLongHistogram(
+        "grpc.channel.sync_context.drain_tasks",
+        "EXPERIMENTAL. Number of tasks queued in the channel's synchronization context that were"
+            + " run by each drain",
+        "{task}",
+        ImmutableList.of(1L, 2L, 4L, 8L, 16L, 32L, 64L, 128L, 256L),
+        ImmutableList.of("grpc.target"),
+        Collections.emptyList(),
+        false
+    );
+
+    drainDelay = metricInstrumentRegistry.registerDoubleHistogram(
+        "grpc.channel.sync_context.drain_delay",
+        "EXPERIMENTAL. Time between tasks being queued in the channel's synchronization context"
+            + " and its executor starting to run them",
+        "s",
+        Collections.emptyList(),
+        ImmutableList.of("grpc.target"),
+        Collections.emptyList(),
+        false
+    );
+
+    drainDuration = metricInstrumentRegistry.registerDoubleHistogram(
+        "grpc.channel.sync_context.drain_duration",
+        "EXPERIMENTAL. Time spent running the tasks of each drain of the channel's"
+            + " synchronization context",
+        "s",
+        Collections.emptyList(),
+        ImmutableList.of("grpc.target"),
+        Collections.emptyList(),
+        false
+    );
+  }
+
+  @Override
+  public void onDrained(int tasks, long delayNanos, long durationNanos) {
+    metricRecorder.recordLongHistogram(
+        drainTasks, tasks, labelValues, Collections.emptyList());
+    metricRecorder.recordDoubleHistogram(
+        drainDelay, delayNanos / NANOS_PER_SECOND, labelValues, Collections.emptyList());
+    metricRecorder.recordDoubleHistogram(
+        drainDuration, durationNanos / NANOS_PER_SECOND, labelValues, Collections.emptyList());
+  }
+}
@@ -17,6 +17,7 @@
 package io.grpc.internal;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
@@ -361,6 +362,28 @@ public class AbstractServerStreamTest {
     assertEquals("bad", metadataCaptor.getValue().get(InternalStatus.MESSAGE_KEY));
   }
 
+  @Test
+  public void close_statusOnlyTrailers() {
+    stream.close(Status.OK, new Metadata());
+    verify(sink).writeTrailers(metadataCaptor.capture(), eq(false), eq(Status.OK));
+    assertTrue(
+        AbstractServerStream.isStatusOnlyTrailers(metadataCaptor.getValue(), Status.OK));
+  }
+
+  @Test
+  public void isStatusOnlyTrailers_falseWithDescriptionOrCustomTrailers() {
+    Status withDescription = Status.INTERNAL.withDescription("bad");
+    stream.close(withDescription, new Metadata());
+    verify(sink).writeTrailers(metadataCaptor.capture(), eq(false), eq(withDescription));
+    assertFalse(
+        AbstractServerStream.isStatusOnlyTrailers(metadataCaptor.getValue(), withDescription));
+
+    Metadata trailers = new Metadata();
+    trailers.put(Metadata.Key.of("custom", Metadata.ASCII_STRING_MARSHALLER), "value");
+    trailers.put(InternalStatus.CODE_KEY, Status.OK);
+    assertFalse(AbstractServerStream.isStatusOnlyTrailers(trailers, Status.OK));
+  }
+
   @Test
   public void changeOnReadyThreshold() {
     stream.setListener(new ServerStreamListenerBase());
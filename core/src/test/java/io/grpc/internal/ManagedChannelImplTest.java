@@ -2325,6 +2325,22 @@ public class ManagedChannelImplTest {
     verify(mockLoadBalancerProvider).newLoadBalancer(any(Helper.class));
   }
 
+  @Test
+  public void syncContextExecutor_tasksRunFromExecutor() {
+    FakeClock syncContextExecutor = new FakeClock();
+    channelBuilder.setSynchronizationContextExecutor(
+        syncContextExecutor.getScheduledExecutorService());
+    requestConnection = false;
+    createChannel();
+
+    assertEquals(IDLE, channel.getState(true));
+    verify(mockLoadBalancerProvider, never()).newLoadBalancer(any(Helper.class));
+    assertEquals(1, syncContextExecutor.numPendingTasks());
+
+    syncContextExecutor.runDueTasks();
+    verify(mockLoadBalancerProvider).newLoadBalancer(any(Helper.class));
+  }
+
   @SuppressWarnings("deprecation")
   @Test
   public void getState_withRequestConnect_IdleWithLbRunning() {
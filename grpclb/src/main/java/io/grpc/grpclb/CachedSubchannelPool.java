@@ -20,15 +20,21 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import io.grpc.Attributes;
+import io.grpc.ConnectivityState;
 import io.grpc.ConnectivityStateInfo;
 import io.grpc.EquivalentAddressGroup;
 import io.grpc.LoadBalancer.CreateSubchannelArgs;
 import io.grpc.LoadBalancer.Helper;
 import io.grpc.LoadBalancer.Subchannel;
 import io.grpc.LoadBalancer.SubchannelStateListener;
+import io.grpc.LongCounterMetricInstrument;
+import io.grpc.MetricInstrumentRegistry;
 import io.grpc.SynchronizationContext.ScheduledHandle;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -36,17 +42,45 @@ import java.util.concurrent.TimeUnit;
  * shut down by the pool.
  */
 final class CachedSubchannelPool implements SubchannelPool {
-  private final HashMap<EquivalentAddressGroup, CacheEntry> cache =
-      new HashMap<>();
+  // In the order subchannels were returned, so that the first entry is the one to evict.
+  private final LinkedHashMap<EquivalentAddressGroup, CacheEntry> cache =
+      new LinkedHashMap<>();
 
   private final Helper helper;
+  private final long shutdownTimeoutMs;
+  private final int maxCachedSubchannels;
   private PooledSubchannelStateListener listener;
 
+  /**
+   * How long a returned subchannel is kept, so that a backend that the balancer removes and then
+   * re-adds can reuse its connection instead of handshaking again.
+   */
   @VisibleForTesting
-  static final long SHUTDOWN_TIMEOUT_MS = 10000;
+  static final long SHUTDOWN_TIMEOUT_MS =
+      Long.getLong("io.grpc.grpclb.subchannelPoolRetentionMs", 10000);
+  @VisibleForTesting
+  static final int MAX_CACHED_SUBCHANNELS =
+      Integer.getInteger("io.grpc.grpclb.subchannelPoolMaxSize", 1000);
+
+  private static final LongCounterMetricInstrument SUBCHANNELS_REUSED_COUNTER =
+      MetricInstrumentRegistry.getDefaultRegistry().registerLongCounter(
+          "grpc.lb.grpclb.subchannels_reused",
+          "EXPERIMENTAL. Number of backends re-added by the balancer whose connection was still "
+              + "ready in the subchannel pool, which avoided a new handshake",
+          "{subchannel}",
+          Collections.singletonList("grpc.target"),
+          Collections.<String>emptyList(),
+          false);
 
   public CachedSubchannelPool(Helper helper) {
+    this(helper, SHUTDOWN_TIMEOUT_MS, MAX_CACHED_SUBCHANNELS);
+  }
+
+  @VisibleForTesting
+  CachedSubchannelPool(Helper helper, long shutdownTimeoutMs, int maxCachedSubchannels) {
     this.helper = checkNotNull(helper, "helper");
+    this.shutdownTimeoutMs = shutdownTimeoutMs;
+    this.maxCachedSubchannels = maxCachedSubchannels;
   }
 
   @Override
@@ -76,6 +110,11 @@ final class CachedSubchannelPool implements SubchannelPool {
     } else {
       subchannel = entry.subchannel;
       entry.shutdownTimer.cancel();
+      if (entry.state.getState() == ConnectivityState.READY) {
+        helper.getMetricRecorder().addLongCounter(
+            SUBCHANNELS_REUSED_COUNTER, 1, ImmutableList.of(helper.getChannelTarget()),
+            ImmutableList.<String>of());
+      }
       // Make the balancer up-to-date with the latest state in case it has changed while it's
       // in the cache.
       helper.getSynchronizationContext().execute(new Runnable() {
@@ -110,10 +149,22 @@ final class CachedSubchannelPool implements SubchannelPool {
       }
       return;
     }
+    if (maxCachedSubchannels <= 0) {
+      subchannel.shutdown();
+      return;
+    }
+    if (cache.size() >= maxCachedSubchannels) {
+      // Evict the subchannel that has been in the pool the longest
+      Iterator<CacheEntry> it = cache.values().iterator();
+      CacheEntry eldest = it.next();
+      it.remove();
+      eldest.shutdownTimer.cancel();
+      eldest.subchannel.shutdown();
+    }
     final ShutdownSubchannelTask shutdownTask = new ShutdownSubchannelTask(subchannel);
     ScheduledHandle shutdownTimer =
         helper.getSynchronizationContext().schedule(
-            shutdownTask, SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS,
+            shutdownTask, shutdownTimeoutMs, TimeUnit.MILLISECONDS,
             helper.getScheduledExecutorService());
     CacheEntry entry = new CacheEntry(subchannel, shutdownTimer, lastKnownState);
     cache.put(subchannel.getAddresses(), entry);
@@ -20,6 +20,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static io.grpc.grpclb.CachedSubchannelPool.SHUTDOWN_TIMEOUT_MS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doAnswer;
@@ -36,11 +37,15 @@ import io.grpc.EquivalentAddressGroup;
 import io.grpc.LoadBalancer.CreateSubchannelArgs;
 import io.grpc.LoadBalancer.Helper;
 import io.grpc.LoadBalancer.Subchannel;
+import io.grpc.LongCounterMetricInstrument;
+import io.grpc.MetricRecorder;
 import io.grpc.SynchronizationContext;
 import io.grpc.grpclb.CachedSubchannelPool.ShutdownSubchannelTask;
 import io.grpc.grpclb.SubchannelPool.PooledSubchannelStateListener;
 import io.grpc.internal.FakeClock;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -77,6 +82,7 @@ public class CachedSubchannelPoolTest {
       };
 
   private final Helper helper = mock(Helper.class);
+  private final MetricRecorder metricRecorder = mock(MetricRecorder.class);
   private final PooledSubchannelStateListener listener = mock(
       PooledSubchannelStateListener.class,
       AdditionalAnswers.delegatesTo(new PooledSubchannelStateListener() {
@@ -114,6 +120,8 @@ public class CachedSubchannelPoolTest {
       }).when(helper).createSubchannel(any(CreateSubchannelArgs.class));
     when(helper.getSynchronizationContext()).thenReturn(syncContext);
     when(helper.getScheduledExecutorService()).thenReturn(clock.getScheduledExecutorService());
+    when(helper.getMetricRecorder()).thenReturn(metricRecorder);
+    when(helper.getChannelTarget()).thenReturn("fake-target");
     pool.registerListener(listener);
   }
 
@@ -221,6 +229,47 @@ public class CachedSubchannelPoolTest {
     assertThat(clock.numPendingTasks()).isEqualTo(0);
   }
 
+  @Test
+  public void subchannelReused_recordsReadyReuses() {
+    Subchannel subchannel1 = pool.takeOrCreateSubchannel(EAG1, ATTRS1);
+    Subchannel subchannel2 = pool.takeOrCreateSubchannel(EAG2, ATTRS2);
+    pool.returnSubchannel(subchannel1, READY_STATE);
+    pool.returnSubchannel(
+        subchannel2, ConnectivityStateInfo.forNonError(ConnectivityState.IDLE));
+
+    assertThat(pool.takeOrCreateSubchannel(EAG1, ATTRS1)).isSameInstanceAs(subchannel1);
+    assertThat(pool.takeOrCreateSubchannel(EAG2, ATTRS2)).isSameInstanceAs(subchannel2);
+
+    // Only the ready subchannel saved a handshake
+    verify(metricRecorder).addLongCounter(
+        any(LongCounterMetricInstrument.class), eq(1L),
+        eq(Collections.singletonList("fake-target")), eq(Collections.<String>emptyList()));
+    verifyNoMoreInteractions(metricRecorder);
+  }
+
+  @Test
+  public void returnSubchannel_evictsEldestWhenFull() {
+    SubchannelPool smallPool = new CachedSubchannelPool(helper, SHUTDOWN_TIMEOUT_MS, 2);
+    smallPool.registerListener(listener);
+    EquivalentAddressGroup eag3 =
+        new EquivalentAddressGroup(new FakeSocketAddress("fake-address-3"), Attributes.EMPTY);
+    Subchannel subchannel1 = smallPool.takeOrCreateSubchannel(EAG1, ATTRS1);
+    Subchannel subchannel2 = smallPool.takeOrCreateSubchannel(EAG2, ATTRS2);
+    Subchannel subchannel3 = smallPool.takeOrCreateSubchannel(eag3, ATTRS1);
+
+    for (Subchannel subchannel : Arrays.asList(subchannel1, subchannel2, subchannel3)) {
+      smallPool.returnSubchannel(subchannel, READY_STATE);
+    }
+
+    verify(subchannel1).shutdown();
+    verify(subchannel2, never()).shutdown();
+    verify(subchannel3, never()).shutdown();
+    assertThat(clock.getPendingTasks(SHUTDOWN_TASK_FILTER)).hasSize(2);
+    assertThat(smallPool.takeOrCreateSubchannel(EAG2, ATTRS2)).isSameInstanceAs(subchannel2);
+
+    smallPool.clear();
+  }
+
   @Test
   public void returnDuplicateAddressSubchannel() {
     Subchannel subchannel1 = pool.takeOrCreateSubchannel(EAG1, ATTRS1);
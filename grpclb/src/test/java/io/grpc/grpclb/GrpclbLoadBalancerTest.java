@@ -2971,6 +2971,11 @@ public class GrpclbLoadBalancerTest {
       return SERVICE_AUTHORITY;
     }
 
+    @Override
+    public String getChannelTarget() {
+      return "dns:///" + SERVICE_AUTHORITY;
+    }
+
     @Override
     public void updateOobChannelAddresses(ManagedChannel channel, EquivalentAddressGroup eag) {
     }
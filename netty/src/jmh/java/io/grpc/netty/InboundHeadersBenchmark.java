@@ -19,6 +19,8 @@ package io.grpc.netty;
 import static io.grpc.netty.Utils.CONTENT_TYPE_HEADER;
 import static io.grpc.netty.Utils.TE_TRAILERS;
 
+import io.grpc.Metadata;
+import io.grpc.internal.GrpcUtil;
 import io.grpc.netty.GrpcHttp2HeadersUtils.GrpcHttp2RequestHeaders;
 import io.grpc.netty.GrpcHttp2HeadersUtils.GrpcHttp2ResponseHeaders;
 import io.netty.handler.codec.http2.DefaultHttp2Headers;
@@ -40,6 +42,9 @@ import org.openjdk.jmh.infra.Blackhole;
 @State(Scope.Thread)
 public class InboundHeadersBenchmark {
 
+  private static final Metadata.Key<String> AUTHORIZATION_KEY =
+      Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
   private static AsciiString[] requestHeaders;
   private static AsciiString[] responseHeaders;
 
@@ -121,6 +126,26 @@ public class InboundHeadersBenchmark {
     clientHandler(bh, new DefaultHttp2Headers(true, 2));
   }
 
+  /**
+   * Converts request headers to {@link Metadata} and then reads the same keys several times, the
+   * way a chain of server interceptors typically does.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void grpcHeaders_repeatedMetadataGet(Blackhole bh) {
+    Http2Headers headers = new GrpcHttp2RequestHeaders(4);
+    for (int i = 0; i < requestHeaders.length; i += 2) {
+      headers.add(requestHeaders[i], requestHeaders[i + 1]);
+    }
+    Metadata metadata = Utils.convertHeaders(headers);
+    for (int i = 0; i < 4; i++) {
+      bh.consume(metadata.get(AUTHORIZATION_KEY));
+      bh.consume(metadata.get(GrpcUtil.MESSAGE_ENCODING_KEY));
+      bh.consume(metadata.get(GrpcUtil.TIMEOUT_KEY));
+    }
+  }
+
   @CompilerControl(CompilerControl.Mode.INLINE)
   private static void serverHandler(Blackhole bh, Http2Headers headers) {
     for (int i = 0; i < requestHeaders.length; i += 2) {
@@ -16,8 +16,11 @@
 
 package io.grpc.netty;
 
+import io.grpc.InternalStatus;
 import io.grpc.Metadata;
 import io.grpc.Metadata.AsciiMarshaller;
+import io.grpc.Status;
+import io.grpc.internal.AbstractServerStream;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.handler.codec.http2.DefaultHttp2HeadersEncoder;
@@ -85,6 +88,48 @@ public class OutboundHeadersBenchmark {
     return Utils.convertServerHeaders(metadata);
   }
 
+  /**
+   * Converts the trailers of a successful call without custom trailers. Metadata is rebuilt each
+   * time, as the server does per call.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Http2Headers convertOkTrailers() {
+    Metadata trailers = new Metadata();
+    trailers.put(InternalStatus.CODE_KEY, Status.OK);
+    return Utils.convertTrailers(trailers, true);
+  }
+
+  /**
+   * Same as {@link #convertOkTrailers} but through the status-only fast path taken by
+   * {@link NettyServerStream}.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Http2Headers convertOkTrailers_statusOnly() {
+    Metadata trailers = new Metadata();
+    trailers.put(InternalStatus.CODE_KEY, Status.OK);
+    return AbstractServerStream.isStatusOnlyTrailers(trailers, Status.OK)
+        ? Utils.convertStatusOnlyTrailers(Status.OK, true)
+        : Utils.convertTrailers(trailers, true);
+  }
+
+  /**
+   * Encodes the trailers of a successful call without custom trailers.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public ByteBuf encodeOkTrailers() throws Exception {
+    scratchBuffer.clear();
+    Metadata trailers = new Metadata();
+    trailers.put(InternalStatus.CODE_KEY, Status.OK);
+    headersEncoder.encodeHeaders(1, Utils.convertTrailers(trailers, true), scratchBuffer);
+    return scratchBuffer;
+  }
+
   /**
    * This will encode the random metadata fields, and repeatedly lookup the default other headers.
    */
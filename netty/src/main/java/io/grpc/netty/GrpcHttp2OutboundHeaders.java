@@ -16,8 +16,12 @@
 
 package io.grpc.netty;
 
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import io.grpc.Status;
 import io.netty.handler.codec.http2.Http2Headers;
 import io.netty.util.AsciiString;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -31,6 +35,31 @@ final class GrpcHttp2OutboundHeaders extends AbstractHttp2Headers {
   private final AsciiString[] preHeaders;
   private static final AsciiString[] EMPTY = new AsciiString[]{};
 
+  private static final byte[] GRPC_STATUS = "grpc-status".getBytes(US_ASCII);
+
+  /**
+   * Trailers made of nothing but {@code grpc-status} are by far the most common shape (every
+   * successful RPC without custom trailers), so they are built once per code and shared. The
+   * instances are immutable, and sharing their {@link AsciiString}s lets the HPACK encoder reuse
+   * the cached hash codes.
+   */
+  private static final GrpcHttp2OutboundHeaders[] STATUS_ONLY_TRAILERS;
+  /** Same as {@link #STATUS_ONLY_TRAILERS} but for Trailers-Only responses. */
+  private static final GrpcHttp2OutboundHeaders[] STATUS_ONLY_RESPONSE_HEADERS;
+
+  static {
+    Status.Code[] codes = Status.Code.values();
+    STATUS_ONLY_TRAILERS = new GrpcHttp2OutboundHeaders[codes.length];
+    STATUS_ONLY_RESPONSE_HEADERS = new GrpcHttp2OutboundHeaders[codes.length];
+    for (Status.Code code : codes) {
+      byte[][] serialized = new byte[][] {
+          GRPC_STATUS, Integer.toString(code.value()).getBytes(US_ASCII)};
+      STATUS_ONLY_TRAILERS[code.value()] = new GrpcHttp2OutboundHeaders(EMPTY, serialized);
+      STATUS_ONLY_RESPONSE_HEADERS[code.value()] =
+          new GrpcHttp2OutboundHeaders(responsePreHeaders(), serialized);
+    }
+  }
+
   static GrpcHttp2OutboundHeaders clientRequestHeaders(byte[][] serializedMetadata,
       AsciiString authority, AsciiString path, AsciiString method, AsciiString scheme,
       AsciiString userAgent) {
@@ -47,15 +76,62 @@ final class GrpcHttp2OutboundHeaders extends AbstractHttp2Headers {
   }
 
   static GrpcHttp2OutboundHeaders serverResponseHeaders(byte[][] serializedMetadata) {
-    AsciiString[] preHeaders = new AsciiString[] {
+    int code = statusOnlyCode(serializedMetadata);
+    if (code != -1) {
+      return STATUS_ONLY_RESPONSE_HEADERS[code];
+    }
+    return new GrpcHttp2OutboundHeaders(responsePreHeaders(), serializedMetadata);
+  }
+
+  static GrpcHttp2OutboundHeaders serverResponseTrailers(byte[][] serializedMetadata) {
+    int code = statusOnlyCode(serializedMetadata);
+    if (code != -1) {
+      return STATUS_ONLY_TRAILERS[code];
+    }
+    return new GrpcHttp2OutboundHeaders(EMPTY, serializedMetadata);
+  }
+
+  /**
+   * Returns the shared trailers carrying only {@code grpc-status: code}, as a Trailers-Only
+   * response if {@code headersSent} is {@code false}.
+   */
+  static GrpcHttp2OutboundHeaders statusOnlyTrailers(Status.Code code, boolean headersSent) {
+    return headersSent
+        ? STATUS_ONLY_TRAILERS[code.value()]
+        : STATUS_ONLY_RESPONSE_HEADERS[code.value()];
+  }
+
+  private static AsciiString[] responsePreHeaders() {
+    return new AsciiString[] {
         Http2Headers.PseudoHeaderName.STATUS.value(), Utils.STATUS_OK,
         Utils.CONTENT_TYPE_HEADER, Utils.CONTENT_TYPE_GRPC,
     };
-    return new GrpcHttp2OutboundHeaders(preHeaders, serializedMetadata);
   }
 
-  static GrpcHttp2OutboundHeaders serverResponseTrailers(byte[][] serializedMetadata) {
-    return new GrpcHttp2OutboundHeaders(EMPTY, serializedMetadata);
+  /**
+   * Returns the status code if {@code serializedMetadata} holds exactly one {@code grpc-status}
+   * entry with a known code, or {@code -1} otherwise.
+   */
+  private static int statusOnlyCode(byte[][] serializedMetadata) {
+    if (serializedMetadata.length != 2 || !Arrays.equals(GRPC_STATUS, serializedMetadata[0])) {
+      return -1;
+    }
+    byte[] value = serializedMetadata[1];
+    int code = 0;
+    if (value.length == 0 || value.length > 2) {
+      return -1;
+    }
+    for (byte b : value) {
+      if (b < '0' || b > '9') {
+        return -1;
+      }
+      code = code * 10 + (b - '0');
+    }
+    // Rejects non-canonical forms such as "00" which must be sent as they are.
+    if (code >= STATUS_ONLY_TRAILERS.length || (value.length == 2 && value[0] == '0')) {
+      return -1;
+    }
+    return code;
   }
 
   private GrpcHttp2OutboundHeaders(AsciiString[] preHeaders, byte[][] serializedMetadata) {
@@ -24,6 +24,7 @@ import io.grpc.internal.SharedResourcePool;
 import io.grpc.internal.TransportTracer;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
 
 /**
  * Internal {@link NettyChannelBuilder} accessor.  This is intended for usage internal to the gRPC
@@ -95,6 +96,15 @@ public final class InternalNettyChannelBuilder {
     builder.setStatsRecordRetryMetrics(value);
   }
 
+  /**
+   * Runs the load balancing, name resolution and idle timer work of the channel from {@code
+   * executor}, such as one of the channel's event loops, instead of from the threads that queue it.
+   */
+  public static void setSynchronizationContextExecutor(
+      NettyChannelBuilder builder, Executor executor) {
+    builder.setSynchronizationContextExecutor(executor);
+  }
+
   /**
    * Sets {@link io.grpc.Channel} and {@link io.netty.channel.EventLoopGroup} to Nio. A major
    * benefit over using setters is gRPC will manage the life cycle of {@link
@@ -685,6 +685,10 @@ public final class NettyChannelBuilder extends ForwardingChannelBuilder2<NettyCh
     this.managedChannelImplBuilder.setStatsEnabled(value);
   }
 
+  void setSynchronizationContextExecutor(Executor executor) {
+    this.managedChannelImplBuilder.setSynchronizationContextExecutor(executor);
+  }
+
   void setStatsRecordStartedRpcs(boolean value) {
     this.managedChannelImplBuilder.setStatsRecordStartedRpcs(value);
   }
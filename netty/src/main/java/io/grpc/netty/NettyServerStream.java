@@ -119,7 +119,9 @@ class NettyServerStream extends AbstractServerStream {
     @Override
     public void writeTrailers(Metadata trailers, boolean headersSent, Status status) {
       try (TaskCloseable ignore = PerfMark.traceTask("NettyServerStream$Sink.writeTrailers")) {
-        Http2Headers http2Trailers = Utils.convertTrailers(trailers, headersSent);
+        Http2Headers http2Trailers = AbstractServerStream.isStatusOnlyTrailers(trailers, status)
+            ? Utils.convertStatusOnlyTrailers(status, headersSent)
+            : Utils.convertTrailers(trailers, headersSent);
         SendResponseHeadersCommand trailersCommand =
             SendResponseHeadersCommand.createTrailers(transportState(), http2Trailers, status);
         writeQueue.enqueue(trailersCommand, true)
@@ -66,9 +66,12 @@ final class NettySocketSupport {
   private static final class NettySocketHelperImpl implements Helper {
     @Override
     public NativeSocketOptions getNativeSocketOptions(Channel ch) {
-      // TODO(zpencer): if netty-epoll, use reflection to call EpollSocketChannel.tcpInfo()
-      // And/or if some other low level socket support library is available, call it now.
-      return null;
+      // TODO(zpencer): if some other low level socket support library is available, call it now.
+      TcpInfo tcpInfo = TcpMetrics.getChannelzTcpInfo(ch);
+      if (tcpInfo == null) {
+        return null;
+      }
+      return new NativeSocketOptions(tcpInfo, ImmutableMap.<String, String>of());
     }
   }
 }
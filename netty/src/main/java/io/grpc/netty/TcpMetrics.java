@@ -17,6 +17,7 @@
 package io.grpc.netty;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.grpc.InternalChannelz;
 import io.grpc.InternalTcpMetrics;
 import io.grpc.MetricRecorder;
 import io.netty.channel.Channel;
@@ -31,6 +32,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Utility for collecting TCP metrics from Netty channels.
@@ -47,6 +49,9 @@ final class TcpMetrics {
     final Method totalRetrans;
     final Method retransmits;
     final Method rtt;
+    @Nullable final Method rttvar;
+    @Nullable final Method sndCwnd;
+    @Nullable final Method unacked;
 
     EpollInfo(
         Class<?> channelClass,
@@ -55,12 +60,29 @@ final class TcpMetrics {
         Method totalRetrans,
         Method retransmits,
         Method rtt) {
+      this(channelClass, infoConstructor, tcpInfo, totalRetrans, retransmits, rtt, null, null,
+          null);
+    }
+
+    EpollInfo(
+        Class<?> channelClass,
+        java.lang.reflect.Constructor<?> infoConstructor,
+        Method tcpInfo,
+        Method totalRetrans,
+        Method retransmits,
+        Method rtt,
+        @Nullable Method rttvar,
+        @Nullable Method sndCwnd,
+        @Nullable Method unacked) {
       this.channelClass = channelClass;
       this.infoConstructor = infoConstructor;
       this.tcpInfo = tcpInfo;
       this.totalRetrans = totalRetrans;
       this.retransmits = retransmits;
       this.rtt = rtt;
+      this.rttvar = rttvar;
+      this.sndCwnd = sndCwnd;
+      this.unacked = unacked;
     }
   }
 
@@ -79,7 +101,10 @@ final class TcpMetrics {
             channelClass.getMethod("tcpInfo", infoClass),
             infoClass.getMethod("totalRetrans"),
             infoClass.getMethod("retrans"),
-            infoClass.getMethod("rtt"));
+            infoClass.getMethod("rtt"),
+            getOptionalMethod(infoClass, "rttvar"),
+            getOptionalMethod(infoClass, "sndCwnd"),
+            getOptionalMethod(infoClass, "unacked"));
       }
     } catch (ReflectiveOperationException e) {
       log.log(Level.FINE, "Failed to initialize Epoll tcp_info reflection", e);
@@ -90,7 +115,28 @@ final class TcpMetrics {
     return null;
   }
 
-  private static final long RECORD_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+  /**
+   * Returns the given method, or {@code null} if this version of Netty doesn't have it, so that a
+   * missing optional metric doesn't disable the others.
+   */
+  @VisibleForTesting
+  @Nullable
+  static Method getOptionalMethod(Class<?> infoClass, String name) {
+    try {
+      return infoClass.getMethod(name);
+    } catch (NoSuchMethodException e) {
+      log.log(Level.FINE, "EpollTcpInfo.{0}() is not available", name);
+      return null;
+    }
+  }
+
+  /**
+   * How often TCP_INFO is sampled for each connection, in addition to when it closes. Reading it
+   * is a system call, so sampling often is only worth it while investigating network issues. Zero
+   * disables periodic sampling.
+   */
+  private static final long RECORD_INTERVAL_MILLIS = Long.getLong(
+      "io.grpc.netty.tcpMetricsRecordIntervalMillis", TimeUnit.MINUTES.toMillis(5));
   private final MetricRecorder metricRecorder;
   private final Object tcpInfo;
   private long lastTotalRetrans = 0;
@@ -120,7 +166,8 @@ final class TcpMetrics {
   }
 
   private void scheduleNextReport(final Channel channel, boolean isInitial) {
-    if (epollInfo == null || !epollInfo.channelClass.isInstance(channel) || !channel.isActive()) {
+    if (epollInfo == null || !epollInfo.channelClass.isInstance(channel) || !channel.isActive()
+        || RECORD_INTERVAL_MILLIS <= 0) {
       return;
     }
 
@@ -164,11 +211,17 @@ final class TcpMetrics {
     long totalRetrans;
     long retransmits;
     long rtt;
+    long rttvar;
+    long sndCwnd;
+    long unacked;
     try {
       epollInfo.tcpInfo.invoke(channel, tcpInfo);
       totalRetrans = (Long) epollInfo.totalRetrans.invoke(tcpInfo);
       retransmits = (Long) epollInfo.retransmits.invoke(tcpInfo);
       rtt = (Long) epollInfo.rtt.invoke(tcpInfo);
+      rttvar = invokeOptional(epollInfo.rttvar, tcpInfo);
+      sndCwnd = invokeOptional(epollInfo.sndCwnd, tcpInfo);
+      unacked = invokeOptional(epollInfo.unacked, tcpInfo);
     } catch (ReflectiveOperationException e) {
       log.log(Level.FINE, "Error computing TCP metrics", e);
       return;
@@ -187,6 +240,64 @@ final class TcpMetrics {
     metricRecorder.recordDoubleHistogram(InternalTcpMetrics.MIN_RTT_INSTRUMENT,
         rtt / 1000000.0, // Convert microseconds to seconds
         Collections.emptyList(), labelValues);
+    if (rttvar >= 0) {
+      metricRecorder.recordDoubleHistogram(InternalTcpMetrics.RTT_VAR_INSTRUMENT,
+          rttvar / 1000000.0, Collections.emptyList(), labelValues);
+    }
+    if (sndCwnd >= 0) {
+      metricRecorder.recordLongHistogram(InternalTcpMetrics.CONGESTION_WINDOW_INSTRUMENT,
+          sndCwnd, Collections.emptyList(), labelValues);
+    }
+    if (unacked >= 0) {
+      metricRecorder.recordLongHistogram(InternalTcpMetrics.UNACKED_SEGMENTS_INSTRUMENT,
+          unacked, Collections.emptyList(), labelValues);
+    }
+  }
+
+  /**
+   * Returns the TCP_INFO of {@code channel} for channelz, or {@code null} if it is not an epoll
+   * channel. This allocates its own info object, as it is not called from the channel's
+   * handlers.
+   */
+  @Nullable
+  static InternalChannelz.TcpInfo getChannelzTcpInfo(Channel channel) {
+    EpollInfo epollInfo = TcpMetrics.epollInfo;
+    if (epollInfo == null || !epollInfo.channelClass.isInstance(channel)) {
+      return null;
+    }
+    try {
+      Object tcpInfo = epollInfo.infoConstructor.newInstance();
+      epollInfo.tcpInfo.invoke(channel, tcpInfo);
+      InternalChannelz.TcpInfo.Builder builder = new InternalChannelz.TcpInfo.Builder()
+          .setRetrans(toInt((Long) epollInfo.retransmits.invoke(tcpInfo)))
+          .setRtt(toInt((Long) epollInfo.rtt.invoke(tcpInfo)));
+      long rttvar = invokeOptional(epollInfo.rttvar, tcpInfo);
+      if (rttvar >= 0) {
+        builder.setRttvar(toInt(rttvar));
+      }
+      long sndCwnd = invokeOptional(epollInfo.sndCwnd, tcpInfo);
+      if (sndCwnd >= 0) {
+        builder.setSndCwnd(toInt(sndCwnd));
+      }
+      long unacked = invokeOptional(epollInfo.unacked, tcpInfo);
+      if (unacked >= 0) {
+        builder.setUnacked(toInt(unacked));
+      }
+      return builder.build();
+    } catch (ReflectiveOperationException e) {
+      log.log(Level.FINE, "Error reading TCP info for channelz", e);
+      return null;
+    }
+  }
+
+  /** Returns the value of an optional {@code EpollTcpInfo} getter, or -1 if it is missing. */
+  private static long invokeOptional(@Nullable Method method, Object tcpInfo)
+      throws ReflectiveOperationException {
+    return method == null ? -1 : (Long) method.invoke(tcpInfo);
+  }
+
+  private static int toInt(long value) {
+    return (int) Math.min(value, Integer.MAX_VALUE);
   }
 
   @VisibleForTesting
@@ -324,6 +324,14 @@ class Utils {
     return GrpcHttp2OutboundHeaders.serverResponseTrailers(toHttp2Headers(trailers));
   }
 
+  /**
+   * Returns the trailers for a call closed with {@code status} when no other trailers were added.
+   * Nothing is serialized, as the trailer blocks are precomputed per status code.
+   */
+  public static Http2Headers convertStatusOnlyTrailers(Status status, boolean headersSent) {
+    return GrpcHttp2OutboundHeaders.statusOnlyTrailers(status.getCode(), headersSent);
+  }
+
   public static Status statusFromThrowable(Throwable t) {
     Status s = Status.fromThrowable(t);
     if (s.getCode() != Status.Code.UNKNOWN) {
@@ -19,6 +19,7 @@ package io.grpc.netty;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -27,6 +28,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import io.grpc.InternalChannelz;
 import io.grpc.InternalTcpMetrics;
 import io.grpc.MetricRecorder;
 import io.netty.util.concurrent.ScheduledFuture;
@@ -86,6 +88,9 @@ public class TcpMetricsTest {
     long totalRetrans;
     long retransmits;
     long rtt;
+    long rttvar;
+    long sndCwnd;
+    long unacked;
 
     public void setValues(long totalRetrans, long retransmits, long rtt) {
       this.totalRetrans = totalRetrans;
@@ -107,6 +112,84 @@ public class TcpMetricsTest {
     public long rtt() {
       return rtt;
     }
+
+    @SuppressWarnings("unused")
+    public long rttvar() {
+      return rttvar;
+    }
+
+    @SuppressWarnings("unused")
+    public long sndCwnd() {
+      return sndCwnd;
+    }
+
+    @SuppressWarnings("unused")
+    public long unacked() {
+      return unacked;
+    }
+  }
+
+  private static TcpMetrics.EpollInfo fullEpollInfo() throws Exception {
+    return new TcpMetrics.EpollInfo(
+        ConfigurableFakeWithTcpInfo.class,
+        FakeEpollTcpInfo.class.getConstructor(),
+        ConfigurableFakeWithTcpInfo.class.getMethod("tcpInfo", FakeEpollTcpInfo.class),
+        FakeEpollTcpInfo.class.getMethod("totalRetrans"),
+        FakeEpollTcpInfo.class.getMethod("retrans"),
+        FakeEpollTcpInfo.class.getMethod("rtt"),
+        FakeEpollTcpInfo.class.getMethod("rttvar"),
+        FakeEpollTcpInfo.class.getMethod("sndCwnd"),
+        FakeEpollTcpInfo.class.getMethod("unacked"));
+  }
+
+  @Test
+  public void tracker_recordTcpInfo_recordsCongestionState() throws Exception {
+    MetricRecorder recorder = mock(MetricRecorder.class);
+    TcpMetrics.epollInfo = fullEpollInfo();
+    TcpMetrics tracker = new TcpMetrics(recorder);
+
+    FakeEpollTcpInfo infoSource = new FakeEpollTcpInfo();
+    infoSource.setValues(0, 0, 5000);
+    infoSource.rttvar = 2500;
+    infoSource.sndCwnd = 10;
+    infoSource.unacked = 3;
+    tracker.recordTcpInfo(new ConfigurableFakeWithTcpInfo(infoSource));
+
+    verify(recorder).recordDoubleHistogram(
+        eq(InternalTcpMetrics.RTT_VAR_INSTRUMENT), eq(0.0025), any(), any());
+    verify(recorder).recordLongHistogram(
+        eq(InternalTcpMetrics.CONGESTION_WINDOW_INSTRUMENT), eq(10L), any(), any());
+    verify(recorder).recordLongHistogram(
+        eq(InternalTcpMetrics.UNACKED_SEGMENTS_INSTRUMENT), eq(3L), any(), any());
+  }
+
+  @Test
+  public void getOptionalMethod_missingMethodIsNull() throws Exception {
+    assertEquals(FakeEpollTcpInfo.class.getMethod("sndCwnd"),
+        TcpMetrics.getOptionalMethod(FakeEpollTcpInfo.class, "sndCwnd"));
+    // E.g. an older Netty, whose EpollTcpInfo lacks some of the optional metrics.
+    assertNull(TcpMetrics.getOptionalMethod(FakeEpollTcpInfo.class, "notsent"));
+  }
+
+  @Test
+  public void getChannelzTcpInfo() throws Exception {
+    TcpMetrics.epollInfo = fullEpollInfo();
+    FakeEpollTcpInfo infoSource = new FakeEpollTcpInfo();
+    infoSource.setValues(123, 4, 5000);
+    infoSource.rttvar = 2500;
+    infoSource.sndCwnd = 10;
+    infoSource.unacked = 3;
+
+    InternalChannelz.TcpInfo tcpInfo =
+        TcpMetrics.getChannelzTcpInfo(new ConfigurableFakeWithTcpInfo(infoSource));
+
+    assertEquals(4, tcpInfo.retrans);
+    assertEquals(5000, tcpInfo.rtt);
+    assertEquals(2500, tcpInfo.rttvar);
+    assertEquals(10, tcpInfo.sndCwnd);
+    assertEquals(3, tcpInfo.unacked);
+    assertNull(
+        TcpMetrics.getChannelzTcpInfo(new io.netty.channel.embedded.EmbeddedChannel()));
   }
 
   @Test
@@ -338,6 +421,9 @@ public class TcpMetricsTest {
       info.totalRetrans = infoToCopy.totalRetrans;
       info.retransmits = infoToCopy.retransmits;
       info.rtt = infoToCopy.rtt;
+      info.rttvar = infoToCopy.rttvar;
+      info.sndCwnd = infoToCopy.sndCwnd;
+      info.unacked = infoToCopy.unacked;
     }
   }
 
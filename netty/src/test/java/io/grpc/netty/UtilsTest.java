@@ -20,12 +20,14 @@ import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.TruthJUnit.assume;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
 import com.google.common.base.MoreObjects;
 import io.grpc.InternalChannelz;
 import io.grpc.InternalChannelz.SocketOptions;
+import io.grpc.InternalStatus;
 import io.grpc.Metadata;
 import io.grpc.Status;
 import io.grpc.internal.GrpcUtil;
@@ -151,6 +153,47 @@ public class UtilsTest {
     assertEquals(Utils.CONTENT_TYPE_GRPC, headers.get(GrpcUtil.CONTENT_TYPE_KEY.name()));
   }
 
+  @Test
+  @SuppressWarnings("UndefinedEquals") // AsciiString.equals
+  public void convertTrailers_statusOnlyIsShared() {
+    Metadata first = new Metadata();
+    first.put(InternalStatus.CODE_KEY, Status.OK);
+    Metadata second = new Metadata();
+    second.put(InternalStatus.CODE_KEY, Status.OK);
+
+    Http2Headers trailers = Utils.convertTrailers(first, true);
+    assertSame(trailers, Utils.convertTrailers(second, true));
+    DefaultHttp2Headers copy = copyOf(trailers);
+    assertEquals(1, copy.size());
+    assertEquals(AsciiString.of("0"), copy.get(InternalStatus.CODE_KEY.name()));
+
+    Http2Headers trailersOnly = Utils.convertTrailers(first, false);
+    copy = copyOf(trailersOnly);
+    assertEquals(3, copy.size());
+    assertEquals(Utils.STATUS_OK, trailersOnly.status());
+    assertEquals(Utils.CONTENT_TYPE_GRPC, copy.get(GrpcUtil.CONTENT_TYPE_KEY.name()));
+    assertEquals(AsciiString.of("0"), copy.get(InternalStatus.CODE_KEY.name()));
+  }
+
+  @Test
+  public void convertTrailers_withOtherEntriesNotShared() {
+    Metadata trailers = new Metadata();
+    trailers.put(InternalStatus.CODE_KEY, Status.INTERNAL);
+    trailers.put(userKey, userValue);
+
+    Http2Headers first = Utils.convertTrailers(trailers, true);
+    assertNotSame(first, Utils.convertTrailers(trailers, true));
+    assertEquals(2, first.size());
+  }
+
+  private static DefaultHttp2Headers copyOf(Http2Headers input) {
+    DefaultHttp2Headers headers = new DefaultHttp2Headers();
+    for (Map.Entry<CharSequence, CharSequence> entry : input) {
+      headers.add(entry.getKey(), entry.getValue());
+    }
+    return headers;
+  }
+
   @Test
   public void channelOptionsTest_noLinger() {
     Channel channel = new EmbeddedChannel();
@@ -37,13 +37,19 @@ import okio.Timeout;
 
 /**
  * A sink that asynchronously write / flushes a buffer internally. AsyncSink provides flush
- * coalescing to minimize network packing transmit. Because I/O is handled asynchronously, most I/O
- * exceptions will be delivered via a callback.
+ * coalescing to minimize network packing transmit. A pending write is folded into a flush that is
+ * queued behind it, so the sink sees a single write per flush. Because I/O is handled
+ * asynchronously, most I/O exceptions will be delivered via a callback.
  */
 final class AsyncSink implements Sink {
 
   private final Object lock = new Object();
   private final Buffer buffer = new Buffer();
+  /**
+   * Staging buffer used to move bytes out of {@link #buffer} before writing them to the sink. Only
+   * accessed from the serializing executor, so it is reused across writes and flushes.
+   */
+  private final Buffer writeBuffer = new Buffer();
   private final SerializingExecutor serializingExecutor;
   private final TransportExceptionHandler transportExceptionHandler;
   private final int maxQueuedControlFrames;
@@ -130,13 +136,18 @@ final class AsyncSink implements Sink {
         final Link link = PerfMark.linkOut();
         @Override
         public void doRun() throws IOException {
-          Buffer buf = new Buffer();
+          Buffer buf = writeBuffer;
           try (TaskCloseable ignore = PerfMark.traceTask("WriteRunnable.runWrite")) {
             PerfMark.linkIn(link);
             int writingControlFrames;
             synchronized (lock) {
-              buf.write(buffer, buffer.completeSegmentByteCount());
               writeEnqueued = false;
+              if (flushEnqueued) {
+                // A flush queued behind us will write everything in a single call to the sink, so
+                // there is no need for a separate, partial write here.
+                return;
+              }
+              buf.write(buffer, buffer.completeSegmentByteCount());
               // Imprecise because we only tranfer complete segments, but not by much and error
               // won't accumulate over time
               writingControlFrames = queuedControlFrames;
@@ -167,15 +178,20 @@ final class AsyncSink implements Sink {
         final Link link = PerfMark.linkOut();
         @Override
         public void doRun() throws IOException {
-          Buffer buf = new Buffer();
+          Buffer buf = writeBuffer;
           try (TaskCloseable ignore = PerfMark.traceTask("WriteRunnable.runFlush")) {
             PerfMark.linkIn(link);
+            int writingControlFrames;
             synchronized (lock) {
               buf.write(buffer, buffer.size());
               flushEnqueued = false;
+              writingControlFrames = queuedControlFrames;
             }
             sink.write(buf, buf.size());
             sink.flush();
+            synchronized (lock) {
+              queuedControlFrames -= writingControlFrames;
+            }
           }
         }
       });
@@ -204,6 +220,7 @@ final class AsyncSink implements Sink {
           transportExceptionHandler.onException(e);
         }
         buffer.close();
+        writeBuffer.clear();
         try {
           if (sink != null) {
             sink.close();
@@ -231,6 +248,8 @@ final class AsyncSink implements Sink {
         }
         doRun();
       } catch (Exception e) {
+        // Don't let a failed write leak stale bytes into the next one.
+        writeBuffer.clear();
         transportExceptionHandler.onException(e);
       }
     }
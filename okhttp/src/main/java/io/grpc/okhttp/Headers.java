@@ -17,8 +17,11 @@
 package io.grpc.okhttp;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import io.grpc.InternalMetadata;
+import io.grpc.InternalStatus;
 import io.grpc.Metadata;
+import io.grpc.Status;
 import io.grpc.internal.GrpcUtil;
 import io.grpc.internal.TransportFrameUtil;
 import io.grpc.okhttp.internal.framed.Header;
@@ -39,6 +42,23 @@ class Headers {
       new Header(GrpcUtil.CONTENT_TYPE_KEY.name(), GrpcUtil.CONTENT_TYPE_GRPC);
   public static final Header TE_HEADER = new Header("te", GrpcUtil.TE_TRAILERS);
 
+  private static final List<List<Header>> STATUS_ONLY_TRAILERS;
+  private static final List<List<Header>> STATUS_ONLY_RESPONSE_HEADERS;
+
+  static {
+    ImmutableList.Builder<List<Header>> trailers = ImmutableList.builder();
+    ImmutableList.Builder<List<Header>> responseHeaders = ImmutableList.builder();
+    for (Status.Code code : Status.Code.values()) {
+      Header status =
+          new Header(InternalStatus.CODE_KEY.name(), Integer.toString(code.value()));
+      trailers.add(ImmutableList.of(status));
+      responseHeaders.add(ImmutableList.of(
+          new Header(Header.RESPONSE_STATUS, "200"), CONTENT_TYPE_HEADER, status));
+    }
+    STATUS_ONLY_TRAILERS = trailers.build();
+    STATUS_ONLY_RESPONSE_HEADERS = responseHeaders.build();
+  }
+
   /**
    * Serializes the given headers and creates a list of OkHttp {@link Header}s to be used when
    * creating a stream. Since this serializes the headers, this method should be called in the
@@ -117,6 +137,15 @@ class Headers {
     return addMetadata(okhttpTrailers, trailers);
   }
 
+  /**
+   * Returns the trailers for a call closed with {@code status} when no other trailers were added.
+   * The lists are precomputed per status code and must not be modified.
+   */
+  public static List<Header> createStatusOnlyTrailers(Status status, boolean headersSent) {
+    int code = status.getCode().value();
+    return headersSent ? STATUS_ONLY_TRAILERS.get(code) : STATUS_ONLY_RESPONSE_HEADERS.get(code);
+  }
+
   /**
    * Serializes the given headers and creates a list of OkHttp {@link Header}s to be used when
    * failing with an HTTP response.
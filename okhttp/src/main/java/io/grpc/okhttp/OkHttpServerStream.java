@@ -113,7 +113,9 @@ class OkHttpServerStream extends AbstractServerStream {
     public void writeTrailers(Metadata trailers, boolean headersSent, Status status) {
       try (TaskCloseable ignore =
                PerfMark.traceTask("OkHttpServerStream$Sink.writeTrailers")) {
-        List<Header> responseTrailers = Headers.createResponseTrailers(trailers, headersSent);
+        List<Header> responseTrailers = AbstractServerStream.isStatusOnlyTrailers(trailers, status)
+            ? Headers.createStatusOnlyTrailers(status, headersSent)
+            : Headers.createResponseTrailers(trailers, headersSent);
         synchronized (state.lock) {
           state.sendTrailers(responseTrailers);
         }
@@ -244,6 +244,25 @@ public class AsyncSinkTest {
     verify(mockedSink).flush();
   }
 
+  @Test
+  public void write_coalescedIntoQueuedFlush() throws IOException {
+    Buffer buffer = new Buffer();
+    sink.becomeConnected(mockedSink, socket);
+    int payloadSize = 8192 * 2 + 10;
+    buffer.write(new byte[payloadSize]);
+
+    // The write schedules a partial write of complete segments, but the flush queued behind it
+    // should send everything at once.
+    sink.write(buffer, buffer.size());
+    sink.flush();
+    queueingExecutor.runAll();
+
+    InOrder inOrder = inOrder(mockedSink);
+    inOrder.verify(mockedSink).write(any(Buffer.class), eq((long) payloadSize));
+    inOrder.verify(mockedSink).flush();
+    verify(mockedSink).write(any(Buffer.class), anyLong());
+  }
+
   @Test
   public void writeAndFlush_beforeConnected() throws IOException {
     Buffer buffer = new Buffer();
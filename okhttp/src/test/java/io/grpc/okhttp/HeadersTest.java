@@ -19,7 +19,9 @@ package io.grpc.okhttp;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertEquals;
 
+import io.grpc.InternalStatus;
 import io.grpc.Metadata;
+import io.grpc.Status;
 import io.grpc.internal.GrpcUtil;
 import io.grpc.okhttp.internal.framed.Header;
 import java.util.List;
@@ -66,4 +68,17 @@ public class HeadersTest {
     // Check the user header is in tact
     assertThat(headers).contains(new Header(userKey.name(), userValue));
   }
+
+  @Test
+  public void createStatusOnlyTrailers_matchesSerializedTrailers() {
+    Metadata trailers = new Metadata();
+    trailers.put(InternalStatus.CODE_KEY, Status.UNAVAILABLE);
+
+    assertEquals(
+        Headers.createResponseTrailers(trailers, true),
+        Headers.createStatusOnlyTrailers(Status.UNAVAILABLE, true));
+    assertEquals(
+        Headers.createResponseTrailers(trailers, false),
+        Headers.createStatusOnlyTrailers(Status.UNAVAILABLE, false));
+  }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.opentelemetry;
+
+import io.grpc.DoubleHistogramMetricInstrument;
+import io.grpc.opentelemetry.internal.OpenTelemetryConstants;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Cost of recording a histogram value through {@link OpenTelemetryMetricSink} from many threads,
+ * as done by load balancers and xDS for each pick or RPC.
+ */
+@State(Scope.Benchmark)
+public class MetricSinkBenchmark {
+  private static final DoubleHistogramMetricInstrument HISTOGRAM =
+      new DoubleHistogramMetricInstrument(0, "grpc.lb.wrr.test_latency", "Test latency", "s",
+          Collections.<Double>emptyList(), Arrays.asList("grpc.target", "grpc.lb.locality"),
+          Collections.<String>emptyList(), true);
+  private static final List<String> LABEL_VALUES =
+      Arrays.asList("dns:///foo.googleapis.com", "us-central1-a");
+
+  private SdkMeterProvider meterProvider;
+  private OpenTelemetryMetricSink sink;
+
+  @Setup
+  public void setUp() {
+    meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(InMemoryMetricReader.create()).build();
+    sink = new OpenTelemetryMetricSink(
+        meterProvider.get(OpenTelemetryConstants.INSTRUMENTATION_SCOPE),
+        Collections.<String, Boolean>emptyMap(), false, Collections.<String>emptyList());
+    sink.updateMeasures(Collections.singletonList(HISTOGRAM));
+  }
+
+  @TearDown
+  public void tearDown() {
+    meterProvider.close();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Threads(32)
+  public void recordDoubleHistogram() {
+    sink.recordDoubleHistogram(HISTOGRAM, 0.001, LABEL_VALUES, Collections.<String>emptyList());
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.opentelemetry;
+
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+import io.grpc.ClientStreamTracer;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerStreamTracer;
+import io.grpc.Status;
+import io.grpc.internal.GrpcUtil;
+import io.grpc.opentelemetry.internal.OpenTelemetryConstants;
+import io.grpc.testing.TestMethodDescriptors;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Per-RPC overhead of the stream tracers of {@link OpenTelemetryMetricsModule}, recording into the
+ * OpenTelemetry SDK with an in-memory reader.
+ */
+@State(Scope.Benchmark)
+public class MetricsTracingBenchmark {
+  private static final String TARGET = "dns:///foo.googleapis.com";
+  private static final ClientStreamTracer.StreamInfo STREAM_INFO =
+      ClientStreamTracer.StreamInfo.newBuilder().setCallOptions(CallOptions.DEFAULT).build();
+
+  private final MethodDescriptor<Void, Void> method =
+      TestMethodDescriptors.voidMethod().toBuilder().setSampledToLocalTracing(true).build();
+  private final ServerStreamTracer.ServerCallInfo<Void, Void> serverCallInfo =
+      new ServerStreamTracer.ServerCallInfo<Void, Void>() {
+        @Override
+        public MethodDescriptor<Void, Void> getMethodDescriptor() {
+          return method;
+        }
+
+        @Override
+        public Attributes getAttributes() {
+          return Attributes.EMPTY;
+        }
+
+        @Override
+        public String getAuthority() {
+          return "foo.googleapis.com";
+        }
+      };
+  private SdkMeterProvider meterProvider;
+  private OpenTelemetryMetricsModule module;
+  private ServerStreamTracer.Factory serverTracerFactory;
+
+  @Setup
+  public void setUp() {
+    meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(InMemoryMetricReader.create()).build();
+    OpenTelemetryMetricsResource resource = GrpcOpenTelemetry.createMetricInstruments(
+        meterProvider.get(OpenTelemetryConstants.INSTRUMENTATION_SCOPE),
+        Collections.<String, Boolean>emptyMap(), false);
+    module = new OpenTelemetryMetricsModule(
+        GrpcUtil.STOPWATCH_SUPPLIER, resource, Collections.<String>emptyList(),
+        Collections.<OpenTelemetryPlugin>emptyList());
+    serverTracerFactory = module.getServerTracerFactory();
+  }
+
+  @TearDown
+  public void tearDown() {
+    meterProvider.close();
+  }
+
+  /** A unary call with a single attempt, as seen by the client. */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void clientCall() {
+    OpenTelemetryMetricsModule.CallAttemptsTracerFactory tracerFactory =
+        new OpenTelemetryMetricsModule.CallAttemptsTracerFactory(
+            module, TARGET, CallOptions.DEFAULT, method.getFullMethodName(),
+            Collections.<OpenTelemetryPlugin.ClientCallPlugin>emptyList(), Context.root());
+    ClientStreamTracer tracer = tracerFactory.newClientStreamTracer(STREAM_INFO, new Metadata());
+    tracer.outboundWireSize(100);
+    tracer.inboundWireSize(100);
+    tracer.streamClosed(Status.OK);
+    tracerFactory.callEnded(Status.OK, CallOptions.DEFAULT);
+  }
+
+  /** A unary call, as seen by the server. */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void serverCall() {
+    ServerStreamTracer tracer =
+        serverTracerFactory.newServerStreamTracer(method.getFullMethodName(), new Metadata());
+    tracer.serverCallStarted(serverCallInfo);
+    tracer.outboundWireSize(100);
+    tracer.inboundWireSize(100);
+    tracer.streamClosed(Status.OK);
+  }
+}
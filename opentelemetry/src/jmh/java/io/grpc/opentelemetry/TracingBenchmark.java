@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.opentelemetry;
+
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+import io.grpc.ClientStreamTracer;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.testing.TestMethodDescriptors;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Per-RPC overhead of the client tracers of {@link OpenTelemetryTracingModule}, with every call
+ * either sampled or not sampled.
+ */
+@State(Scope.Benchmark)
+public class TracingBenchmark {
+  private static final ClientStreamTracer.StreamInfo STREAM_INFO =
+      ClientStreamTracer.StreamInfo.newBuilder().setCallOptions(CallOptions.DEFAULT).build();
+
+  @Param({"true", "false"})
+  public boolean sampled;
+
+  private final MethodDescriptor<Void, Void> method = TestMethodDescriptors.voidMethod();
+  private SdkTracerProvider tracerProvider;
+  private OpenTelemetryTracingModule module;
+
+  @Setup
+  public void setUp() {
+    tracerProvider = SdkTracerProvider.builder()
+        .setSampler(sampled ? Sampler.alwaysOn() : Sampler.alwaysOff())
+        .build();
+    module = new OpenTelemetryTracingModule(OpenTelemetrySdk.builder()
+        .setTracerProvider(tracerProvider)
+        .setPropagators(
+            ContextPropagators.create(GrpcTraceBinContextPropagator.defaultInstance()))
+        .build());
+  }
+
+  @TearDown
+  public void tearDown() {
+    tracerProvider.close();
+  }
+
+  /** A unary call with a single attempt, as seen by the client. */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Metadata clientCall() {
+    Span clientSpan = module.getTracer().spanBuilder("Sent.benchmark").startSpan();
+    OpenTelemetryTracingModule.CallAttemptsTracerFactory tracerFactory =
+        module.newClientCallTracer(clientSpan, method);
+    Metadata headers = new Metadata();
+    ClientStreamTracer tracer = tracerFactory.newClientStreamTracer(STREAM_INFO, headers);
+    tracer.streamCreated(Attributes.EMPTY, headers);
+    tracer.outboundMessageSent(0, 100, 100);
+    tracer.inboundMessageRead(0, 100, 100);
+    tracer.inboundUncompressedSize(100);
+    tracer.streamClosed(Status.OK);
+    tracerFactory.callEnded(Status.OK);
+    return headers;
+  }
+}
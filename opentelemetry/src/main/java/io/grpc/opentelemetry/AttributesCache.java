@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.opentelemetry;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.opentelemetry.api.common.Attributes;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+
+/**
+ * Caches the attributes of recorded values by their label values, since the same few label values
+ * are recorded over and over. The cache is bounded, since label values such as targets and custom
+ * labels may have arbitrarily many values. Attributes beyond the limit are built for every use
+ * instead.
+ */
+final class AttributesCache {
+  @VisibleForTesting
+  static final int MAX_SIZE = 1000;
+
+  private final ConcurrentMap<List<?>, Attributes> cache = new ConcurrentHashMap<>();
+
+  @Nullable
+  Attributes get(List<?> labelValues) {
+    return cache.get(labelValues);
+  }
+
+  /**
+   * Caches the attributes for the label values, unless the cache is full. The label values must
+   * not change afterwards.
+   */
+  void put(List<?> labelValues, Attributes attributes) {
+    if (cache.size() < MAX_SIZE) {
+      cache.putIfAbsent(labelValues, attributes);
+    }
+  }
+}
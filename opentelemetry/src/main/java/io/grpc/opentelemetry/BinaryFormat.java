@@ -96,14 +96,24 @@ final class BinaryFormat implements Metadata.BinaryMarshaller<SpanContext> {
     byte[] bytes = new byte[ALL_FORMAT_LENGTH];
     bytes[VERSION_ID_OFFSET] = VERSION_ID;
     bytes[TRACE_ID_FIELD_ID_OFFSET] = TRACE_ID_FIELD_ID;
-    System.arraycopy(spanContext.getTraceIdBytes(), 0, bytes, TRACE_ID_OFFSET, TRACE_ID_SIZE);
+    decodeHex(spanContext.getTraceId(), bytes, TRACE_ID_OFFSET);
     bytes[SPAN_ID_FIELD_ID_OFFSET] = SPAN_ID_FIELD_ID;
-    System.arraycopy(spanContext.getSpanIdBytes(), 0, bytes, SPAN_ID_OFFSET, SPAN_ID_SIZE);
+    decodeHex(spanContext.getSpanId(), bytes, SPAN_ID_OFFSET);
     bytes[TRACE_FLAG_FIELD_ID_OFFSET] = TRACE_FLAG_FIELD_ID;
     bytes[TRACE_FLAG_OFFSET] = spanContext.getTraceFlags().asByte();
     return bytes;
   }
 
+  /**
+   * Decodes the lowercase hex {@code id} into {@code dest} at {@code destOffset}. This is what
+   * {@link SpanContext#getTraceIdBytes} does, minus the temporary array for each ID.
+   */
+  private static void decodeHex(String id, byte[] dest, int destOffset) {
+    for (int i = 0; i < id.length(); i += 2) {
+      dest[destOffset + i / 2] =
+          (byte) ((Character.digit(id.charAt(i), 16) << 4) | Character.digit(id.charAt(i + 1), 16));
+    }
+  }
 
   @Override
   public SpanContext parseBytes(byte[] serialized) {
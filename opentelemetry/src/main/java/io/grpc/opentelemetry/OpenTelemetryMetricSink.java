@@ -42,6 +42,7 @@ import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import io.opentelemetry.api.metrics.ObservableMeasurement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
@@ -97,9 +98,8 @@ final class OpenTelemetryMetricSink implements MetricSink {
       // Disabled metric
       return;
     }
-    Attributes attributes = createAttributes(metricInstrument.getRequiredLabelKeys(),
-        metricInstrument.getOptionalLabelKeys(), requiredLabelValues, optionalLabelValues,
-        instrumentData.getOptionalLabelsBitSet());
+    Attributes attributes = getAttributes(metricInstrument, instrumentData, requiredLabelValues,
+        optionalLabelValues);
     DoubleCounter counter = (DoubleCounter) instrumentData.getMeasure();
     counter.add(value, attributes);
   }
@@ -112,9 +112,8 @@ final class OpenTelemetryMetricSink implements MetricSink {
       // Disabled metric
       return;
     }
-    Attributes attributes = createAttributes(metricInstrument.getRequiredLabelKeys(),
-        metricInstrument.getOptionalLabelKeys(), requiredLabelValues, optionalLabelValues,
-        instrumentData.getOptionalLabelsBitSet());
+    Attributes attributes = getAttributes(metricInstrument, instrumentData, requiredLabelValues,
+        optionalLabelValues);
     LongCounter counter = (LongCounter) instrumentData.getMeasure();
     counter.add(value, attributes);
   }
@@ -128,9 +127,8 @@ final class OpenTelemetryMetricSink implements MetricSink {
       // Disabled metric
       return;
     }
-    Attributes attributes = createAttributes(metricInstrument.getRequiredLabelKeys(),
-        metricInstrument.getOptionalLabelKeys(), requiredLabelValues, optionalLabelValues,
-        instrumentData.getOptionalLabelsBitSet());
+    Attributes attributes = getAttributes(metricInstrument, instrumentData, requiredLabelValues,
+        optionalLabelValues);
     LongUpDownCounter counter = (LongUpDownCounter) instrumentData.getMeasure();
     counter.add(value, attributes);
   }
@@ -143,9 +141,8 @@ final class OpenTelemetryMetricSink implements MetricSink {
       // Disabled metric
       return;
     }
-    Attributes attributes = createAttributes(metricInstrument.getRequiredLabelKeys(),
-        metricInstrument.getOptionalLabelKeys(), requiredLabelValues, optionalLabelValues,
-        instrumentData.getOptionalLabelsBitSet());
+    Attributes attributes = getAttributes(metricInstrument, instrumentData, requiredLabelValues,
+        optionalLabelValues);
     DoubleHistogram histogram = (DoubleHistogram) instrumentData.getMeasure();
     histogram.record(value, attributes);
   }
@@ -158,9 +155,8 @@ final class OpenTelemetryMetricSink implements MetricSink {
       // Disabled metric
       return;
     }
-    Attributes attributes = createAttributes(metricInstrument.getRequiredLabelKeys(),
-        metricInstrument.getOptionalLabelKeys(), requiredLabelValues, optionalLabelValues,
-        instrumentData.getOptionalLabelsBitSet());
+    Attributes attributes = getAttributes(metricInstrument, instrumentData, requiredLabelValues,
+        optionalLabelValues);
     LongHistogram histogram = (LongHistogram) instrumentData.getMeasure();
     histogram.record(value, attributes);
   }
@@ -173,9 +169,8 @@ final class OpenTelemetryMetricSink implements MetricSink {
       // Disabled metric
       return;
     }
-    Attributes attributes = createAttributes(metricInstrument.getRequiredLabelKeys(),
-        metricInstrument.getOptionalLabelKeys(), requiredLabelValues, optionalLabelValues,
-        instrumentData.getOptionalLabelsBitSet());
+    Attributes attributes = getAttributes(metricInstrument, instrumentData, requiredLabelValues,
+        optionalLabelValues);
     ObservableLongMeasurement gauge = (ObservableLongMeasurement) instrumentData.getMeasure();
     gauge.record(value, attributes);
   }
@@ -299,6 +294,28 @@ final class OpenTelemetryMetricSink implements MetricSink {
   }
 
 
+  /**
+   * Returns the attributes for the label values. Components record the same few label values
+   * over and over, so the attributes are cached per instrument instead of being built and sorted
+   * for every recorded value.
+   */
+  private Attributes getAttributes(MetricInstrument metricInstrument, MeasuresData instrumentData,
+      List<String> requiredLabelValues, List<String> optionalLabelValues) {
+    Attributes attributes =
+        instrumentData.attributesCache.get(Arrays.asList(requiredLabelValues, optionalLabelValues));
+    if (attributes != null) {
+      return attributes;
+    }
+    attributes = createAttributes(metricInstrument.getRequiredLabelKeys(),
+        metricInstrument.getOptionalLabelKeys(), requiredLabelValues, optionalLabelValues,
+        instrumentData.getOptionalLabelsBitSet());
+    // Copy the lists, since callers are free to reuse them.
+    instrumentData.attributesCache.put(
+        Arrays.asList(new ArrayList<>(requiredLabelValues), new ArrayList<>(optionalLabelValues)),
+        attributes);
+    return attributes;
+  }
+
   private Attributes createAttributes(List<String> requiredLabelKeys,
       List<String> optionalLabelKeys,
       List<String> requiredLabelValues, List<String> optionalLabelValues, BitSet bitSet) {
@@ -320,6 +337,7 @@ final class OpenTelemetryMetricSink implements MetricSink {
   static final class MeasuresData {
     final BitSet optionalLabelsIndices;
     final Object measure;
+    final AttributesCache attributesCache = new AttributesCache();
 
     MeasuresData(BitSet optionalLabelsIndices, Object measure) {
       this.optionalLabelsIndices = optionalLabelsIndices;
@@ -52,6 +52,7 @@ import io.opentelemetry.api.baggage.Baggage;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -105,6 +106,7 @@ final class OpenTelemetryMetricsModule {
   private final ImmutableList<OpenTelemetryPlugin> plugins;
   @Nullable
   private final TargetFilter targetAttributeFilter;
+  private final AttributesCache attributesCache = new AttributesCache();
 
   OpenTelemetryMetricsModule(Supplier<Stopwatch> stopwatchSupplier,
                              OpenTelemetryMetricsResource resource,
@@ -163,6 +165,38 @@ final class OpenTelemetryMetricsModule {
     return isGeneratedMethod ? fullMethodName : "other";
   }
 
+  /**
+   * Returns the attributes with the given values, omitting null ones. Every RPC records the same
+   * few combinations, so they are cached instead of being built and sorted again each time.
+   */
+  @VisibleForTesting
+  io.opentelemetry.api.common.Attributes getAttributes(
+      String method, @Nullable String target, @Nullable String status,
+      @Nullable String locality, @Nullable String backendService, @Nullable String customLabel) {
+    List<String> key =
+        Arrays.asList(method, target, status, locality, backendService, customLabel);
+    io.opentelemetry.api.common.Attributes attributes = attributesCache.get(key);
+    if (attributes != null) {
+      return attributes;
+    }
+    // AttributesBuilder ignores null values.
+    attributes = io.opentelemetry.api.common.Attributes.builder()
+        .put(METHOD_KEY, method)
+        .put(TARGET_KEY, target)
+        .put(STATUS_KEY, status)
+        .put(LOCALITY_KEY, locality)
+        .put(BACKEND_SERVICE_KEY, backendService)
+        .put(CUSTOM_LABEL_KEY, customLabel)
+        .build();
+    attributesCache.put(key, attributes);
+    return attributes;
+  }
+
+  @Nullable
+  private String customLabel(CallOptions callOptions) {
+    return customLabelEnabled ? callOptions.getOption(Grpc.CALL_OPTION_CUSTOM_LABEL) : null;
+  }
+
   private static final class ClientTracer extends ClientStreamTracer {
     @Nullable private static final AtomicLongFieldUpdater<ClientTracer> outboundWireSizeUpdater;
     @Nullable private static final AtomicLongFieldUpdater<ClientTracer> inboundWireSizeUpdater;
@@ -278,32 +312,30 @@ final class OpenTelemetryMetricsModule {
     }
 
     void recordFinishedAttempt() {
-      AttributesBuilder builder = io.opentelemetry.api.common.Attributes.builder()
-          .put(METHOD_KEY, fullMethodName)
-          .put(TARGET_KEY, target)
-          .put(STATUS_KEY, statusCode.toString());
+      String savedLocality = null;
       if (module.localityEnabled) {
-        String savedLocality = locality;
+        savedLocality = locality;
         if (savedLocality == null) {
           savedLocality = "";
         }
-        builder.put(LOCALITY_KEY, savedLocality);
       }
+      String savedBackendService = null;
       if (module.backendServiceEnabled) {
-        String savedBackendService = backendService;
+        savedBackendService = backendService;
         if (savedBackendService == null) {
           savedBackendService = "";
         }
-        builder.put(BACKEND_SERVICE_KEY, savedBackendService);
       }
-      if (module.customLabelEnabled) {
-        builder.put(
-            CUSTOM_LABEL_KEY, info.getCallOptions().getOption(Grpc.CALL_OPTION_CUSTOM_LABEL));
-      }
-      for (OpenTelemetryPlugin.ClientStreamPlugin plugin : streamPlugins) {
-        plugin.addLabels(builder);
+      io.opentelemetry.api.common.Attributes attribute = module.getAttributes(
+          fullMethodName, target, statusCode.toString(), savedLocality, savedBackendService,
+          module.customLabel(info.getCallOptions()));
+      if (!streamPlugins.isEmpty()) {
+        AttributesBuilder builder = attribute.toBuilder();
+        for (OpenTelemetryPlugin.ClientStreamPlugin plugin : streamPlugins) {
+          plugin.addLabels(builder);
+        }
+        attribute = builder.build();
       }
-      io.opentelemetry.api.common.Attributes attribute = builder.build();
 
       if (module.resource.clientAttemptDurationCounter() != null ) {
         module.resource.clientAttemptDurationCounter()
@@ -357,14 +389,8 @@ final class OpenTelemetryMetricsModule {
       this.attemptDelayStopwatch = module.stopwatchSupplier.get();
       this.callStopWatch = module.stopwatchSupplier.get().start();
 
-      AttributesBuilder builder = io.opentelemetry.api.common.Attributes.builder()
-          .put(METHOD_KEY, fullMethodName)
-          .put(TARGET_KEY, target);
-      if (module.customLabelEnabled) {
-        builder.put(
-            CUSTOM_LABEL_KEY, callOptions.getOption(Grpc.CALL_OPTION_CUSTOM_LABEL));
-      }
-      io.opentelemetry.api.common.Attributes attribute = builder.build();
+      io.opentelemetry.api.common.Attributes attribute = module.getAttributes(
+          fullMethodName, target, null, null, null, module.customLabel(callOptions));
 
       // Record here in case mewClientStreamTracer() would never be called.
       if (module.resource.clientAttemptCountCounter() != null) {
@@ -388,14 +414,8 @@ final class OpenTelemetryMetricsModule {
       // CallAttemptsTracerFactory constructor. attemptsPerCall will be non-zero after the first
       // attempt, as first attempt cannot be a transparent retry.
       if (attemptsPerCall.get() > 0) {
-        AttributesBuilder builder = io.opentelemetry.api.common.Attributes.builder()
-            .put(METHOD_KEY, fullMethodName)
-            .put(TARGET_KEY, target);
-        if (module.customLabelEnabled) {
-          builder.put(
-              CUSTOM_LABEL_KEY, info.getCallOptions().getOption(Grpc.CALL_OPTION_CUSTOM_LABEL));
-        }
-        io.opentelemetry.api.common.Attributes attribute = builder.build();
+        io.opentelemetry.api.common.Attributes attribute = module.getAttributes(
+            fullMethodName, target, null, null, null, module.customLabel(info.getCallOptions()));
         if (module.resource.clientAttemptCountCounter() != null) {
           module.resource.clientAttemptCountCounter().add(1, attribute, otelContext);
         }
@@ -469,21 +489,16 @@ final class OpenTelemetryMetricsModule {
       callLatencyNanos = callStopWatch.elapsed(TimeUnit.NANOSECONDS);
 
       // Base attributes
-      AttributesBuilder builder = io.opentelemetry.api.common.Attributes.builder()
-          .put(METHOD_KEY, fullMethodName)
-          .put(TARGET_KEY, target);
-      if (module.customLabelEnabled) {
-        builder.put(CUSTOM_LABEL_KEY, callOptions.getOption(Grpc.CALL_OPTION_CUSTOM_LABEL));
-      }
-      io.opentelemetry.api.common.Attributes baseAttributes = builder.build();
+      String customLabel = module.customLabel(callOptions);
+      io.opentelemetry.api.common.Attributes baseAttributes =
+          module.getAttributes(fullMethodName, target, null, null, null, customLabel);
 
       // Duration
       if (module.resource.clientCallDurationCounter() != null) {
         module.resource.clientCallDurationCounter().record(
             callLatencyNanos * SECONDS_PER_NANO,
-            baseAttributes.toBuilder()
-                .put(STATUS_KEY, status.getCode().toString())
-                .build(),
+            module.getAttributes(
+                fullMethodName, target, status.getCode().toString(), null, null, customLabel),
             otelContext
         );
       }
@@ -595,9 +610,8 @@ final class OpenTelemetryMetricsModule {
       boolean isSampledToLocalTracing = callInfo.getMethodDescriptor().isSampledToLocalTracing();
       isGeneratedMethod = isSampledToLocalTracing;
 
-      io.opentelemetry.api.common.Attributes attribute =
-          io.opentelemetry.api.common.Attributes.of(
-              METHOD_KEY, recordMethodName(fullMethodName, isSampledToLocalTracing));
+      io.opentelemetry.api.common.Attributes attribute = module.getAttributes(
+          recordMethodName(fullMethodName, isSampledToLocalTracing), null, null, null, null, null);
 
       if (module.resource.serverCallCountCounter() != null) {
         module.resource.serverCallCountCounter().add(1, attribute, otelContext);
@@ -644,13 +658,16 @@ final class OpenTelemetryMetricsModule {
       }
       stopwatch.stop();
       long elapsedTimeNanos = stopwatch.elapsed(TimeUnit.NANOSECONDS);
-      AttributesBuilder builder = io.opentelemetry.api.common.Attributes.builder()
-          .put(METHOD_KEY, recordMethodName(fullMethodName, isGeneratedMethod))
-          .put(STATUS_KEY, status.getCode().toString());
-      for (OpenTelemetryPlugin.ServerStreamPlugin plugin : streamPlugins) {
-        plugin.addLabels(builder);
+      io.opentelemetry.api.common.Attributes attributes = module.getAttributes(
+          recordMethodName(fullMethodName, isGeneratedMethod), null, status.getCode().toString(),
+          null, null, null);
+      if (!streamPlugins.isEmpty()) {
+        AttributesBuilder builder = attributes.toBuilder();
+        for (OpenTelemetryPlugin.ServerStreamPlugin plugin : streamPlugins) {
+          plugin.addLabels(builder);
+        }
+        attributes = builder.build();
       }
-      io.opentelemetry.api.common.Attributes attributes = builder.build();
 
       if (module.resource.serverCallDurationCounter() != null) {
         module.resource.serverCallDurationCounter()
@@ -744,4 +761,3 @@ final class OpenTelemetryMetricsModule {
     }
   }
 }
-
@@ -156,11 +156,14 @@ final class OpenTelemetryTracingModule {
               "Attempt." + fullMethodName.replace('/', '.'))
           .setParent(Context.current().with(clientSpan))
           .startSpan();
-      attemptSpan.setAttribute(
-          "previous-rpc-attempts", info.getPreviousAttempts());
-      attemptSpan.setAttribute(
-          "transparent-retry",info.isTransparentRetry());
-      if (info.getCallOptions().getOption(NAME_RESOLUTION_DELAYED) != null) {
+      if (attemptSpan.isRecording()) {
+        attemptSpan.setAttribute(
+            "previous-rpc-attempts", info.getPreviousAttempts());
+        attemptSpan.setAttribute(
+            "transparent-retry",info.isTransparentRetry());
+      }
+      if (clientSpan.isRecording()
+          && info.getCallOptions().getOption(NAME_RESOLUTION_DELAYED) != null) {
         clientSpan.addEvent("Delayed name resolution complete");
       }
       return new ClientTracer(attemptSpan, clientSpan);
@@ -453,8 +456,13 @@ final class OpenTelemetryTracingModule {
   // Receiving:
   // |-- Event 'Inbound message received', attributes('sequence-numer' = 0,
   //                                                  'message-size' = 7854) ----|
+  //
+  // Spans that are not sampled drop events, so the attributes aren't even built for them.
   private void recordOutboundMessageSentEvent(Span span,
       int seqNo, long optionalWireSize, long optionalUncompressedSize) {
+    if (!span.isRecording()) {
+      return;
+    }
     AttributesBuilder attributesBuilder = io.opentelemetry.api.common.Attributes.builder();
     attributesBuilder.put("sequence-number", seqNo);
     if (optionalUncompressedSize != -1) {
@@ -467,6 +475,9 @@ final class OpenTelemetryTracingModule {
   }
 
   private void recordInboundCompressedMessage(Span span, int seqNo, long optionalWireSize) {
+    if (!span.isRecording()) {
+      return;
+    }
     AttributesBuilder attributesBuilder = io.opentelemetry.api.common.Attributes.builder();
     attributesBuilder.put("sequence-number", seqNo);
     attributesBuilder.put("message-size-compressed", optionalWireSize);
@@ -474,6 +485,9 @@ final class OpenTelemetryTracingModule {
   }
 
   private void recordInboundMessageSize(Span span, int seqNo, long bytes) {
+    if (!span.isRecording()) {
+      return;
+    }
     AttributesBuilder attributesBuilder = io.opentelemetry.api.common.Attributes.builder();
     attributesBuilder.put("sequence-number", seqNo);
     attributesBuilder.put("message-size", bytes);
@@ -481,6 +495,11 @@ final class OpenTelemetryTracingModule {
   }
 
   private void endSpanWithStatus(Span span, io.grpc.Status status) {
+    if (!span.isRecording()) {
+      // Avoid formatting the status for a span that drops it.
+      span.end();
+      return;
+    }
     if (status.isOk()) {
       span.setStatus(StatusCode.OK);
     } else {
@@ -35,6 +35,7 @@ import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.testing.junit4.OpenTelemetryRule;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -302,6 +303,51 @@ public class OpenTelemetryMetricSinkTest {
                                         .hasSum(123L))));
   }
 
+  @Test
+  public void addHistogram_callerReusesLabelValueList() {
+    Map<String, Boolean> enabledMetrics = new HashMap<>();
+    enabledMetrics.put("client_latency", true);
+    DoubleHistogramMetricInstrument histogramInstrument =
+        new DoubleHistogramMetricInstrument(0, "client_latency", "Client latency", "s",
+            Collections.emptyList(), Collections.singletonList("grpc.target"),
+            Collections.emptyList(), false);
+    sink = new OpenTelemetryMetricSink(testMeter, enabledMetrics, false, Collections.emptyList());
+    sink.updateMeasures(Collections.singletonList(histogramInstrument));
+
+    // The sink caches attributes by label values, which must not be affected by later changes
+    // to the list passed in.
+    List<String> labelValues = new ArrayList<>(Collections.singletonList("target-a"));
+    sink.recordDoubleHistogram(histogramInstrument, 1.0, labelValues, Collections.emptyList());
+    labelValues.set(0, "target-b");
+    sink.recordDoubleHistogram(histogramInstrument, 2.0, labelValues, Collections.emptyList());
+    sink.recordDoubleHistogram(histogramInstrument, 4.0, Collections.singletonList("target-a"),
+        Collections.emptyList());
+
+    AttributeKey<String> targetKey = AttributeKey.stringKey("grpc.target");
+    assertThat(openTelemetryTesting.getMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("client_latency")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasAttributes(
+                                            io.opentelemetry.api.common.Attributes.of(
+                                                targetKey, "target-a"))
+                                        .hasCount(2)
+                                        .hasSum(5.0),
+                                point ->
+                                    point
+                                        .hasAttributes(
+                                            io.opentelemetry.api.common.Attributes.of(
+                                                targetKey, "target-b"))
+                                        .hasCount(1)
+                                        .hasSum(2.0))));
+  }
+
   @Test
   public void addHistogram_disabledMetric() {
     // set up sink with disabled metric
@@ -17,6 +17,7 @@
 package io.grpc.opentelemetry;
 
 import static io.grpc.ClientStreamTracer.NAME_RESOLUTION_DELAYED;
+import static io.grpc.opentelemetry.internal.OpenTelemetryConstants.CUSTOM_LABEL_KEY;
 import static io.grpc.opentelemetry.internal.OpenTelemetryConstants.LOCALITY_KEY;
 import static io.grpc.opentelemetry.internal.OpenTelemetryConstants.METHOD_KEY;
 import static io.grpc.opentelemetry.internal.OpenTelemetryConstants.STATUS_KEY;
@@ -26,6 +27,8 @@ import static java.util.Collections.emptyList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
@@ -1866,6 +1869,53 @@ public class OpenTelemetryMetricsModuleTest {
                                             .hasAttributes(attributes))));
   }
 
+  @Test
+  public void getAttributes_cachesAndOmitsNullValues() {
+    OpenTelemetryMetricsResource resource = GrpcOpenTelemetry.createMetricInstruments(testMeter,
+        enabledMetricsMap, disableDefaultMetrics);
+    OpenTelemetryMetricsModule module = newOpenTelemetryMetricsModule(resource);
+
+    io.opentelemetry.api.common.Attributes attributes =
+        module.getAttributes("package1.service2/method3", "target", "OK", null, null, null);
+    assertEquals(
+        io.opentelemetry.api.common.Attributes.of(
+            METHOD_KEY, "package1.service2/method3",
+            TARGET_KEY, "target",
+            STATUS_KEY, "OK"),
+        attributes);
+    assertSame(
+        attributes,
+        module.getAttributes("package1.service2/method3", "target", "OK", null, null, null));
+    assertNotSame(
+        attributes,
+        module.getAttributes("package1.service2/method3", "target", "UNAVAILABLE", null, null,
+            null));
+  }
+
+  @Test
+  public void getAttributes_cacheIsBounded() {
+    OpenTelemetryMetricsResource resource = GrpcOpenTelemetry.createMetricInstruments(testMeter,
+        enabledMetricsMap, disableDefaultMetrics);
+    OpenTelemetryMetricsModule module = newOpenTelemetryMetricsModule(resource);
+    for (int i = 0; i < AttributesCache.MAX_SIZE; i++) {
+      module.getAttributes("method", "target", null, null, null, "label" + i);
+    }
+
+    io.opentelemetry.api.common.Attributes attributes =
+        module.getAttributes("method", "target", null, null, null, "one too many");
+    assertEquals(
+        io.opentelemetry.api.common.Attributes.of(
+            METHOD_KEY, "method",
+            TARGET_KEY, "target",
+            CUSTOM_LABEL_KEY, "one too many"),
+        attributes);
+    assertNotSame(
+        attributes, module.getAttributes("method", "target", null, null, null, "one too many"));
+    assertSame(
+        module.getAttributes("method", "target", null, null, null, "label0"),
+        module.getAttributes("method", "target", null, null, null, "label0"));
+  }
+
   private OpenTelemetryMetricsModule newOpenTelemetryMetricsModule(
       OpenTelemetryMetricsResource resource) {
     return new OpenTelemetryMetricsModule(
@@ -23,9 +23,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.ignoreStubs;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -202,6 +205,8 @@ public class OpenTelemetryTracingModuleTest {
   // Use mock instead of OpenTelemetryRule to verify inOrder and propagator.
   @Test
   public void clientBasicTracingMocking() {
+    when(mockClientSpan.isRecording()).thenReturn(true);
+    when(mockAttemptSpan.isRecording()).thenReturn(true);
     OpenTelemetryTracingModule tracingModule = new OpenTelemetryTracingModule(mockOpenTelemetry);
     CallAttemptsTracerFactory callTracer =
         tracingModule.newClientCallTracer(mockClientSpan, method);
@@ -225,7 +230,7 @@ public class OpenTelemetryTracingModuleTest {
     clientStreamTracer.streamClosed(Status.OK);
     callTracer.callEnded(Status.OK);
 
-    InOrder inOrder = inOrder(mockClientSpan, mockAttemptSpan);
+    InOrder inOrder = inOrder(ignoreStubs(mockClientSpan, mockAttemptSpan));
     inOrder.verify(mockAttemptSpan)
         .setAttribute("previous-rpc-attempts", 0);
     inOrder.verify(mockAttemptSpan)
@@ -486,6 +491,7 @@ public class OpenTelemetryTracingModuleTest {
 
   @Test
   public void clientStreamNeverCreatedStillRecordTracing() {
+    when(mockClientSpan.isRecording()).thenReturn(true);
     OpenTelemetryTracingModule tracingModule = new OpenTelemetryTracingModule(
         openTelemetryRule.getOpenTelemetry());
     CallAttemptsTracerFactory callTracer =
@@ -495,7 +501,38 @@ public class OpenTelemetryTracingModuleTest {
     verify(mockClientSpan).end();
     verify(mockClientSpan).setStatus(eq(StatusCode.ERROR),
         eq("DEADLINE_EXCEEDED: 3 seconds"));
-    verifyNoMoreInteractions(mockClientSpan);
+    verifyNoMoreInteractions(ignoreStubs(mockClientSpan));
+  }
+
+  @Test
+  public void clientUnsampledSpansSkipEvents() {
+    OpenTelemetryTracingModule tracingModule = new OpenTelemetryTracingModule(mockOpenTelemetry);
+    CallAttemptsTracerFactory callTracer =
+        tracingModule.newClientCallTracer(mockClientSpan, method);
+    Metadata headers = new Metadata();
+    ClientStreamTracer clientStreamTracer = callTracer.newClientStreamTracer(STREAM_INFO, headers);
+    clientStreamTracer.createPendingStream();
+    clientStreamTracer.streamCreated(Attributes.EMPTY, headers);
+
+    // Propagation happens regardless, so that the server shares the sampling decision.
+    verify(mockPropagator).inject(any(), eq(headers), eq(MetadataSetter.getInstance()));
+
+    clientStreamTracer.outboundMessageSent(0, 882, -1);
+    clientStreamTracer.inboundMessageRead(0, 255, 90);
+    clientStreamTracer.inboundMessage(0);
+    clientStreamTracer.inboundUncompressedSize(90);
+    clientStreamTracer.streamClosed(Status.UNAVAILABLE.withDescription("unsampled"));
+    callTracer.callEnded(Status.UNAVAILABLE.withDescription("unsampled"));
+
+    verify(mockAttemptSpan, never()).setAttribute(anyString(), anyLong());
+    verify(mockAttemptSpan, never())
+        .addEvent(anyString(), any(io.opentelemetry.api.common.Attributes.class));
+    verify(mockClientSpan, never())
+        .addEvent(anyString(), any(io.opentelemetry.api.common.Attributes.class));
+    verify(mockAttemptSpan, never()).setStatus(any(), any());
+    verify(mockClientSpan, never()).setStatus(any(), any());
+    verify(mockAttemptSpan).end();
+    verify(mockClientSpan).end();
   }
 
   @Test
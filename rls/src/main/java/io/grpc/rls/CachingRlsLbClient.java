@@ -51,6 +51,7 @@ import io.grpc.MetricRecorder.Registration;
 import io.grpc.Status;
 import io.grpc.internal.BackoffPolicy;
 import io.grpc.internal.ExponentialBackoffPolicy;
+import io.grpc.internal.GrpcUtil;
 import io.grpc.lookup.v1.RouteLookupServiceGrpc;
 import io.grpc.lookup.v1.RouteLookupServiceGrpc.RouteLookupServiceStub;
 import io.grpc.rls.ChildLoadBalancerHelper.ChildLoadBalancerHelperProvider;
@@ -72,10 +73,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -96,6 +102,12 @@ final class CachingRlsLbClient {
   public static final int STRING_OVERHEAD_BYTES = 38;
   /** Minimum bytes for a Java Object. */
   public static final int OBJ_OVERHEAD_B = 16;
+  private static final int MAX_READ_BUFFER_SIZE = 256;
+  // Whether the cache should prefer evicting rarely used entries over recently used ones, so a
+  // scan of one-off keys doesn't flush out hot ones.
+  @VisibleForTesting
+  static boolean enableFrequencyAwareEviction =
+      GrpcUtil.getFlag("GRPC_EXPERIMENTAL_RLS_FREQUENCY_AWARE_EVICTION", false);
 
   private static final LongCounterMetricInstrument DEFAULT_TARGET_PICKS_COUNTER;
   private static final LongCounterMetricInstrument TARGET_PICKS_COUNTER;
@@ -114,6 +126,14 @@ final class CachingRlsLbClient {
   // any RPC on the fly will cached in this map
   @GuardedBy("lock")
   private final Map<RouteLookupRequestKey, PendingCacheEntry> pendingCallCache = new HashMap<>();
+  // Mirrors the DataCacheEntries in linkedHashLruCache so that picks hitting a fresh entry don't
+  // need the lock. Entries are added under the lock and removed when evicted from the LRU cache.
+  private final ConcurrentMap<RouteLookupRequestKey, DataCacheEntry> dataEntries =
+      new ConcurrentHashMap<>();
+  // Keys of lock-free hits, replayed into linkedHashLruCache under the lock to keep its access
+  // order approximately up to date. Hits are dropped when the buffer is full.
+  private final Queue<RouteLookupRequestKey> readBuffer = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger readBufferSize = new AtomicInteger();
 
   private final ScheduledExecutorService scheduledExecutorService;
   private final Ticker ticker;
@@ -316,6 +336,7 @@ final class CachingRlsLbClient {
 
   private void periodicClean() {
     synchronized (lock) {
+      drainReadBuffer();
       linkedHashLruCache.cleanupExpiredEntries();
     }
   }
@@ -374,7 +395,17 @@ final class CachingRlsLbClient {
    */
   @CheckReturnValue
   final CachedRouteLookupResponse get(final RouteLookupRequestKey routeLookupRequestKey) {
+    // Fast path: a fresh cache hit requires no state change, so serve it without the lock.
+    DataCacheEntry freshEntry = dataEntries.get(routeLookupRequestKey);
+    if (freshEntry != null) {
+      long now = ticker.read();
+      if (!freshEntry.isStaled(now) && !freshEntry.isExpired(now)) {
+        recordRead(routeLookupRequestKey);
+        return CachedRouteLookupResponse.dataEntry(freshEntry);
+      }
+    }
     synchronized (lock) {
+      drainReadBuffer();
       final CacheEntry cacheEntry;
       cacheEntry = linkedHashLruCache.read(routeLookupRequestKey);
       if (cacheEntry == null
@@ -401,6 +432,25 @@ final class CachingRlsLbClient {
     }
   }
 
+  private void recordRead(RouteLookupRequestKey routeLookupRequestKey) {
+    if (readBufferSize.incrementAndGet() > MAX_READ_BUFFER_SIZE) {
+      readBufferSize.decrementAndGet();
+      return;
+    }
+    readBuffer.add(routeLookupRequestKey);
+  }
+
+  /** Replays lock-free cache hits so they count towards the LRU access order. */
+  @GuardedBy("lock")
+  private void drainReadBuffer() {
+    RouteLookupRequestKey key;
+    while ((key = readBuffer.poll()) != null) {
+      readBufferSize.decrementAndGet();
+      // Only called for its side effect of moving the entry to the most recently used position
+      CacheEntry unused = linkedHashLruCache.read(key);
+    }
+  }
+
   /** Performs any pending maintenance operations needed by the cache. */
   void close() {
     logger.log(ChannelLogLevel.DEBUG, "CachingRlsLbClient closed");
@@ -410,6 +460,7 @@ final class CachingRlsLbClient {
       linkedHashLruCache.close();
       // TODO(creamsoup) maybe cancel all pending requests
       pendingCallCache.clear();
+      readBuffer.clear();
       rlsChannel.shutdownNow();
       rlsPicker.close();
       gaugeRegistration.close();
@@ -462,7 +513,11 @@ final class CachingRlsLbClient {
         ChannelLogLevel.DEBUG,
         "[RLS Entry {0}] Transition to data cache: routeLookupResponse={1}",
         routeLookupRequestKey, routeLookupResponse);
+    drainReadBuffer();
     DataCacheEntry entry = new DataCacheEntry(routeLookupRequestKey, routeLookupResponse);
+    // Published before caching, so that if caching evicts the entry right away its cleanup()
+    // removes it again.
+    dataEntries.put(routeLookupRequestKey, entry);
     // Constructor for DataCacheEntry causes updateBalancingState, but the picks can't happen until
     // this cache update because the lock is held
     linkedHashLruCache.cacheAndClean(routeLookupRequestKey, entry);
@@ -485,6 +540,7 @@ final class CachingRlsLbClient {
     // Lock is held, so the task can't execute before the assignment
     entry.scheduledFuture = scheduledExecutorService.schedule(
         () -> refreshBackoffEntry(entry), delayNanos, TimeUnit.NANOSECONDS);
+    drainReadBuffer();
     linkedHashLruCache.cacheAndClean(routeLookupRequestKey, entry);
     return entry;
   }
@@ -777,6 +833,7 @@ final class CachingRlsLbClient {
 
     @Override
     void cleanup() {
+      dataEntries.remove(routeLookupRequestKey, this);
       synchronized (lock) {
         for (ChildPolicyWrapper policyWrapper : childPolicyWrappers) {
           refCountedChildPolicyWrapperFactory.release(policyWrapper);
@@ -957,7 +1014,7 @@ final class CachingRlsLbClient {
     RlsAsyncLruCache(long maxEstimatedSizeBytes,
         @Nullable EvictionListener<RouteLookupRequestKey, CacheEntry> evictionListener,
         Ticker ticker, RlsLbHelper helper) {
-      super(maxEstimatedSizeBytes, evictionListener, ticker);
+      super(maxEstimatedSizeBytes, evictionListener, ticker, enableFrequencyAwareEviction);
       this.helper = checkNotNull(helper, "helper");
     }
 
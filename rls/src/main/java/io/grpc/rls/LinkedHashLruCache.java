@@ -38,13 +38,25 @@ import javax.annotation.Nullable;
  * LruCache try to remove up to one already expired entries. If it doesn't find any expired entries,
  * it will remove based on access order of entry. To proactively clean up expired entries, call
  * {@link #cleanupExpiredEntries()} (e.g., via a recurring timer).
+ *
+ * <p>Optionally, size based eviction can be frequency aware. A {@link FrequencySketch} then
+ * records every read and write, and the victim is the least frequently used of the
+ * {@value #EVICTION_SAMPLE_SIZE} least recently used entries instead of simply the least recently
+ * used one. This keeps a burst of one-off keys from flushing out frequently used entries. The most
+ * recently cached entry is never chosen, so a new entry is always admitted.
  */
 abstract class LinkedHashLruCache<K, V> implements LruCache<K, V> {
 
+  static final int EVICTION_SAMPLE_SIZE = 16;
+
   private final LinkedHashMap<K, SizedValue> delegate;
   private final Ticker ticker;
   @Nullable
   private final EvictionListener<K, V> evictionListener;
+  @Nullable
+  private final FrequencySketch<K> frequencySketch;
+  @Nullable
+  private K lastCachedKey;
   private long estimatedSizeBytes;
   private long estimatedMaxSizeBytes;
 
@@ -52,13 +64,24 @@ abstract class LinkedHashLruCache<K, V> implements LruCache<K, V> {
       final long estimatedMaxSizeBytes,
       @Nullable final EvictionListener<K, V> evictionListener,
       final Ticker ticker) {
+    this(estimatedMaxSizeBytes, evictionListener, ticker, /* frequencyAwareEviction= */ false);
+  }
+
+  LinkedHashLruCache(
+      final long estimatedMaxSizeBytes,
+      @Nullable final EvictionListener<K, V> evictionListener,
+      final Ticker ticker,
+      boolean frequencyAwareEviction) {
     checkState(estimatedMaxSizeBytes > 0, "max estimated cache size should be positive");
     this.estimatedMaxSizeBytes = estimatedMaxSizeBytes;
     this.evictionListener = evictionListener;
     this.ticker = checkNotNull(ticker, "ticker");
+    // rough estimate or minimum hashmap default
+    int expectedEntries = Math.max((int) (estimatedMaxSizeBytes / 1000), 16);
+    this.frequencySketch =
+        frequencyAwareEviction ? new FrequencySketch<K>(expectedEntries) : null;
     delegate = new LinkedHashMap<K, SizedValue>(
-        // rough estimate or minimum hashmap default
-        Math.max((int) (estimatedMaxSizeBytes / 1000), 16),
+        expectedEntries,
         /* loadFactor= */ 0.75f,
         /* accessOrder= */ true) {
       @Override
@@ -69,6 +92,12 @@ abstract class LinkedHashLruCache<K, V> implements LruCache<K, V> {
 
         // first, remove at most 1 expired entry
         boolean removed = cleanupExpiredEntries(1, ticker.read());
+        if (frequencySketch != null) {
+          if (!removed) {
+            evictLeastFrequent(ticker.read());
+          }
+          return false;
+        }
         // handles size based eviction if necessary no expired entry
         boolean shouldRemove = !removed
             && shouldInvalidateEldestEntry(eldest.getKey(), eldest.getValue().value, ticker.read());
@@ -134,6 +163,10 @@ abstract class LinkedHashLruCache<K, V> implements LruCache<K, V> {
     SizedValue existing;
     int size = estimateSizeOf(key, value);
     estimatedSizeBytes += size;
+    if (frequencySketch != null) {
+      frequencySketch.increment(key);
+      lastCachedKey = key;
+    }
     existing = delegate.put(key, new SizedValue(size, value));
     if (existing != null) {
       fireOnEviction(key, existing, EvictionType.REPLACED);
@@ -156,6 +189,10 @@ abstract class LinkedHashLruCache<K, V> implements LruCache<K, V> {
   @CheckReturnValue
   private SizedValue readInternal(K key) {
     checkNotNull(key, "key");
+    if (frequencySketch != null) {
+      // Misses count too, so that a key which keeps coming back is admitted and then kept
+      frequencySketch.increment(key);
+    }
     SizedValue existing = delegate.get(key);
     if (existing != null && isExpired(key, existing.value, ticker.read())) {
       return null;
@@ -222,6 +259,16 @@ abstract class LinkedHashLruCache<K, V> implements LruCache<K, V> {
     long now = ticker.read();
     cleanupExpiredEntries(now);
 
+    if (frequencySketch != null) {
+      while (estimatedMaxSizeBytes < this.estimatedSizeBytes) {
+        if (!evictLeastFrequent(now)) {
+          break; // Violates some constraint like minimum age so stop our cleanup
+        }
+        removedAnyUnexpired = true;
+      }
+      return removedAnyUnexpired;
+    }
+
     // cleanup eldest entry until the size of all entries fits within the limit
     Iterator<Map.Entry<K, SizedValue>> lruIter = delegate.entrySet().iterator();
     while (lruIter.hasNext() && estimatedMaxSizeBytes < this.estimatedSizeBytes) {
@@ -237,6 +284,40 @@ abstract class LinkedHashLruCache<K, V> implements LruCache<K, V> {
     return removedAnyUnexpired;
   }
 
+  /**
+   * Evicts the least frequently used of the {@link #EVICTION_SAMPLE_SIZE} least recently used
+   * entries that may be evicted, preferring the less recently used one on ties. Returns
+   * {@code false} if there was no such entry.
+   */
+  private boolean evictLeastFrequent(long now) {
+    K victimKey = null;
+    SizedValue victim = null;
+    int victimFrequency = Integer.MAX_VALUE;
+    int sampled = 0;
+    for (Map.Entry<K, SizedValue> entry : delegate.entrySet()) {
+      if (sampled++ == EVICTION_SAMPLE_SIZE) {
+        break;
+      }
+      K key = entry.getKey();
+      if (key.equals(lastCachedKey)
+          || !shouldInvalidateEldestEntry(key, entry.getValue().value, now)) {
+        continue;
+      }
+      int frequency = frequencySketch.frequency(key);
+      if (frequency < victimFrequency) {
+        victimKey = key;
+        victim = entry.getValue();
+        victimFrequency = frequency;
+      }
+    }
+    if (victim == null) {
+      return false;
+    }
+    delegate.remove(victimKey);
+    fireOnEviction(victimKey, victim, EvictionType.SIZE);
+    return true;
+  }
+
   /**
    * Resizes cache. If new size is smaller than current estimated size, it will free up space by
    * removing expired entries and removing oldest entries by LRU order.
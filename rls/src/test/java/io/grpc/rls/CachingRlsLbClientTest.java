@@ -29,6 +29,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -276,6 +277,117 @@ public class CachingRlsLbClientTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  public void get_freshHit_servedFromCache() throws Exception {
+    setUpRlsLbClient();
+    RlsProtoData.RouteLookupRequestKey routeLookupRequestKey = newRouteLookupRequestKey("bar");
+    rlsServerImpl.setLookupTable(
+        ImmutableMap.of(
+            routeLookupRequestKey,
+            RouteLookupResponse.create(ImmutableList.of("target"), "header")));
+    assertThat(getInSyncContext(routeLookupRequestKey).isPending()).isTrue();
+    fakeClock.forwardTime(SERVER_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+
+    for (int i = 0; i < 3; i++) {
+      CachedRouteLookupResponse resp = getInSyncContext(routeLookupRequestKey);
+      assertThat(resp.hasData()).isTrue();
+      assertThat(resp.getHeaderData()).isEqualTo("header");
+    }
+    assertThat(rlsServerImpl.routeLookupCount).isEqualTo(1);
+    verify(evictionListener, never()).onEviction(any(), any(), any());
+  }
+
+  @Test
+  public void get_staleAndExpiredHits_notServedFromFreshEntries() throws Exception {
+    setUpRlsLbClient();
+    RlsProtoData.RouteLookupRequestKey routeLookupRequestKey = newRouteLookupRequestKey("bar");
+    rlsServerImpl.setLookupTable(
+        ImmutableMap.of(
+            routeLookupRequestKey,
+            RouteLookupResponse.create(ImmutableList.of("target"), "header")));
+    assertThat(getInSyncContext(routeLookupRequestKey).isPending()).isTrue();
+    fakeClock.forwardTime(SERVER_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+    assertThat(getInSyncContext(routeLookupRequestKey).hasData()).isTrue();
+
+    // A stale entry is still served, but refreshed.
+    fakeClock.forwardTime(ROUTE_LOOKUP_CONFIG.staleAgeInNanos(), TimeUnit.NANOSECONDS);
+    assertThat(getInSyncContext(routeLookupRequestKey).hasData()).isTrue();
+    fakeClock.forwardTime(SERVER_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+    assertThat(rlsServerImpl.routeLookupCount).isEqualTo(2);
+    assertThat(rlsServerImpl.routeLookupReason).isEqualTo(
+        io.grpc.lookup.v1.RouteLookupRequest.Reason.REASON_STALE);
+
+    // An expired entry is looked up again.
+    fakeClock.forwardTime(ROUTE_LOOKUP_CONFIG.maxAgeInNanos(), TimeUnit.NANOSECONDS);
+    assertThat(getInSyncContext(routeLookupRequestKey).isPending()).isTrue();
+    fakeClock.forwardTime(SERVER_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+    assertThat(rlsServerImpl.routeLookupCount).isEqualTo(3);
+    assertThat(rlsServerImpl.routeLookupReason).isEqualTo(
+        io.grpc.lookup.v1.RouteLookupRequest.Reason.REASON_MISS);
+  }
+
+  @Test
+  public void get_evictedEntry_notServedFromFreshEntries() throws Exception {
+    setUpRlsLbClient();
+    List<RlsProtoData.RouteLookupRequestKey> keys = setUpLookupTable(4);
+    // Fills the cache, whose entries are then old enough to be evicted.
+    for (int i = 0; i < 3; i++) {
+      lookUp(keys.get(i));
+    }
+    fakeClock.forwardTime(CachingRlsLbClient.MIN_EVICTION_TIME_DELTA_NANOS, TimeUnit.NANOSECONDS);
+
+    lookUp(keys.get(3));
+    verify(evictionListener)
+        .onEviction(eq(keys.get(0)), any(CacheEntry.class), eq(EvictionType.SIZE));
+    assertThat(getInSyncContext(keys.get(0)).isPending()).isTrue();
+    assertThat(rlsServerImpl.routeLookupCount).isEqualTo(5);
+  }
+
+  @Test
+  public void get_freshHits_keepEntryFromBeingEvicted() throws Exception {
+    setUpRlsLbClient();
+    List<RlsProtoData.RouteLookupRequestKey> keys = setUpLookupTable(4);
+    for (int i = 0; i < 3; i++) {
+      lookUp(keys.get(i));
+    }
+    fakeClock.forwardTime(CachingRlsLbClient.MIN_EVICTION_TIME_DELTA_NANOS, TimeUnit.NANOSECONDS);
+    // Hits that don't take the lock, which are replayed by the next lookup that does.
+    assertThat(getInSyncContext(keys.get(0)).hasData()).isTrue();
+
+    lookUp(keys.get(3));
+    verify(evictionListener)
+        .onEviction(eq(keys.get(1)), any(CacheEntry.class), eq(EvictionType.SIZE));
+    verify(evictionListener, never()).onEviction(eq(keys.get(0)), any(), any());
+    assertThat(getInSyncContext(keys.get(0)).hasData()).isTrue();
+    assertThat(rlsServerImpl.routeLookupCount).isEqualTo(4);
+  }
+
+  private static RlsProtoData.RouteLookupRequestKey newRouteLookupRequestKey(String method) {
+    return RlsProtoData.RouteLookupRequestKey.create(
+        ImmutableMap.of(
+            "server", "bigtable.googleapis.com", "service-key", "foo", "method-key", method));
+  }
+
+  private List<RlsProtoData.RouteLookupRequestKey> setUpLookupTable(int size) {
+    List<RlsProtoData.RouteLookupRequestKey> keys = new ArrayList<>();
+    ImmutableMap.Builder<RlsProtoData.RouteLookupRequestKey, RouteLookupResponse> lookupTable =
+        ImmutableMap.builder();
+    for (int i = 0; i < size; i++) {
+      RlsProtoData.RouteLookupRequestKey key = newRouteLookupRequestKey("method" + i);
+      keys.add(key);
+      lookupTable.put(key, RouteLookupResponse.create(ImmutableList.of("target"), "header"));
+    }
+    rlsServerImpl.setLookupTable(lookupTable.buildOrThrow());
+    return keys;
+  }
+
+  /** Looks up a key that is not cached yet, and waits for it to be cached. */
+  private void lookUp(RlsProtoData.RouteLookupRequestKey routeLookupRequestKey) throws Exception {
+    assertThat(getInSyncContext(routeLookupRequestKey).isPending()).isTrue();
+    fakeClock.forwardTime(SERVER_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+    assertThat(getInSyncContext(routeLookupRequestKey).hasData()).isTrue();
+  }
+
   @Test
   public void rls_withCustomRlsChannelServiceConfig() throws Exception {
     Map<String, ?> routeLookupChannelServiceConfig =
@@ -1055,6 +1167,7 @@ public class CachingRlsLbClientTest {
     private Map<RlsProtoData.RouteLookupRequestKey, RouteLookupResponse> lookupTable =
         ImmutableMap.of();
     io.grpc.lookup.v1.RouteLookupRequest.Reason routeLookupReason;
+    int routeLookupCount;
 
     public StaticFixedDelayRlsServerImpl(
         long responseDelayNano, ScheduledExecutorService scheduledExecutorService) {
@@ -1072,6 +1185,7 @@ public class CachingRlsLbClientTest {
     @Override
     public void routeLookup(final io.grpc.lookup.v1.RouteLookupRequest request,
         final StreamObserver<io.grpc.lookup.v1.RouteLookupResponse> responseObserver) {
+      routeLookupCount++;
       ScheduledFuture<?> unused =
           scheduledExecutorService.schedule(
               new Runnable() {
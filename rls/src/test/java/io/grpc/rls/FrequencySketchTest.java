@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.rls;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class FrequencySketchTest {
+
+  private final FrequencySketch<Integer> sketch = new FrequencySketch<>(64);
+
+  @Test
+  public void frequency_unknownKeyIsZero() {
+    assertThat(sketch.frequency(42)).isEqualTo(0);
+  }
+
+  @Test
+  public void increment_countsAccesses() {
+    for (int i = 0; i < 5; i++) {
+      sketch.increment(42);
+    }
+    assertThat(sketch.frequency(42)).isEqualTo(5);
+  }
+
+  @Test
+  public void increment_saturates() {
+    for (int i = 0; i < 100; i++) {
+      sketch.increment(42);
+    }
+    assertThat(sketch.frequency(42)).isEqualTo(15);
+  }
+
+  @Test
+  public void reset_halvesCounters() {
+    for (int i = 0; i < 10; i++) {
+      sketch.increment(42);
+    }
+    // 64 expected keys gives a table of 64 longs, which is reset after 640 accesses
+    for (int i = 1000; i < 1700; i++) {
+      sketch.increment(i);
+    }
+    assertThat(sketch.frequency(42)).isAtMost(6);
+  }
+}
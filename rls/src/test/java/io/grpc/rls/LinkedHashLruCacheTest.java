@@ -236,6 +236,35 @@ public class LinkedHashLruCacheTest {
     assertThat(cache.hasCacheEntry(1)).isFalse();
   }
 
+  @Test
+  public void eviction_frequencyAware_scanDoesNotFlushHotEntries() {
+    LinkedHashLruCache<Integer, Entry> frequencyAwareCache =
+        new LinkedHashLruCache<Integer, Entry>(
+            MAX_SIZE, evictionListener, fakeClock.getTicker(),
+            /* frequencyAwareEviction= */ true) {
+          @Override
+          protected boolean isExpired(Integer key, Entry value, long nowNanos) {
+            return value.expireTime - nowNanos <= 0;
+          }
+        };
+    for (int i = 1; i <= 2; i++) {
+      frequencyAwareCache.cache(i, new Entry("hot" + i, Long.MAX_VALUE));
+      for (int j = 0; j < 3; j++) {
+        assertThat(frequencyAwareCache.read(i)).isNotNull();
+      }
+    }
+    // A scan of one-off keys, many more than the cache can hold
+    for (int i = 100; i < 120; i++) {
+      frequencyAwareCache.cache(i, new Entry("cold" + i, Long.MAX_VALUE));
+    }
+
+    assertThat(frequencyAwareCache.estimatedSize()).isEqualTo(MAX_SIZE);
+    assertThat(frequencyAwareCache.hasCacheEntry(1)).isTrue();
+    assertThat(frequencyAwareCache.hasCacheEntry(2)).isTrue();
+    // The newest entry is always admitted
+    assertThat(frequencyAwareCache.hasCacheEntry(119)).isTrue();
+  }
+
   private static final class Entry {
     String value;
     long expireTime;
@@ -17,6 +17,7 @@
 package io.grpc.protobuf.services;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
 import io.grpc.ExperimentalApi;
 import io.grpc.InternalChannelz;
 import io.grpc.InternalChannelz.ChannelStats;
@@ -42,15 +43,34 @@ import io.grpc.channelz.v1.GetSubchannelRequest;
 import io.grpc.channelz.v1.GetSubchannelResponse;
 import io.grpc.channelz.v1.GetTopChannelsRequest;
 import io.grpc.channelz.v1.GetTopChannelsResponse;
+import io.grpc.channelz.v1.Socket;
 import io.grpc.stub.StreamObserver;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
 
 /**
  * The channelz service provides stats about a running gRPC process.
  */
 @ExperimentalApi("https://github.com/grpc/grpc-java/issues/4206")
 public final class ChannelzService extends ChannelzGrpc.ChannelzImplBase {
+  @VisibleForTesting
+  static final int MAX_CACHED_SOCKETS = 10000;
+
   private final InternalChannelz channelz;
   private final int maxPageSize;
+  private final long maxSocketStatsAgeNanos;
+  private final Ticker ticker;
+  @GuardedBy("socketCache")
+  private final Map<Long, CachedSocket> socketCache =
+      new LinkedHashMap<Long, CachedSocket>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedSocket> eldest) {
+          return size() > MAX_CACHED_SOCKETS;
+        }
+      };
 
   /**
    * Creates an instance.
@@ -59,18 +79,38 @@ public final class ChannelzService extends ChannelzGrpc.ChannelzImplBase {
     return new ChannelzService(InternalChannelz.instance(), maxPageSize);
   }
 
+  /**
+   * Creates an instance that reuses the stats of a socket for up to {@code maxSocketStatsAge}.
+   * Fetching socket stats requires a round trip to the socket's transport, which is expensive
+   * when monitoring tools poll servers with many connections.
+   */
+  public static ChannelzService newInstance(
+      int maxPageSize, long maxSocketStatsAge, TimeUnit unit) {
+    return new ChannelzService(
+        InternalChannelz.instance(), maxPageSize, unit.toNanos(maxSocketStatsAge),
+        Ticker.systemTicker());
+  }
+
   @VisibleForTesting
   ChannelzService(InternalChannelz channelz, int maxPageSize) {
+    this(channelz, maxPageSize, 0, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  ChannelzService(
+      InternalChannelz channelz, int maxPageSize, long maxSocketStatsAgeNanos, Ticker ticker) {
     this.channelz = channelz;
     this.maxPageSize = maxPageSize;
+    this.maxSocketStatsAgeNanos = maxSocketStatsAgeNanos;
+    this.ticker = ticker;
   }
 
   /** Returns top level channel aka {@link io.grpc.ManagedChannel}. */
   @Override
   public void getTopChannels(
       GetTopChannelsRequest request, StreamObserver<GetTopChannelsResponse> responseObserver) {
-    InternalChannelz.RootChannelList rootChannels
-        = channelz.getRootChannels(request.getStartChannelId(), maxPageSize);
+    InternalChannelz.RootChannelList rootChannels = channelz.getRootChannels(
+        request.getStartChannelId(), pageSize(request.getMaxResults()));
 
     GetTopChannelsResponse resp;
     try {
@@ -115,7 +155,8 @@ public final class ChannelzService extends ChannelzGrpc.ChannelzImplBase {
   @Override
   public void getServers(
       GetServersRequest request, StreamObserver<GetServersResponse> responseObserver) {
-    ServerList servers = channelz.getServers(request.getStartServerId(), maxPageSize);
+    ServerList servers =
+        channelz.getServers(request.getStartServerId(), pageSize(request.getMaxResults()));
 
     GetServersResponse resp;
     try {
@@ -197,8 +238,7 @@ public final class ChannelzService extends ChannelzGrpc.ChannelzImplBase {
 
     GetSocketResponse resp;
     try {
-      resp =
-          GetSocketResponse.newBuilder().setSocket(ChannelzProtoUtil.toSocket(s)).build();
+      resp = GetSocketResponse.newBuilder().setSocket(toSocket(s)).build();
     } catch (StatusRuntimeException e) {
       responseObserver.onError(e);
       return;
@@ -211,8 +251,8 @@ public final class ChannelzService extends ChannelzGrpc.ChannelzImplBase {
   @Override
   public void getServerSockets(
       GetServerSocketsRequest request, StreamObserver<GetServerSocketsResponse> responseObserver) {
-    ServerSocketsList serverSockets
-        = channelz.getServerSockets(request.getServerId(), request.getStartSocketId(), maxPageSize);
+    ServerSocketsList serverSockets = channelz.getServerSockets(
+        request.getServerId(), request.getStartSocketId(), pageSize(request.getMaxResults()));
     if (serverSockets == null) {
       responseObserver.onError(
           Status.NOT_FOUND.withDescription("Can't find server " + request.getServerId())
@@ -231,4 +271,47 @@ public final class ChannelzService extends ChannelzGrpc.ChannelzImplBase {
     responseObserver.onNext(resp);
     responseObserver.onCompleted();
   }
+
+  /**
+   * Returns the page size for a request, which may ask for fewer results than {@link
+   * #maxPageSize} but not more.
+   */
+  private int pageSize(long maxResults) {
+    return maxResults > 0 && maxResults < maxPageSize ? (int) maxResults : maxPageSize;
+  }
+
+  private Socket toSocket(InternalInstrumented<SocketStats> socket) {
+    if (maxSocketStatsAgeNanos <= 0) {
+      return ChannelzProtoUtil.toSocket(socket);
+    }
+    long id = socket.getLogId().getId();
+    long now = ticker.read();
+    synchronized (socketCache) {
+      CachedSocket cached = socketCache.get(id);
+      // A different instance means the ID was reused by a new socket, e.g. in tests.
+      if (cached != null && cached.instrumented.get() == socket
+          && now - cached.readNanos < maxSocketStatsAgeNanos) {
+        return cached.socket;
+      }
+    }
+    // Not under the lock, as this blocks until the transport has reported its stats.
+    Socket proto = ChannelzProtoUtil.toSocket(socket);
+    synchronized (socketCache) {
+      socketCache.put(id, new CachedSocket(socket, proto, now));
+    }
+    return proto;
+  }
+
+  private static final class CachedSocket {
+    // Weak, so that the cache doesn't keep closed transports alive. Only the stats are kept.
+    final WeakReference<InternalInstrumented<SocketStats>> instrumented;
+    final Socket socket;
+    final long readNanos;
+
+    CachedSocket(InternalInstrumented<SocketStats> instrumented, Socket socket, long readNanos) {
+      this.instrumented = new WeakReference<>(instrumented);
+      this.socket = socket;
+      this.readNanos = readNanos;
+    }
+  }
 }
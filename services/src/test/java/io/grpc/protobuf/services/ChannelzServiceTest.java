@@ -35,11 +35,14 @@ import io.grpc.channelz.v1.GetSubchannelRequest;
 import io.grpc.channelz.v1.GetSubchannelResponse;
 import io.grpc.channelz.v1.GetTopChannelsRequest;
 import io.grpc.channelz.v1.GetTopChannelsResponse;
+import io.grpc.internal.FakeClock;
 import io.grpc.protobuf.services.ChannelzTestHelper.TestChannel;
 import io.grpc.protobuf.services.ChannelzTestHelper.TestServer;
 import io.grpc.protobuf.services.ChannelzTestHelper.TestSocket;
 import io.grpc.stub.StreamObserver;
+import java.net.InetSocketAddress;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -74,6 +77,37 @@ public class ChannelzServiceTest {
         getTopChannelHelper(0));
   }
 
+  @Test
+  public void getTopChannels_maxResultsLimitsPage() throws Exception {
+    service = new ChannelzService(channelz, 10);
+    TestChannel root1 = new TestChannel();
+    TestChannel root2 = new TestChannel();
+    TestChannel root3 = new TestChannel();
+    channelz.addRootChannel(root1);
+    channelz.addRootChannel(root2);
+    channelz.addRootChannel(root3);
+
+    @SuppressWarnings("unchecked")
+    StreamObserver<GetTopChannelsResponse> observer = mock(StreamObserver.class);
+    ArgumentCaptor<GetTopChannelsResponse> responseCaptor
+        = ArgumentCaptor.forClass(GetTopChannelsResponse.class);
+    service.getTopChannels(
+        GetTopChannelsRequest.newBuilder().setStartChannelId(0).setMaxResults(2).build(),
+        observer);
+    verify(observer).onNext(responseCaptor.capture());
+    assertEquals(
+        GetTopChannelsResponse
+            .newBuilder()
+            .addChannel(ChannelzProtoUtil.toChannel(root1))
+            .addChannel(ChannelzProtoUtil.toChannel(root2))
+            .setEnd(false)
+            .build(),
+        responseCaptor.getValue());
+
+    // Without max_results, the service's page size applies
+    assertEquals(3, getTopChannelHelper(0).getChannelCount());
+  }
+
   @Test
   public void getChannel() throws ExecutionException, InterruptedException {
     TestChannel root = new TestChannel();
@@ -164,6 +198,32 @@ public class ChannelzServiceTest {
     assertSocketNotFound(socket.getLogId().getId());
   }
 
+  @Test
+  public void getSocket_statsReusedUntilStale() throws Exception {
+    FakeClock fakeClock = new FakeClock();
+    service = new ChannelzService(
+        channelz, MAX_PAGE_SIZE, TimeUnit.SECONDS.toNanos(1), fakeClock.getTicker());
+    TestSocket socket = new TestSocket();
+    channelz.addClientSocket(socket);
+    GetSocketResponse expected = GetSocketResponse
+        .newBuilder()
+        .setSocket(ChannelzProtoUtil.toSocket(socket))
+        .build();
+    assertEquals(expected, getSocketHelper(socket.getLogId().getId()));
+
+    socket.remote = new InetSocketAddress("10.0.0.3", 1000);
+    fakeClock.forwardTime(999, TimeUnit.MILLISECONDS);
+    assertEquals(expected, getSocketHelper(socket.getLogId().getId()));
+
+    fakeClock.forwardTime(1, TimeUnit.MILLISECONDS);
+    assertEquals(
+        GetSocketResponse
+            .newBuilder()
+            .setSocket(ChannelzProtoUtil.toSocket(socket))
+            .build(),
+        getSocketHelper(socket.getLogId().getId()));
+  }
+
   private GetTopChannelsResponse getTopChannelHelper(long startId) {
     @SuppressWarnings("unchecked")
     StreamObserver<GetTopChannelsResponse> observer = mock(StreamObserver.class);
@@ -33,6 +33,7 @@ import io.grpc.Metadata;
 import io.grpc.ServerStreamTracer;
 import io.grpc.Status;
 import io.grpc.internal.GrpcUtil;
+import io.grpc.internal.ReadableBuffer;
 import io.grpc.internal.ReadableBuffers;
 import io.grpc.internal.ServerTransportListener;
 import io.grpc.internal.StatsTraceContext;
@@ -46,6 +47,7 @@ import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import javax.servlet.AsyncContext;
@@ -272,6 +274,7 @@ public final class ServletAdapter {
     final AsyncContext asyncCtx;
     final ServletInputStream input;
     final InternalLogId logId;
+    final InboundDataBatcher batcher = new InboundDataBatcher();
 
     GrpcReadListener(
         ServletServerStream stream,
@@ -283,34 +286,18 @@ public final class ServletAdapter {
       this.logId = logId;
     }
 
-    final byte[] buffer = new byte[4 * 1024];
-
     @Override
     public void onDataAvailable() throws IOException {
       logger.log(FINEST, "[{0}] onDataAvailable: ENTRY", logId);
-
-      while (input.isReady()) {
-        int length = input.read(buffer);
-        if (length == -1) {
-          logger.log(FINEST, "[{0}] inbound data: read end of stream", logId);
-          return;
-        } else {
-          if (logger.isLoggable(FINEST)) {
-            logger.log(
-                FINEST,
-                "[{0}] inbound data: length = {1}, bytes = {2}",
-                new Object[] {logId, length, ServletServerStream.toHexString(buffer, length)});
-          }
-
-          byte[] copy = Arrays.copyOf(buffer, length);
-          stream.transportState().runOnTransportThread(
-              () -> stream.transportState().inboundDataReceived(ReadableBuffers.wrap(copy), false));
-        }
-      }
-
+      batcher.readAvailable(input, logId, this::deliver);
       logger.log(FINEST, "[{0}] onDataAvailable: EXIT", logId);
     }
 
+    private void deliver(ReadableBuffer readableBuffer) {
+      stream.transportState().runOnTransportThread(
+          () -> stream.transportState().inboundDataReceived(readableBuffer, false));
+    }
+
     @Override
     public void onAllDataRead() {
       logger.log(FINE, "[{0}] onAllDataRead", logId);
@@ -335,6 +322,51 @@ public final class ServletAdapter {
     }
   }
 
+  /**
+   * Accumulates the reads performed during a single {@code onDataAvailable()}, so that they are
+   * handed to the transport thread in one task, instead of one task and one copy per read.
+   */
+  @VisibleForTesting
+  static final class InboundDataBatcher {
+    static final int BUFFER_SIZE = 16 * 1024;
+
+    private byte[] buffer = new byte[BUFFER_SIZE];
+
+    /**
+     * Reads from {@code input} while it is ready. A full buffer is passed to {@code sink} as is and
+     * replaced, while the rest is copied, so that the buffer is reused by the next call.
+     */
+    void readAvailable(ServletInputStream input, InternalLogId logId, Consumer<ReadableBuffer> sink)
+        throws IOException {
+      int buffered = 0;
+      while (input.isReady()) {
+        int length = input.read(buffer, buffered, buffer.length - buffered);
+        if (length == -1) {
+          logger.log(FINEST, "[{0}] inbound data: read end of stream", logId);
+          break;
+        }
+        if (logger.isLoggable(FINEST)) {
+          logger.log(
+              FINEST,
+              "[{0}] inbound data: length = {1}, bytes = {2}",
+              new Object[] {
+                  logId, length,
+                  ServletServerStream.toHexString(
+                      Arrays.copyOfRange(buffer, buffered, buffered + length), length)});
+        }
+        buffered += length;
+        if (buffered == buffer.length) {
+          sink.accept(ReadableBuffers.wrap(buffer, 0, buffered));
+          buffer = new byte[BUFFER_SIZE];
+          buffered = 0;
+        }
+      }
+      if (buffered > 0) {
+        sink.accept(ReadableBuffers.wrap(Arrays.copyOf(buffer, buffered), 0, buffered));
+      }
+    }
+  }
+
   /**
    * Checks whether an incoming {@code HttpServletRequest} may come from a gRPC client.
    *
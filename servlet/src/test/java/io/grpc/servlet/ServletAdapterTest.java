@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.servlet;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.grpc.servlet.ServletAdapter.InboundDataBatcher.BUFFER_SIZE;
+
+import io.grpc.InternalLogId;
+import io.grpc.internal.ReadableBuffer;
+import io.grpc.servlet.ServletAdapter.InboundDataBatcher;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link ServletAdapter}. */
+@RunWith(JUnit4.class)
+public class ServletAdapterTest {
+  private final InternalLogId logId = InternalLogId.allocate(ServletAdapterTest.class, null);
+  private final InboundDataBatcher batcher = new InboundDataBatcher();
+  private final List<ReadableBuffer> delivered = new ArrayList<>();
+
+  @Test
+  public void readsWithinBuffer_deliveredAsOneCopy() throws Exception {
+    byte[] first = bytes(100, 1);
+    byte[] second = bytes(200, 2);
+    FakeInputStream input = new FakeInputStream(first, second);
+
+    batcher.readAvailable(input, logId, delivered::add);
+
+    assertThat(delivered).hasSize(1);
+    assertThat(delivered.get(0).array()).isEqualTo(concat(first, second));
+    assertThat(input.reads).isEqualTo(2);
+  }
+
+  @Test
+  public void readsSpanningBuffer_fullBufferHandedOffAndTailCopied() throws Exception {
+    byte[] first = bytes(BUFFER_SIZE - 100, 1);
+    byte[] second = bytes(300, 2);
+    FakeInputStream input = new FakeInputStream(first, second);
+
+    batcher.readAvailable(input, logId, delivered::add);
+
+    assertThat(delivered).hasSize(2);
+    // The full buffer is handed off as is, without a copy.
+    assertThat(delivered.get(0).arrayOffset()).isEqualTo(0);
+    assertThat(delivered.get(0).array()).hasLength(BUFFER_SIZE);
+    assertThat(delivered.get(0).readableBytes()).isEqualTo(BUFFER_SIZE);
+    // Only the tail is copied, into an array of its own size.
+    assertThat(delivered.get(1).array()).hasLength(200);
+    assertThat(readAll(delivered)).isEqualTo(concat(first, second));
+  }
+
+  @Test
+  public void copiedTail_notOverwrittenByNextBatch() throws Exception {
+    byte[] first = bytes(BUFFER_SIZE + 10, 1);
+    batcher.readAvailable(new FakeInputStream(first), logId, delivered::add);
+    byte[] second = bytes(BUFFER_SIZE - 1, 2);
+    batcher.readAvailable(new FakeInputStream(second), logId, delivered::add);
+
+    assertThat(delivered).hasSize(3);
+    assertThat(readAll(delivered)).isEqualTo(concat(first, second));
+  }
+
+  @Test
+  public void endOfStreamMidBatch_deliversWhatWasRead() throws Exception {
+    byte[] first = bytes(BUFFER_SIZE, 1);
+    byte[] second = bytes(50, 2);
+    FakeInputStream input = new FakeInputStream(first, second, null, bytes(10, 3));
+
+    batcher.readAvailable(input, logId, delivered::add);
+
+    assertThat(delivered).hasSize(2);
+    assertThat(readAll(delivered)).isEqualTo(concat(first, second));
+    // Nothing is read past the end of the stream.
+    assertThat(input.reads).isEqualTo(3);
+  }
+
+  @Test
+  public void notReady_deliversNothing() throws Exception {
+    batcher.readAvailable(new FakeInputStream(), logId, delivered::add);
+
+    assertThat(delivered).isEmpty();
+  }
+
+  private static byte[] bytes(int length, int seed) {
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) (seed * 31 + i);
+    }
+    return bytes;
+  }
+
+  private static byte[] concat(byte[]... arrays) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (byte[] array : arrays) {
+      out.write(array, 0, array.length);
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] readAll(List<ReadableBuffer> buffers) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (ReadableBuffer buffer : buffers) {
+      byte[] bytes = new byte[buffer.readableBytes()];
+      buffer.readBytes(bytes, 0, bytes.length);
+      out.write(bytes, 0, bytes.length);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Returns the given chunks from successive reads, as much of each as fits, and is ready until
+   * they have all been read. A {@code null} chunk is the end of the stream.
+   */
+  private static final class FakeInputStream extends ServletInputStream {
+    private final Deque<byte[]> chunks = new ArrayDeque<>();
+    private boolean finished;
+    int reads;
+
+    FakeInputStream(byte[]... chunks) {
+      for (byte[] chunk : chunks) {
+        this.chunks.add(chunk == null ? new byte[0] : chunk);
+      }
+    }
+
+    @Override
+    public boolean isFinished() {
+      return finished;
+    }
+
+    @Override
+    public boolean isReady() {
+      return !chunks.isEmpty();
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int read() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      reads++;
+      byte[] chunk = chunks.remove();
+      if (chunk.length == 0) {
+        finished = true;
+        return -1;
+      }
+      int length = Math.min(len, chunk.length);
+      System.arraycopy(chunk, 0, b, off, length);
+      if (length < chunk.length) {
+        chunks.addFirst(Arrays.copyOfRange(chunk, length, chunk.length));
+      }
+      return length;
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.xds;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import io.envoyproxy.envoy.config.cluster.v3.Cluster;
+import io.envoyproxy.envoy.config.cluster.v3.Cluster.DiscoveryType;
+import io.envoyproxy.envoy.config.cluster.v3.Cluster.EdsClusterConfig;
+import io.envoyproxy.envoy.config.cluster.v3.Cluster.LbPolicy;
+import io.envoyproxy.envoy.config.core.v3.AggregatedConfigSource;
+import io.envoyproxy.envoy.config.core.v3.ConfigSource;
+import io.envoyproxy.envoy.service.discovery.v3.DiscoveryResponse;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusOr;
+import io.grpc.internal.ExponentialBackoffPolicy;
+import io.grpc.internal.GrpcUtil;
+import io.grpc.internal.TimeProvider;
+import io.grpc.xds.XdsClusterResource.CdsUpdate;
+import io.grpc.xds.client.Bootstrapper.BootstrapInfo;
+import io.grpc.xds.client.Bootstrapper.ServerInfo;
+import io.grpc.xds.client.EnvoyProtoData.Node;
+import io.grpc.xds.client.XdsClient.ResourceWatcher;
+import io.grpc.xds.client.XdsClientImpl;
+import io.grpc.xds.client.XdsClientMetricReporter;
+import io.grpc.xds.client.XdsTransportFactory.EventHandler;
+import io.grpc.xds.client.XdsTransportFactory.StreamingCall;
+import io.grpc.xds.client.XdsTransportFactory.XdsTransport;
+import io.grpc.xds.internal.security.TlsContextManagerImpl;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Cost of handling a State of the World CDS response for many clusters, of which only a few
+ * changed since the previous response.
+ */
+@State(Scope.Benchmark)
+public class CdsResponseBenchmark {
+  @Param({"10000"})
+  public int clusters;
+
+  @Param({"1", "10000"})
+  public int changedClusters;
+
+  private final FakeXdsTransport transport = new FakeXdsTransport();
+  private ScheduledExecutorService timeService;
+  private XdsClientImpl xdsClient;
+  private DiscoveryResponse[] responses;
+  private int nonce;
+
+  @Setup
+  public void setUp() {
+    ServerInfo serverInfo = ServerInfo.create("fake-server", InsecureChannelCredentials.create());
+    BootstrapInfo bootstrapInfo = BootstrapInfo.builder()
+        .servers(ImmutableList.of(serverInfo))
+        .node(Node.newBuilder().setId("benchmark").build())
+        .build();
+    timeService = Executors.newSingleThreadScheduledExecutor();
+    xdsClient = new XdsClientImpl(
+        info -> transport,
+        bootstrapInfo,
+        timeService,
+        new ExponentialBackoffPolicy.Provider(),
+        GrpcUtil.STOPWATCH_SUPPLIER,
+        TimeProvider.SYSTEM_TIME_PROVIDER,
+        MessagePrinter.INSTANCE,
+        new TlsContextManagerImpl(bootstrapInfo),
+        new XdsClientMetricReporter() {});
+    ResourceWatcher<CdsUpdate> watcher = new ResourceWatcher<CdsUpdate>() {
+      @Override
+      public void onResourceChanged(StatusOr<CdsUpdate> update) {}
+
+      @Override
+      public void onAmbientError(Status error) {}
+    };
+    for (int i = 0; i < clusters; i++) {
+      xdsClient.watchXdsResource(XdsClusterResource.getInstance(), "cluster-" + i, watcher);
+    }
+    responses = new DiscoveryResponse[] {
+        buildResponse("service-a-"), buildResponse("service-b-")};
+    handleNextResponse();
+  }
+
+  @TearDown
+  public void tearDown() {
+    xdsClient.shutdown();
+    timeService.shutdownNow();
+  }
+
+  /** Alternates between two responses, which differ in {@code changedClusters} clusters. */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void handleResponse() {
+    handleNextResponse();
+  }
+
+  private void handleNextResponse() {
+    DiscoveryResponse response = responses[nonce & 1].toBuilder()
+        .setNonce(Integer.toString(nonce++))
+        .build();
+    transport.handler.onRecvMessage(response);
+  }
+
+  private DiscoveryResponse buildResponse(String changedServicePrefix) {
+    DiscoveryResponse.Builder response = DiscoveryResponse.newBuilder()
+        .setTypeUrl(XdsClusterResource.getInstance().typeUrl())
+        .setVersionInfo(changedServicePrefix);
+    for (int i = 0; i < clusters; i++) {
+      String serviceName = i < changedClusters ? changedServicePrefix + i : "service-" + i;
+      response.addResources(Any.pack(Cluster.newBuilder()
+          .setName("cluster-" + i)
+          .setType(DiscoveryType.EDS)
+          .setEdsClusterConfig(EdsClusterConfig.newBuilder()
+              .setEdsConfig(ConfigSource.newBuilder()
+                  .setAds(AggregatedConfigSource.getDefaultInstance()))
+              .setServiceName(serviceName))
+          .setLbPolicy(LbPolicy.ROUND_ROBIN)
+          .build()));
+    }
+    return response.build();
+  }
+
+  /** A transport whose only stream is always ready, and which drops everything sent on it. */
+  private static final class FakeXdsTransport implements XdsTransport {
+    private EventHandler<DiscoveryResponse> handler;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <ReqT, RespT> StreamingCall<ReqT, RespT> createStreamingCall(
+        String fullMethodName, MethodDescriptor.Marshaller<ReqT> reqMarshaller,
+        MethodDescriptor.Marshaller<RespT> respMarshaller) {
+      return new StreamingCall<ReqT, RespT>() {
+        @Override
+        public void start(EventHandler<RespT> eventHandler) {
+          handler = (EventHandler<DiscoveryResponse>) eventHandler;
+          eventHandler.onReady();
+        }
+
+        @Override
+        public void sendMessage(ReqT message) {}
+
+        @Override
+        public void startRecvMessage() {}
+
+        @Override
+        public void sendError(Exception e) {}
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+      };
+    }
+
+    @Override
+    public void shutdown() {}
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.xds;
+
+import com.google.protobuf.UInt32Value;
+import io.envoyproxy.envoy.config.core.v3.Address;
+import io.envoyproxy.envoy.config.core.v3.Locality;
+import io.envoyproxy.envoy.config.core.v3.SocketAddress;
+import io.envoyproxy.envoy.config.endpoint.v3.ClusterLoadAssignment;
+import io.envoyproxy.envoy.config.endpoint.v3.Endpoint;
+import io.envoyproxy.envoy.config.endpoint.v3.LbEndpoint;
+import io.envoyproxy.envoy.config.endpoint.v3.LocalityLbEndpoints;
+import io.grpc.xds.XdsEndpointResource.EdsUpdate;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Heap retained by the EDS updates of many targets, which each parse the same endpoints with
+ * their own XdsClient. Run with {@code -prof gc} to also see the allocations.
+ */
+@State(Scope.Benchmark)
+public class EdsUpdateFootprintBenchmark {
+  @Param({"false", "true"})
+  public boolean intern;
+
+  @Param({"20"})
+  public int targets;
+
+  @Param({"20000"})
+  public int endpoints;
+
+  private ClusterLoadAssignment assignment;
+
+  /** Reports the heap retained by the updates of all targets. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint {
+    public long retainedBytes;
+  }
+
+  @Setup
+  public void setUp() {
+    XdsResourceInterner.enabled = intern;
+    ClusterLoadAssignment.Builder builder =
+        ClusterLoadAssignment.newBuilder().setClusterName("cluster");
+    int localities = 10;
+    for (int l = 0; l < localities; l++) {
+      LocalityLbEndpoints.Builder locality = LocalityLbEndpoints.newBuilder()
+          .setLocality(Locality.newBuilder().setRegion("region").setZone("zone-" + l))
+          .setLoadBalancingWeight(UInt32Value.of(1));
+      for (int e = l; e < endpoints; e += localities) {
+        locality.addLbEndpoints(LbEndpoint.newBuilder()
+            .setEndpoint(Endpoint.newBuilder()
+                .setAddress(Address.newBuilder()
+                    .setSocketAddress(SocketAddress.newBuilder()
+                        .setAddress("10." + ((e >> 16) & 0xff) + "." + ((e >> 8) & 0xff) + "."
+                            + (e & 0xff))
+                        .setPortValue(8080))))
+            .setLoadBalancingWeight(UInt32Value.of(1)));
+      }
+      builder.addEndpoints(locality);
+    }
+    assignment = builder.build();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  public List<EdsUpdate> parseForAllTargets(Footprint footprint) throws Exception {
+    long before = usedHeap();
+    List<EdsUpdate> updates = new ArrayList<>(targets);
+    for (int i = 0; i < targets; i++) {
+      updates.add(XdsEndpointResource.getInstance().doParse(null, assignment));
+    }
+    footprint.retainedBytes = usedHeap() - before;
+    return updates;
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
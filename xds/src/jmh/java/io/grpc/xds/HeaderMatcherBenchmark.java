@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.xds;
+
+import com.google.re2j.Pattern;
+import io.grpc.Metadata;
+import io.grpc.xds.VirtualHost.Route.RouteMatch;
+import io.grpc.xds.VirtualHost.Route.RouteMatch.PathMatcher;
+import io.grpc.xds.internal.Matchers.HeaderMatcher;
+import io.grpc.xds.internal.Matchers.StringMatcher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of matching the headers of an RPC, when selecting its route and when evaluating RBAC
+ * policies that each match the same headers.
+ */
+@State(Scope.Benchmark)
+public class HeaderMatcherBenchmark {
+  @Param({"20"})
+  public int routes;
+
+  private final ThreadSafeRandom random = ThreadSafeRandom.ThreadSafeRandomImpl.instance;
+  private Metadata headers;
+  private List<RouteMatch> routeMatches;
+  private List<HeaderMatcher> policyMatchers;
+
+  @Setup
+  public void setUp() {
+    headers = new Metadata();
+    headers.put(Metadata.Key.of("x-tenant", Metadata.ASCII_STRING_MARSHALLER),
+        "tenant-" + (routes - 1));
+    headers.put(Metadata.Key.of("user-agent", Metadata.ASCII_STRING_MARSHALLER),
+        "grpc-java-netty/1.80.0");
+    headers.put(Metadata.Key.of("x-client-host", Metadata.ASCII_STRING_MARSHALLER),
+        "Backend-7.Prod.Example.COM");
+
+    // Only the last route matches, after every route matched all the headers.
+    routeMatches = new ArrayList<>(routes);
+    for (int i = 0; i < routes; i++) {
+      routeMatches.add(RouteMatch.create(
+          PathMatcher.fromPrefix("/", true),
+          Arrays.asList(
+              HeaderMatcher.forSafeRegEx(
+                  "user-agent", Pattern.compile("grpc-java-[a-z]+/1\\..*"), false),
+              HeaderMatcher.forString(
+                  "x-client-host", StringMatcher.forSuffix(".prod.example.com", true), false),
+              HeaderMatcher.forExactValue("x-tenant", "tenant-" + i, false)),
+          null));
+    }
+
+    // Policies that deny unexpected clients, none of which match.
+    policyMatchers = new ArrayList<>(routes);
+    for (int i = 0; i < routes; i++) {
+      policyMatchers.add(HeaderMatcher.forString(
+          "x-client-host", StringMatcher.forPrefix("BLOCKED-" + i + ".", true), false));
+      policyMatchers.add(HeaderMatcher.forSafeRegEx(
+          "user-agent", Pattern.compile("legacy-client-" + i + "/[0-9.]+"), false));
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public RouteMatch selectRoute() {
+    RoutingUtils.HeaderValues headerValues = new RoutingUtils.HeaderValues(headers);
+    for (RouteMatch routeMatch : routeMatches) {
+      if (RoutingUtils.matchRoute(routeMatch, "/FooService/barMethod", headerValues, random)) {
+        return routeMatch;
+      }
+    }
+    return null;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public boolean evaluatePolicies() {
+    RoutingUtils.HeaderValues headerValues = new RoutingUtils.HeaderValues(headers);
+    for (HeaderMatcher matcher : policyMatchers) {
+      if (matcher.matches(headerValues.get(matcher.name()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.xds;
+
+import static io.grpc.ConnectivityState.READY;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.grpc.ConnectivityState;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer;
+import io.grpc.LoadBalancer.Helper;
+import io.grpc.LoadBalancer.ResolvedAddresses;
+import io.grpc.LoadBalancer.SubchannelPicker;
+import io.grpc.LoadBalancerProvider;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.util.GracefulSwitchLoadBalancer;
+import io.grpc.xds.WeightedTargetLoadBalancerProvider.WeightedPolicySelection;
+import io.grpc.xds.WeightedTargetLoadBalancerProvider.WeightedTargetConfig;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Cost of an EDS update for the weighted_target policy of a priority, when a single endpoint of
+ * one locality changed. The child policies rebuild a picker over their addresses, like the
+ * endpoint picking policies do.
+ */
+@State(Scope.Benchmark)
+public class LocalityUpdateBenchmark {
+  @Param({"100"})
+  public int localities;
+
+  @Param({"100"})
+  public int endpointsPerLocality;
+
+  private WeightedTargetLoadBalancer weightedTargetLb;
+  private ResolvedAddresses[] updates;
+  private int updateIndex;
+
+  @Setup
+  public void setUp() {
+    LoadBalancerProvider childProvider = new PickerBuildingLoadBalancer.Provider();
+    ImmutableMap.Builder<String, WeightedPolicySelection> targets = ImmutableMap.builder();
+    for (int l = 0; l < localities; l++) {
+      targets.put("locality-" + l, new WeightedPolicySelection(
+          1, GracefulSwitchLoadBalancer.createLoadBalancingPolicyConfig(childProvider, null)));
+    }
+    WeightedTargetConfig config = new WeightedTargetConfig(targets.build());
+    // The two updates only differ in the port of the last endpoint of the first locality.
+    updates = new ResolvedAddresses[] {
+        buildUpdate(config, 8080), buildUpdate(config, 8081)};
+    weightedTargetLb = new WeightedTargetLoadBalancer(new FakeHelper());
+    weightedTargetLb.acceptResolvedAddresses(updates[0]);
+  }
+
+  @TearDown
+  public void tearDown() {
+    weightedTargetLb.shutdown();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Status oneEndpointChanged() {
+    return weightedTargetLb.acceptResolvedAddresses(updates[++updateIndex & 1]);
+  }
+
+  private ResolvedAddresses buildUpdate(WeightedTargetConfig config, int changedPort) {
+    List<EquivalentAddressGroup> addresses = new ArrayList<>();
+    for (int l = 0; l < localities; l++) {
+      for (int e = 0; e < endpointsPerLocality; e++) {
+        int port = l == 0 && e == endpointsPerLocality - 1 ? changedPort : 8080;
+        EquivalentAddressGroup eag = new EquivalentAddressGroup(
+            InetSocketAddress.createUnresolved("10.0." + l + "." + e, port));
+        addresses.add(AddressFilter.setPathFilter(eag, ImmutableList.of("locality-" + l)));
+      }
+    }
+    return ResolvedAddresses.newBuilder()
+        .setAddresses(addresses)
+        .setLoadBalancingPolicyConfig(config)
+        .build();
+  }
+
+  /** Builds a picker over its addresses on each update. */
+  private static final class PickerBuildingLoadBalancer extends LoadBalancer {
+    private final Helper helper;
+
+    PickerBuildingLoadBalancer(Helper helper) {
+      this.helper = helper;
+    }
+
+    @Override
+    public Status acceptResolvedAddresses(ResolvedAddresses resolvedAddresses) {
+      List<EquivalentAddressGroup> addresses =
+          new ArrayList<>(resolvedAddresses.getAddresses());
+      helper.updateBalancingState(READY, new SubchannelPicker() {
+        @Override
+        public PickResult pickSubchannel(PickSubchannelArgs args) {
+          return PickResult.withError(
+              Status.UNAVAILABLE.withDescription(addresses.size() + " addresses"));
+        }
+      });
+      return Status.OK;
+    }
+
+    @Override
+    public void handleNameResolutionError(Status error) {}
+
+    @Override
+    public void shutdown() {}
+
+    static final class Provider extends LoadBalancerProvider {
+      @Override
+      public boolean isAvailable() {
+        return true;
+      }
+
+      @Override
+      public int getPriority() {
+        return 5;
+      }
+
+      @Override
+      public String getPolicyName() {
+        return "picker_building";
+      }
+
+      @Override
+      public LoadBalancer newLoadBalancer(Helper helper) {
+        return new PickerBuildingLoadBalancer(helper);
+      }
+    }
+  }
+
+  private static final class FakeHelper extends Helper {
+    @Override
+    public ManagedChannel createOobChannel(EquivalentAddressGroup eag, String authority) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBalancingState(ConnectivityState newState, SubchannelPicker newPicker) {}
+
+    @Override
+    public String getAuthority() {
+      return "authority";
+    }
+  }
+}
@@ -24,6 +24,7 @@ import io.grpc.NameResolver.ResolutionResultAttr;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import javax.annotation.Nullable;
 
 final class AddressFilter {
@@ -83,6 +84,24 @@ final class AddressFilter {
       this.name = checkNotNull(name, "name");
     }
 
+    // Equal paths keep the addresses of unchanged children equal across updates.
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof PathChain)) {
+        return false;
+      }
+      PathChain that = (PathChain) o;
+      return name.equals(that.name) && Objects.equals(next, that.next);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, next);
+    }
+
     @Override
     public String toString() {
       return name + (next == null ? "" : ", " + next);
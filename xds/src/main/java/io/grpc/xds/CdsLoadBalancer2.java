@@ -165,10 +165,15 @@ final class CdsLoadBalancer2 extends LoadBalancer {
           new PriorityLbConfig(
               Collections.unmodifiableMap(result.priorityChildConfigs),
               Collections.unmodifiableList(result.priorities)));
+      // The policies below the cluster don't use the XdsConfig, which changes with any resource.
+      // Without it, children whose endpoints did not change get equal updates, and skip them.
       return delegate.acceptResolvedAddresses(
           resolvedAddresses.toBuilder()
             .setLoadBalancingPolicyConfig(gracefulConfig)
             .setAddresses(Collections.unmodifiableList(addresses))
+            .setAttributes(resolvedAddresses.getAttributes().toBuilder()
+              .discard(XdsAttributes.XDS_CONFIG)
+              .build())
             .build());
     } else if (clusterConfig.getChildren() instanceof AggregateConfig) {
       Map<String, PriorityChildConfig> priorityChildConfigs = new HashMap<>();
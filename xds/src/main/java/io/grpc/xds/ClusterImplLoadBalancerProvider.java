@@ -37,6 +37,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
 import javax.annotation.Nullable;
 
@@ -119,6 +120,32 @@ public final class ClusterImplLoadBalancerProvider extends LoadBalancerProvider
       this.backendMetricPropagation = backendMetricPropagation;
     }
 
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      ClusterImplConfig that = (ClusterImplConfig) o;
+      return cluster.equals(that.cluster)
+          && Objects.equals(edsServiceName, that.edsServiceName)
+          && Objects.equals(lrsServerInfo, that.lrsServerInfo)
+          && Objects.equals(maxConcurrentRequests, that.maxConcurrentRequests)
+          && Objects.equals(tlsContext, that.tlsContext)
+          && dropCategories.equals(that.dropCategories)
+          && childConfig.equals(that.childConfig)
+          && filterMetadata.equals(that.filterMetadata)
+          && Objects.equals(backendMetricPropagation, that.backendMetricPropagation);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(cluster, edsServiceName, lrsServerInfo, maxConcurrentRequests,
+          tlsContext, dropCategories, childConfig, filterMetadata, backendMetricPropagation);
+    }
+
     @Override
     public String toString() {
       return MoreObjects.toStringHelper(this)
@@ -30,6 +30,7 @@ import io.envoyproxy.envoy.config.cluster.v3.Cluster.RingHashLbConfig;
 import io.envoyproxy.envoy.config.cluster.v3.LoadBalancingPolicy;
 import io.envoyproxy.envoy.config.cluster.v3.LoadBalancingPolicy.Policy;
 import io.envoyproxy.envoy.extensions.load_balancing_policies.client_side_weighted_round_robin.v3.ClientSideWeightedRoundRobin;
+import io.envoyproxy.envoy.extensions.load_balancing_policies.common.v3.SlowStartConfig;
 import io.envoyproxy.envoy.extensions.load_balancing_policies.least_request.v3.LeastRequest;
 import io.envoyproxy.envoy.extensions.load_balancing_policies.pick_first.v3.PickFirst;
 import io.envoyproxy.envoy.extensions.load_balancing_policies.ring_hash.v3.RingHash;
@@ -93,6 +94,11 @@ class LoadBalancerConfigFactory {
   static final String ERROR_UTILIZATION_PENALTY = "errorUtilizationPenalty";
   static final String METRIC_NAMES_FOR_COMPUTING_UTILIZATION = "metricNamesForComputingUtilization";
 
+  static final String SLOW_START_CONFIG = "slowStartConfig";
+  static final String SLOW_START_WINDOW = "slowStartWindow";
+  static final String AGGRESSION = "aggression";
+  static final String MIN_WEIGHT_PERCENT = "minWeightPercent";
+
   /**
    * Factory method for creating a new {link LoadBalancerConfigConverter} for a given xDS {@link
    * Cluster}.
@@ -137,7 +143,8 @@ class LoadBalancerConfigFactory {
   private static ImmutableMap<String, ?> buildWrrConfig(String blackoutPeriod,
       String weightExpirationPeriod, String oobReportingPeriod, Boolean enableOobLoadReport,
       String weightUpdatePeriod, Float errorUtilizationPenalty,
-      ImmutableList<String> metricNamesForComputingUtilization) {
+      ImmutableList<String> metricNamesForComputingUtilization,
+      ImmutableMap<String, ?> slowStartConfig) {
     ImmutableMap.Builder<String, Object> configBuilder = ImmutableMap.builder();
     if (blackoutPeriod != null) {
       configBuilder.put(BLACK_OUT_PERIOD, blackoutPeriod);
@@ -161,6 +168,9 @@ class LoadBalancerConfigFactory {
         && !metricNamesForComputingUtilization.isEmpty()) {
       configBuilder.put(METRIC_NAMES_FOR_COMPUTING_UTILIZATION, metricNamesForComputingUtilization);
     }
+    if (slowStartConfig != null) {
+      configBuilder.put(SLOW_START_CONFIG, slowStartConfig);
+    }
     return ImmutableMap.of(WeightedRoundRobinLoadBalancerProvider.SCHEME,
         configBuilder.buildOrThrow());
   }
@@ -297,13 +307,28 @@ class LoadBalancerConfigFactory {
             wrr.hasEnableOobLoadReport() ? wrr.getEnableOobLoadReport().getValue() : null,
             wrr.hasWeightUpdatePeriod() ? Durations.toString(wrr.getWeightUpdatePeriod()) : null,
             wrr.hasErrorUtilizationPenalty() ? wrr.getErrorUtilizationPenalty().getValue() : null,
-            ImmutableList.copyOf(wrr.getMetricNamesForComputingUtilizationList()));
+            ImmutableList.copyOf(wrr.getMetricNamesForComputingUtilizationList()),
+            wrr.hasSlowStartConfig() ? convertSlowStartConfig(wrr.getSlowStartConfig()) : null);
       } catch (IllegalArgumentException ex) {
         throw new ResourceInvalidException("Invalid duration in weighted round robin config: "
             + ex.getMessage());
       }
     }
 
+    private static ImmutableMap<String, ?> convertSlowStartConfig(SlowStartConfig slowStart) {
+      ImmutableMap.Builder<String, Object> configBuilder = ImmutableMap.builder();
+      if (slowStart.hasSlowStartWindow()) {
+        configBuilder.put(SLOW_START_WINDOW, Durations.toString(slowStart.getSlowStartWindow()));
+      }
+      if (slowStart.hasAggression()) {
+        configBuilder.put(AGGRESSION, slowStart.getAggression().getDefaultValue());
+      }
+      if (slowStart.hasMinWeightPercent()) {
+        configBuilder.put(MIN_WEIGHT_PERCENT, slowStart.getMinWeightPercent().getValue());
+      }
+      return configBuilder.buildOrThrow();
+    }
+
     /**
      * Converts a wrr_locality {@link Any} configuration to service config format.
      */
@@ -128,6 +128,9 @@ final class PriorityLoadBalancer extends LoadBalancer {
     for (ChildLbState child : childValues) {
       if (priorityNames.contains(child.priority)) {
         child.lb.handleNameResolutionError(error);
+        // The child may now show the error, so the next addresses must reach it even if equal.
+        child.childResolvedAddresses = null;
+        child.childAcceptStatus = Status.OK;
         gotoTransientFailure = false;
       }
     }
@@ -218,6 +221,9 @@ final class PriorityLoadBalancer extends LoadBalancer {
     @Nullable ScheduledHandle deletionTimer;
     ConnectivityState connectivityState = CONNECTING;
     SubchannelPicker picker = new FixedResultPicker(PickResult.withNoResult());
+    // The last addresses given to the child, and its result, to skip updates that change nothing.
+    @Nullable ResolvedAddresses childResolvedAddresses;
+    Status childAcceptStatus = Status.OK;
 
     ChildLbState(final String priority, boolean ignoreReresolution) {
       this.priority = priority;
@@ -293,11 +299,16 @@ final class PriorityLoadBalancer extends LoadBalancer {
     Status updateResolvedAddresses() {
       PriorityLbConfig config =
           (PriorityLbConfig) resolvedAddresses.getLoadBalancingPolicyConfig();
-      return lb.acceptResolvedAddresses(
-          resolvedAddresses.toBuilder()
-              .setAddresses(AddressFilter.filter(resolvedAddresses.getAddresses(), priority))
-              .setLoadBalancingPolicyConfig(config.childConfigs.get(priority).childConfig)
-              .build());
+      ResolvedAddresses newResolvedAddresses = resolvedAddresses.toBuilder()
+          .setAddresses(AddressFilter.filter(resolvedAddresses.getAddresses(), priority))
+          .setLoadBalancingPolicyConfig(config.childConfigs.get(priority).childConfig)
+          .build();
+      if (newResolvedAddresses.equals(childResolvedAddresses)) {
+        return childAcceptStatus;
+      }
+      childResolvedAddresses = newResolvedAddresses;
+      childAcceptStatus = lb.acceptResolvedAddresses(newResolvedAddresses);
+      return childAcceptStatus;
     }
 
     final class ChildHelper extends ForwardingLoadBalancerHelper {
@@ -24,8 +24,10 @@ import io.grpc.xds.VirtualHost.Route.RouteMatch;
 import io.grpc.xds.VirtualHost.Route.RouteMatch.PathMatcher;
 import io.grpc.xds.internal.Matchers.FractionMatcher;
 import io.grpc.xds.internal.Matchers.HeaderMatcher;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import javax.annotation.Nullable;
 
 /**
@@ -145,11 +147,20 @@ final class RoutingUtils {
    */
   static boolean matchRoute(RouteMatch routeMatch, String fullMethodName,
       Metadata headers, ThreadSafeRandom random) {
+    return matchRoute(routeMatch, fullMethodName, new HeaderValues(headers), random);
+  }
+
+  /**
+   * Returns {@code true} iff the given {@link RouteMatch} matches the RPC's full method name and
+   * headers. The same {@link HeaderValues} should be used for all routes matched for an RPC.
+   */
+  static boolean matchRoute(RouteMatch routeMatch, String fullMethodName,
+      HeaderValues headerValues, ThreadSafeRandom random) {
     if (!matchPath(routeMatch.pathMatcher(), fullMethodName)) {
       return false;
     }
     for (HeaderMatcher headerMatcher : routeMatch.headerMatchers()) {
-      if (!headerMatcher.matches(getHeaderValue(headers, headerMatcher.name()))) {
+      if (!headerMatcher.matches(headerValues.get(headerMatcher.name()))) {
         return false;
       }
     }
@@ -163,14 +174,38 @@ final class RoutingUtils {
           ? pathMatcher.path().equals(fullMethodName)
           : pathMatcher.path().equalsIgnoreCase(fullMethodName);
     } else if (pathMatcher.prefix() != null) {
+      String prefix = pathMatcher.prefix();
       return pathMatcher.caseSensitive()
-          ? fullMethodName.startsWith(pathMatcher.prefix())
-          : fullMethodName.toLowerCase(Locale.US).startsWith(
-              pathMatcher.prefix().toLowerCase(Locale.US));
+          ? fullMethodName.startsWith(prefix)
+          : fullMethodName.regionMatches(true, 0, prefix, 0, prefix.length());
     }
     return pathMatcher.regEx().matches(fullMethodName);
   }
 
+  /**
+   * The values of the headers of an RPC, as seen by header matchers. A value is computed the first
+   * time it is needed, and then shared by all the routes matched for the RPC.
+   */
+  static final class HeaderValues {
+    private final Metadata headers;
+    // Null values are cached too, for headers that are absent.
+    private final Map<String, String> values = new HashMap<>();
+
+    HeaderValues(Metadata headers) {
+      this.headers = headers;
+    }
+
+    @Nullable
+    String get(String headerName) {
+      String value = values.get(headerName);
+      if (value == null && !values.containsKey(headerName)) {
+        value = getHeaderValue(headers, headerName);
+        values.put(headerName, value);
+      }
+      return value;
+    }
+  }
+
   @Nullable
   private static String getHeaderValue(Metadata headers, String headerName) {
     if (headerName.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
@@ -36,6 +36,8 @@ import io.grpc.xds.client.XdsInitializationException;
 import io.grpc.xds.internal.security.TlsContextManagerImpl;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -50,6 +52,32 @@ import javax.annotation.concurrent.ThreadSafe;
 final class SharedXdsClientPoolProvider implements XdsClientPoolFactory {
   private static final boolean LOG_XDS_NODE_ID = Boolean.parseBoolean(
       System.getenv("GRPC_LOG_XDS_NODE_ID"));
+  // Parses large xDS responses on PARSE_EXECUTOR, instead of the XdsClient's
+  // SynchronizationContext.
+  private static final boolean PARALLEL_PARSING =
+      GrpcUtil.getFlag("GRPC_EXPERIMENTAL_XDS_PARALLEL_PARSING", false);
+  // Shared by the XdsClients of all targets. Parsing is CPU bound, so it gets a thread per core,
+  // which are not shared with unrelated work like the common fork-join pool's.
+  private static final SharedResourceHolder.Resource<ExecutorService> PARSE_EXECUTOR =
+      new SharedResourceHolder.Resource<ExecutorService>() {
+        private static final String NAME = "grpc-xds-parse";
+
+        @Override
+        public ExecutorService create() {
+          return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+              GrpcUtil.getThreadFactory(NAME + "-%d", true));
+        }
+
+        @Override
+        public void close(ExecutorService instance) {
+          instance.shutdown();
+        }
+
+        @Override
+        public String toString() {
+          return NAME;
+        }
+      };
   private static final Logger log = Logger.getLogger(XdsClientImpl.class.getName());
   private static final ExponentialBackoffPolicy.Provider BACKOFF_POLICY_PROVIDER =
       new ExponentialBackoffPolicy.Provider();
@@ -138,6 +166,9 @@ final class SharedXdsClientPoolProvider implements XdsClientPoolFactory {
     @GuardedBy("lock")
     private ScheduledExecutorService scheduler;
     @GuardedBy("lock")
+    @Nullable
+    private ExecutorService parseExecutor;
+    @GuardedBy("lock")
     private XdsClient xdsClient;
     @GuardedBy("lock")
     private int refCount;
@@ -170,6 +201,9 @@ final class SharedXdsClientPoolProvider implements XdsClientPoolFactory {
             log.log(Level.INFO, "xDS node ID: {0}", bootstrapInfo.node().getId());
           }
           scheduler = SharedResourceHolder.get(GrpcUtil.TIMER_SERVICE);
+          if (PARALLEL_PARSING) {
+            parseExecutor = SharedResourceHolder.get(PARSE_EXECUTOR);
+          }
           metricReporter = new XdsClientMetricReporterImpl(metricRecorder, target);
           GrpcXdsTransportFactory xdsTransportFactory =
               new GrpcXdsTransportFactory(transportCallCredentials);
@@ -183,7 +217,8 @@ final class SharedXdsClientPoolProvider implements XdsClientPoolFactory {
                   TimeProvider.SYSTEM_TIME_PROVIDER,
                   MessagePrinter.INSTANCE,
                   new TlsContextManagerImpl(bootstrapInfo),
-                  metricReporter);
+                  metricReporter,
+                  parseExecutor);
           metricReporter.setXdsClient(xdsClient);
         }
         refCount++;
@@ -202,6 +237,9 @@ final class SharedXdsClientPoolProvider implements XdsClientPoolFactory {
           metricReporter = null;
           targetToXdsClientMap.remove(target);
           scheduler = SharedResourceHolder.release(GrpcUtil.TIMER_SERVICE, scheduler);
+          if (parseExecutor != null) {
+            parseExecutor = SharedResourceHolder.release(PARSE_EXECUTOR, parseExecutor);
+          }
         } else if (refCount < 0) {
           assert false; // We want our tests to fail
           log.log(Level.SEVERE, "Negative reference count. File a bug", new Exception());
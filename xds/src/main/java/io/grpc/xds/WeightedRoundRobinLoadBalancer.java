@@ -271,6 +271,9 @@ final class WeightedRoundRobinLoadBalancer extends MultiChildLoadBalancer {
               ImmutableList.of(helper.getChannelTarget()),
               ImmutableList.of(locality, backendService));
     }
+    if (config.slowStartWindowNanos > 0) {
+      applySlowStart(picker.children, newWeights);
+    }
     boolean weightsEffective = picker.updateWeight(newWeights);
     if (!weightsEffective) {
       helper.getMetricRecorder()
@@ -279,6 +282,55 @@ final class WeightedRoundRobinLoadBalancer extends MultiChildLoadBalancer {
     }
   }
 
+  /**
+   * Scales down the weights of the endpoints that became READY within the slow start window, so
+   * that their traffic ramps up instead of starting at their full weight, or at the mean weight
+   * when they have no weight yet. As in Envoy, the weight is scaled by {@code max(minWeightPercent,
+   * timeFactor ^ (1 / aggression))}. The weights are updated every weight update period, which
+   * bounds how smooth the ramp is.
+   */
+  private void applySlowStart(List<ChildLbState> children, float[] weights) {
+    long now = ticker.nanoTime();
+    boolean rampingUp = false;
+    for (ChildLbState child : children) {
+      if (isRampingUp(((WeightedChildLbState) child).readySince, now)) {
+        rampingUp = true;
+        break;
+      }
+    }
+    if (!rampingUp) {
+      return;
+    }
+    double sumWeight = 0;
+    int numWeighted = 0;
+    for (float weight : weights) {
+      if (weight > 0) {
+        sumWeight += weight;
+        numWeighted++;
+      }
+    }
+    // Without any weights, e.g. when the endpoints don't report their load, the endpoints are
+    // weighted equally, and those ramping up get a fraction of that weight.
+    float meanWeight = numWeighted > 0 ? (float) (sumWeight / numWeighted) : 1;
+    double minFactor = config.slowStartMinWeightPercent / 100;
+    for (int i = 0; i < weights.length; i++) {
+      long readySince = ((WeightedChildLbState) children.get(i)).readySince;
+      if (!isRampingUp(readySince, now)) {
+        if (numWeighted == 0) {
+          weights[i] = 1;
+        }
+        continue;
+      }
+      double timeFactor = (double) (now - readySince) / config.slowStartWindowNanos;
+      double factor = Math.max(minFactor, Math.pow(timeFactor, 1 / config.slowStartAggression));
+      weights[i] = (float) ((weights[i] > 0 ? weights[i] : meanWeight) * factor);
+    }
+  }
+
+  private boolean isRampingUp(long readySince, long now) {
+    return readySince != infTime && now - readySince < config.slowStartWindowNanos;
+  }
+
   private void updateBalancingState(ConnectivityState state, SubchannelPicker picker) {
     if (state != currentConnectivityState || !picker.equals(currentPicker)) {
       getHelper().updateBalancingState(state, picker);
@@ -294,6 +346,8 @@ final class WeightedRoundRobinLoadBalancer extends MultiChildLoadBalancer {
     private volatile long lastUpdated;
     private volatile long nonEmptySince;
     private volatile double weight = 0;
+    // When the endpoint last became READY, for slow start. infTime if it never did.
+    private volatile long readySince = infTime;
 
     private OrcaReportListener orcaReportListener;
 
@@ -482,6 +536,7 @@ final class WeightedRoundRobinLoadBalancer extends MultiChildLoadBalancer {
         public void onSubchannelState(ConnectivityStateInfo newState) {
           if (newState.getState().equals(ConnectivityState.READY)) {
             owner.nonEmptySince = infTime;
+            owner.readySince = ticker.nanoTime();
           }
           listener.onSubchannelState(newState);
         }
@@ -768,6 +823,9 @@ final class WeightedRoundRobinLoadBalancer extends MultiChildLoadBalancer {
     final long weightUpdatePeriodNanos;
     final float errorUtilizationPenalty;
     final ImmutableList<String> metricNamesForComputingUtilization;
+    final long slowStartWindowNanos;
+    final double slowStartAggression;
+    final double slowStartMinWeightPercent;
 
     public static Builder newBuilder() {
       return new Builder();
@@ -776,7 +834,8 @@ final class WeightedRoundRobinLoadBalancer extends MultiChildLoadBalancer {
     private WeightedRoundRobinLoadBalancerConfig(long blackoutPeriodNanos,
         long weightExpirationPeriodNanos, boolean enableOobLoadReport, long oobReportingPeriodNanos,
         long weightUpdatePeriodNanos, float errorUtilizationPenalty,
-        ImmutableList<String> metricNamesForComputingUtilization) {
+        ImmutableList<String> metricNamesForComputingUtilization, long slowStartWindowNanos,
+        double slowStartAggression, double slowStartMinWeightPercent) {
       this.blackoutPeriodNanos = blackoutPeriodNanos;
       this.weightExpirationPeriodNanos = weightExpirationPeriodNanos;
       this.enableOobLoadReport = enableOobLoadReport;
@@ -784,6 +843,9 @@ final class WeightedRoundRobinLoadBalancer extends MultiChildLoadBalancer {
       this.weightUpdatePeriodNanos = weightUpdatePeriodNanos;
       this.errorUtilizationPenalty = errorUtilizationPenalty;
       this.metricNamesForComputingUtilization = metricNamesForComputingUtilization;
+      this.slowStartWindowNanos = slowStartWindowNanos;
+      this.slowStartAggression = slowStartAggression;
+      this.slowStartMinWeightPercent = slowStartMinWeightPercent;
     }
 
     @Override
@@ -800,14 +862,18 @@ final class WeightedRoundRobinLoadBalancer extends MultiChildLoadBalancer {
           // Float.compare considers NaNs equal
           && Float.compare(this.errorUtilizationPenalty, that.errorUtilizationPenalty) == 0
           && Objects.equals(this.metricNamesForComputingUtilization,
-              that.metricNamesForComputingUtilization);
+              that.metricNamesForComputingUtilization)
+          && this.slowStartWindowNanos == that.slowStartWindowNanos
+          && Double.compare(this.slowStartAggression, that.slowStartAggression) == 0
+          && Double.compare(this.slowStartMinWeightPercent, that.slowStartMinWeightPercent) == 0;
     }
 
     @Override
     public int hashCode() {
       return Objects.hash(blackoutPeriodNanos, weightExpirationPeriodNanos, enableOobLoadReport,
           oobReportingPeriodNanos, weightUpdatePeriodNanos, errorUtilizationPenalty,
-          metricNamesForComputingUtilization);
+          metricNamesForComputingUtilization, slowStartWindowNanos, slowStartAggression,
+          slowStartMinWeightPercent);
     }
 
     static final class Builder {
@@ -818,6 +884,9 @@ final class WeightedRoundRobinLoadBalancer extends MultiChildLoadBalancer {
       long weightUpdatePeriodNanos = 1_000_000_000L; // 1s
       float errorUtilizationPenalty = 1.0F;
       ImmutableList<String> metricNamesForComputingUtilization = ImmutableList.of();
+      long slowStartWindowNanos = 0; // disabled
+      double slowStartAggression = 1.0;
+      double slowStartMinWeightPercent = 10.0;
 
       private Builder() {
 
@@ -862,10 +931,29 @@ final class WeightedRoundRobinLoadBalancer extends MultiChildLoadBalancer {
         return this;
       }
 
+      Builder setSlowStartWindowNanos(long slowStartWindowNanos) {
+        this.slowStartWindowNanos = slowStartWindowNanos;
+        return this;
+      }
+
+      Builder setSlowStartAggression(double slowStartAggression) {
+        checkArgument(slowStartAggression > 0, "slowStartAggression must be positive");
+        this.slowStartAggression = slowStartAggression;
+        return this;
+      }
+
+      Builder setSlowStartMinWeightPercent(double slowStartMinWeightPercent) {
+        checkArgument(slowStartMinWeightPercent >= 0 && slowStartMinWeightPercent <= 100,
+            "slowStartMinWeightPercent must be within [0, 100]");
+        this.slowStartMinWeightPercent = slowStartMinWeightPercent;
+        return this;
+      }
+
       WeightedRoundRobinLoadBalancerConfig build() {
         return new WeightedRoundRobinLoadBalancerConfig(blackoutPeriodNanos,
             weightExpirationPeriodNanos, enableOobLoadReport, oobReportingPeriodNanos,
-            weightUpdatePeriodNanos, errorUtilizationPenalty, metricNamesForComputingUtilization);
+            weightUpdatePeriodNanos, errorUtilizationPenalty, metricNamesForComputingUtilization,
+            slowStartWindowNanos, slowStartAggression, slowStartMinWeightPercent);
       }
     }
   }
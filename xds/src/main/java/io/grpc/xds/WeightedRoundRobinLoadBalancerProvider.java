@@ -82,6 +82,7 @@ public final class WeightedRoundRobinLoadBalancerProvider extends LoadBalancerPr
     Float errorUtilizationPenalty = JsonUtil.getNumberAsFloat(rawConfig, "errorUtilizationPenalty");
     List<String> metricNamesForComputingUtilization = JsonUtil.getListOfStrings(rawConfig,
         "metricNamesForComputingUtilization");
+    Map<String, ?> slowStartConfig = JsonUtil.getObject(rawConfig, "slowStartConfig");
 
     WeightedRoundRobinLoadBalancerConfig.Builder configBuilder =
         WeightedRoundRobinLoadBalancerConfig.newBuilder();
@@ -110,6 +111,20 @@ public final class WeightedRoundRobinLoadBalancerProvider extends LoadBalancerPr
         && GrpcUtil.getFlag("GRPC_EXPERIMENTAL_WRR_CUSTOM_METRICS", false)) {
       configBuilder.setMetricNamesForComputingUtilization(metricNamesForComputingUtilization);
     }
+    if (slowStartConfig != null && GrpcUtil.getFlag("GRPC_EXPERIMENTAL_WRR_SLOW_START", false)) {
+      Long slowStartWindowNanos = JsonUtil.getStringAsDuration(slowStartConfig, "slowStartWindow");
+      Double aggression = JsonUtil.getNumberAsDouble(slowStartConfig, "aggression");
+      Double minWeightPercent = JsonUtil.getNumberAsDouble(slowStartConfig, "minWeightPercent");
+      if (slowStartWindowNanos != null) {
+        configBuilder.setSlowStartWindowNanos(slowStartWindowNanos);
+      }
+      if (aggression != null) {
+        configBuilder.setSlowStartAggression(aggression);
+      }
+      if (minWeightPercent != null) {
+        configBuilder.setSlowStartMinWeightPercent(minWeightPercent);
+      }
+    }
     return ConfigOrError.fromConfig(configBuilder.build());
   }
 }
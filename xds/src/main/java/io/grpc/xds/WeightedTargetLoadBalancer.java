@@ -89,14 +89,21 @@ final class WeightedTargetLoadBalancer extends LoadBalancer {
     targets = newTargets;
     Status status = Status.OK;
     for (String targetName : targets.keySet()) {
-      Status newStatus = childBalancers.get(targetName).acceptResolvedAddresses(
-          resolvedAddresses.toBuilder()
-              .setAddresses(AddressFilter.filter(resolvedAddresses.getAddresses(), targetName))
-              .setLoadBalancingPolicyConfig(targets.get(targetName).childConfig)
-              .setAttributes(resolvedAddresses.getAttributes().toBuilder()
-                .set(CHILD_NAME, targetName)
-                .build())
-              .build());
+      ResolvedAddresses childResolvedAddresses = resolvedAddresses.toBuilder()
+          .setAddresses(AddressFilter.filter(resolvedAddresses.getAddresses(), targetName))
+          .setLoadBalancingPolicyConfig(targets.get(targetName).childConfig)
+          .setAttributes(resolvedAddresses.getAttributes().toBuilder()
+            .set(CHILD_NAME, targetName)
+            .build())
+          .build();
+      ChildHelper childHelper = childHelpers.get(targetName);
+      // Only the targets whose addresses or config changed are updated, and rebuild their pickers.
+      if (!childResolvedAddresses.equals(childHelper.resolvedAddresses)) {
+        childHelper.resolvedAddresses = childResolvedAddresses;
+        childHelper.acceptStatus =
+            childBalancers.get(targetName).acceptResolvedAddresses(childResolvedAddresses);
+      }
+      Status newStatus = childHelper.acceptStatus;
       if (!newStatus.isOk()) {
         status = newStatus;
       }
@@ -125,6 +132,11 @@ final class WeightedTargetLoadBalancer extends LoadBalancer {
     for (LoadBalancer childBalancer : childBalancers.values()) {
       childBalancer.handleNameResolutionError(error);
     }
+    // The children may now show the error, so the next addresses must reach them even if equal.
+    for (ChildHelper childHelper : childHelpers.values()) {
+      childHelper.resolvedAddresses = null;
+      childHelper.acceptStatus = Status.OK;
+    }
   }
 
   @Override
@@ -198,6 +210,9 @@ final class WeightedTargetLoadBalancer extends LoadBalancer {
     String name;
     ConnectivityState currentState = CONNECTING;
     SubchannelPicker currentPicker = new FixedResultPicker(PickResult.withNoResult());
+    // The last addresses given to the child, and its result.
+    @Nullable ResolvedAddresses resolvedAddresses;
+    Status acceptStatus = Status.OK;
 
     private ChildHelper(String name) {
       this.name = name;
@@ -18,6 +18,7 @@ package io.grpc.xds;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.DoubleHistogramMetricInstrument;
 import io.grpc.LongCounterMetricInstrument;
 import io.grpc.LongGaugeMetricInstrument;
 import io.grpc.MetricInstrumentRegistry;
@@ -53,6 +54,7 @@ final class XdsClientMetricReporterImpl implements XdsClientMetricReporter {
   private static final LongCounterMetricInstrument SERVER_FAILURE_COUNTER;
   private static final LongCounterMetricInstrument RESOURCE_UPDATES_VALID_COUNTER;
   private static final LongCounterMetricInstrument RESOURCE_UPDATES_INVALID_COUNTER;
+  private static final DoubleHistogramMetricInstrument RESOURCE_PARSE_TIME_HISTOGRAM;
   private static final LongGaugeMetricInstrument CONNECTED_GAUGE;
   private static final LongGaugeMetricInstrument RESOURCES_GAUGE;
 
@@ -81,6 +83,13 @@ final class XdsClientMetricReporterImpl implements XdsClientMetricReporter {
         "EXPERIMENTAL. A counter of resources received that were considered invalid.", "{resource}",
         Arrays.asList("grpc.target", "grpc.xds.server", "grpc.xds.resource_type"),
         Collections.emptyList(), false);
+    RESOURCE_PARSE_TIME_HISTOGRAM = metricInstrumentRegistry.registerDoubleHistogram(
+        "grpc.xds_client.resource_parse_time",
+        "EXPERIMENTAL. Time spent parsing and validating the resources of each response, summed"
+            + " across threads when the resources are parsed in parallel.", "s",
+        Collections.emptyList(),
+        Arrays.asList("grpc.target", "grpc.xds.server", "grpc.xds.resource_type"),
+        Collections.emptyList(), false);
     CONNECTED_GAUGE = metricInstrumentRegistry.registerLongGauge("grpc.xds_client.connected",
         "EXPERIMENTAL. Whether or not the xDS client currently has a working ADS stream to the xDS"
             + " server. For a given server, this will be set to 1 when the stream is initially"
@@ -108,6 +117,13 @@ final class XdsClientMetricReporterImpl implements XdsClientMetricReporter {
         Arrays.asList(target, xdsServer, resourceType), Collections.emptyList());
   }
 
+  @Override
+  public void reportResourceParseTime(double parseTimeSeconds, String xdsServer,
+      String resourceType) {
+    metricRecorder.recordDoubleHistogram(RESOURCE_PARSE_TIME_HISTOGRAM, parseTimeSeconds,
+        Arrays.asList(target, xdsServer, resourceType), Collections.emptyList());
+  }
+
   @Override
   public void reportServerFailure(long serverFailure, String xdsServer) {
     metricRecorder.addLongCounter(SERVER_FAILURE_COUNTER, serverFailure,
@@ -191,7 +191,7 @@ class XdsClusterResource extends XdsResourceType<CdsUpdate> {
               + e.getMessage(), e);
     }
 
-    return updateBuilder.build();
+    return XdsResourceInterner.intern(updateBuilder.build());
   }
 
   private static StructOrError<CdsUpdate.Builder> parseAggregateCluster(Cluster cluster) {
@@ -129,7 +129,8 @@ class XdsEndpointResource extends XdsResourceType<EdsUpdate> {
         throw new ResourceInvalidException(structOrError.getErrorDetail());
       }
 
-      LocalityLbEndpoints localityLbEndpoints = structOrError.getStruct();
+      LocalityLbEndpoints localityLbEndpoints =
+          XdsResourceInterner.intern(structOrError.getStruct());
       int priority = localityLbEndpoints.priority();
       maxPriority = Math.max(maxPriority, priority);
       // Note endpoints with health status other than HEALTHY and UNKNOWN are still
@@ -153,11 +154,13 @@ class XdsEndpointResource extends XdsResourceType<EdsUpdate> {
         : assignment.getPolicy().getDropOverloadsList()) {
       dropOverloads.add(parseDropOverload(dropOverloadProto));
     }
-    return new EdsUpdate(assignment.getClusterName(), localityLbEndpointsMap, dropOverloads);
+    return XdsResourceInterner.intern(
+        new EdsUpdate(assignment.getClusterName(), localityLbEndpointsMap, dropOverloads));
   }
 
   private static Locality parseLocality(io.envoyproxy.envoy.config.core.v3.Locality proto) {
-    return Locality.create(proto.getRegion(), proto.getZone(), proto.getSubZone());
+    return XdsResourceInterner.intern(
+        Locality.create(proto.getRegion(), proto.getZone(), proto.getSubZone()));
   }
 
   private static DropOverload parseDropOverload(
@@ -235,11 +238,11 @@ class XdsEndpointResource extends XdsResourceType<EdsUpdate> {
       }
       boolean isHealthy = (endpoint.getHealthStatus() == HealthStatus.HEALTHY)
               || (endpoint.getHealthStatus() == HealthStatus.UNKNOWN);
-      endpoints.add(Endpoints.LbEndpoint.create(
+      endpoints.add(XdsResourceInterner.intern(Endpoints.LbEndpoint.create(
           new EquivalentAddressGroup(addresses),
           endpoint.getLoadBalancingWeight().getValue(), isHealthy,
           endpoint.getEndpoint().getHostname(),
-          endpointMetadata));
+          endpointMetadata)));
     }
     return StructOrError.fromStruct(Endpoints.LocalityLbEndpoints.create(
         endpoints, proto.getLoadBalancingWeight().getValue(),
@@ -621,7 +621,7 @@ class XdsListenerResource extends XdsResourceType<LdsUpdate> {
       return StructOrError.fromError(
           "Invalid filter config for HttpFilter [" + filterName + "]: " + filterConfig.errorDetail);
     }
-    return StructOrError.fromStruct(filterConfig.config);
+    return StructOrError.fromStruct(XdsResourceInterner.intern(filterConfig.config));
   }
 
   @AutoValue
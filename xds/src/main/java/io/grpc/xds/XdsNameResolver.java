@@ -415,6 +415,7 @@ final class XdsNameResolver extends NameResolver {
       String cluster;
       ClientInterceptor filters;
       Metadata headers = args.getHeaders();
+      RoutingUtils.HeaderValues headerValues = new RoutingUtils.HeaderValues(headers);
       String path = "/" + args.getMethodDescriptor().getFullMethodName();
       do {
         routingCfg = routingConfig;
@@ -423,7 +424,7 @@ final class XdsNameResolver extends NameResolver {
         }
         selectedRoute = null;
         for (RouteData route : routingCfg.routes) {
-          if (RoutingUtils.matchRoute(route.routeMatch, path, headers, random)) {
+          if (RoutingUtils.matchRoute(route.routeMatch, path, headerValues, random)) {
             selectedRoute = route;
             break;
           }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.xds;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import io.grpc.internal.GrpcUtil;
+import javax.annotation.Nullable;
+
+/**
+ * Interns immutable objects parsed from xDS resources, or derived from them. There is an
+ * XdsClient per target, and each parses its own copy of the resources. Interning lets the copies
+ * of all targets, and of successive updates of a resource, share the objects that are equal.
+ *
+ * <p>Only objects with value semantics that never change after construction may be interned.
+ * Collections are not interned, since an interned collection may be of a different class.
+ */
+final class XdsResourceInterner {
+  @VisibleForTesting
+  static boolean enabled = GrpcUtil.getFlag("GRPC_EXPERIMENTAL_XDS_INTERN_RESOURCES", false);
+
+  // Weak, so that objects no update refers to anymore can be collected.
+  private static final Interner<Object> interner = Interners.newWeakInterner();
+
+  private XdsResourceInterner() {}
+
+  /** Returns the canonical instance equal to {@code value}. */
+  @SuppressWarnings("unchecked")
+  static <T> T intern(@Nullable T value) {
+    if (!enabled || value == null) {
+      return value;
+    }
+    return (T) interner.intern(value);
+  }
+}
@@ -204,8 +204,8 @@ class XdsRouteConfigureResource extends XdsResourceType<RdsUpdate> {
           "VirtualHost [" + proto.getName() + "] contains invalid HttpFilter config: "
               + overrideConfigs.getErrorDetail());
     }
-    return StructOrError.fromStruct(VirtualHost.create(
-        name, proto.getDomainsList(), routes, overrideConfigs.getStruct()));
+    return StructOrError.fromStruct(XdsResourceInterner.intern(VirtualHost.create(
+        name, proto.getDomainsList(), routes, overrideConfigs.getStruct())));
   }
 
   @VisibleForTesting
@@ -259,7 +259,7 @@ class XdsRouteConfigureResource extends XdsResourceType<RdsUpdate> {
         return StructOrError.fromError(
             "Invalid filter config for HttpFilter [" + name + "]: " + filterConfig.errorDetail);
       }
-      overrideConfigs.put(name, filterConfig.config);
+      overrideConfigs.put(name, XdsResourceInterner.intern(filterConfig.config));
     }
     return StructOrError.fromStruct(overrideConfigs);
   }
@@ -302,11 +302,11 @@ class XdsRouteConfigureResource extends XdsResourceType<RdsUpdate> {
               "Route [" + proto.getName() + "] contains invalid RouteAction: "
                   + routeAction.getErrorDetail());
         }
-        return StructOrError.fromStruct(
-            Route.forAction(routeMatch.getStruct(), routeAction.getStruct(), overrideConfigs));
+        return StructOrError.fromStruct(XdsResourceInterner.intern(
+            Route.forAction(routeMatch.getStruct(), routeAction.getStruct(), overrideConfigs)));
       case NON_FORWARDING_ACTION:
-        return StructOrError.fromStruct(
-            Route.forNonForwardingAction(routeMatch.getStruct(), overrideConfigs));
+        return StructOrError.fromStruct(XdsResourceInterner.intern(
+            Route.forNonForwardingAction(routeMatch.getStruct(), overrideConfigs)));
       case REDIRECT:
       case DIRECT_RESPONSE:
       case FILTER_ACTION:
@@ -904,9 +904,10 @@ final class XdsServerWrapper extends Server {
       }
       Route selectedRoute = null;
       MethodDescriptor<ReqT, RespT> method = call.getMethodDescriptor();
+      RoutingUtils.HeaderValues headerValues = new RoutingUtils.HeaderValues(headers);
       for (Route route : virtualHost.routes()) {
         if (RoutingUtils.matchRoute(
-            route.routeMatch(), "/" + method.getFullMethodName(), headers, random)) {
+            route.routeMatch(), "/" + method.getFullMethodName(), headerValues, random)) {
           selectedRoute = route;
           break;
         }
@@ -68,10 +68,13 @@ public abstract class Bootstrapper {
 
     public abstract boolean failOnDataErrors();
 
+    /** Whether to use the incremental (delta) variant of ADS with this server. */
+    public abstract boolean deltaXds();
+
     @VisibleForTesting
     public static ServerInfo create(String target, @Nullable Object implSpecificConfig) {
       return new AutoValue_Bootstrapper_ServerInfo(target, implSpecificConfig,
-          false, false, false, false);
+          false, false, false, false, false);
     }
 
     @VisibleForTesting
@@ -79,9 +82,18 @@ public abstract class Bootstrapper {
         String target, Object implSpecificConfig,
         boolean ignoreResourceDeletion, boolean isTrustedXdsServer,
         boolean resourceTimerIsTransientError, boolean failOnDataErrors) {
+      return create(target, implSpecificConfig, ignoreResourceDeletion, isTrustedXdsServer,
+          resourceTimerIsTransientError, failOnDataErrors, false);
+    }
+
+    @VisibleForTesting
+    public static ServerInfo create(
+        String target, Object implSpecificConfig,
+        boolean ignoreResourceDeletion, boolean isTrustedXdsServer,
+        boolean resourceTimerIsTransientError, boolean failOnDataErrors, boolean deltaXds) {
       return new AutoValue_Bootstrapper_ServerInfo(target, implSpecificConfig,
           ignoreResourceDeletion, isTrustedXdsServer,
-          resourceTimerIsTransientError, failOnDataErrors);
+          resourceTimerIsTransientError, failOnDataErrors, deltaXds);
     }
   }
 
@@ -206,6 +218,13 @@ public abstract class Bootstrapper {
      */
     public abstract ImmutableMap<String, AuthorityInfo> authorities();
 
+    /**
+     * Path of a file in which the XdsClient keeps the last resources it accepted, so that a new
+     * process can serve them while it waits for the xDS servers. Unset if there is no such file.
+     */
+    @Nullable
+    public abstract String resourceCachePath();
+
     /**
      * Parsed configuration for implementation-specific extensions.
      * Returns an opaque object containing the parsed configuration.
@@ -239,6 +258,8 @@ public abstract class Bootstrapper {
 
       public abstract Builder authorities(Map<String, AuthorityInfo> authorities);
 
+      public abstract Builder resourceCachePath(@Nullable String resourceCachePath);
+
       public abstract Builder implSpecificObject(Optional<Object> implSpecificObject);
 
       public abstract BootstrapInfo build();
@@ -47,6 +47,9 @@ public abstract class BootstrapperImpl extends Bootstrapper {
       "GRPC_EXPERIMENTAL_XDS_FALLBACK";
   public static final String GRPC_EXPERIMENTAL_XDS_DATA_ERROR_HANDLING =
       "GRPC_EXPERIMENTAL_XDS_DATA_ERROR_HANDLING";
+  public static final String GRPC_EXPERIMENTAL_XDS_DELTA = "GRPC_EXPERIMENTAL_XDS_DELTA";
+  public static final String GRPC_EXPERIMENTAL_XDS_RESOURCE_CACHE =
+      "GRPC_EXPERIMENTAL_XDS_RESOURCE_CACHE";
 
   // Client features.
   @VisibleForTesting
@@ -61,6 +64,7 @@ public abstract class BootstrapperImpl extends Bootstrapper {
   private static final String
       SERVER_FEATURE_RESOURCE_TIMER_IS_TRANSIENT_ERROR = "resource_timer_is_transient_error";
   private static final String SERVER_FEATURE_FAIL_ON_DATA_ERRORS = "fail_on_data_errors";
+  private static final String SERVER_FEATURE_DELTA_XDS = "delta_xds";
 
   @VisibleForTesting
   static boolean enableXdsFallback = GrpcUtil.getFlag(GRPC_EXPERIMENTAL_XDS_FALLBACK, true);
@@ -69,6 +73,13 @@ public abstract class BootstrapperImpl extends Bootstrapper {
   public static boolean xdsDataErrorHandlingEnabled
       = GrpcUtil.getFlag(GRPC_EXPERIMENTAL_XDS_DATA_ERROR_HANDLING, false);
 
+  @VisibleForTesting
+  public static boolean xdsDeltaEnabled = GrpcUtil.getFlag(GRPC_EXPERIMENTAL_XDS_DELTA, false);
+
+  @VisibleForTesting
+  public static boolean xdsResourceCacheEnabled =
+      GrpcUtil.getFlag(GRPC_EXPERIMENTAL_XDS_RESOURCE_CACHE, false);
+
   protected final XdsLogger logger;
 
   protected FileReader reader = LocalFileReader.INSTANCE;
@@ -241,6 +252,18 @@ public abstract class BootstrapperImpl extends Bootstrapper {
       builder.authorities(authorityInfoMapBuilder.buildOrThrow());
     }
 
+    if (xdsResourceCacheEnabled) {
+      Map<String, ?> rawResourceCache = JsonUtil.getObject(rawData, "resource_cache");
+      if (rawResourceCache != null) {
+        String path = JsonUtil.getString(rawResourceCache, "path");
+        if (path == null || path.isEmpty()) {
+          throw new XdsInitializationException("Invalid bootstrap: 'resource_cache' has no path");
+        }
+        logger.log(XdsLogLevel.INFO, "xDS resource cache: {0}", path);
+        builder.resourceCachePath(path);
+      }
+    }
+
     Map<String, ?> rawAllowedGrpcServices = JsonUtil.getObject(rawData, "allowed_grpc_services");
     builder.implSpecificObject(parseImplSpecificObject(rawAllowedGrpcServices));
 
@@ -270,6 +293,7 @@ public abstract class BootstrapperImpl extends Bootstrapper {
       boolean resourceTimerIsTransientError = false;
       boolean ignoreResourceDeletion = false;
       boolean failOnDataErrors = false;
+      boolean deltaXds = false;
       // "For forward compatibility reasons, the client will ignore any entry in the list that it
       // does not understand, regardless of type."
       List<?> serverFeatures = JsonUtil.getList(serverConfig, "server_features");
@@ -282,12 +306,13 @@ public abstract class BootstrapperImpl extends Bootstrapper {
             && serverFeatures.contains(SERVER_FEATURE_RESOURCE_TIMER_IS_TRANSIENT_ERROR);
         failOnDataErrors = xdsDataErrorHandlingEnabled
             && serverFeatures.contains(SERVER_FEATURE_FAIL_ON_DATA_ERRORS);
+        deltaXds = xdsDeltaEnabled && serverFeatures.contains(SERVER_FEATURE_DELTA_XDS);
       }
       servers.add(
           ServerInfo.create(serverUri, implSpecificConfig, ignoreResourceDeletion,
               serverFeatures != null
                   && serverFeatures.contains(SERVER_FEATURE_TRUSTED_XDS_SERVER),
-              resourceTimerIsTransientError, failOnDataErrors));
+              resourceTimerIsTransientError, failOnDataErrors, deltaXds));
     }
     return servers.build();
   }
@@ -23,10 +23,14 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
 import com.google.common.base.Supplier;
 import com.google.protobuf.Any;
+import com.google.protobuf.MessageOrBuilder;
 import com.google.rpc.Code;
 import io.envoyproxy.envoy.service.discovery.v3.AggregatedDiscoveryServiceGrpc;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryRequest;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryResponse;
 import io.envoyproxy.envoy.service.discovery.v3.DiscoveryRequest;
 import io.envoyproxy.envoy.service.discovery.v3.DiscoveryResponse;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
 import io.grpc.InternalLogId;
 import io.grpc.MethodDescriptor;
 import io.grpc.Status;
@@ -41,6 +45,7 @@ import io.grpc.xds.client.XdsClient.XdsResponseHandler;
 import io.grpc.xds.client.XdsLogger.XdsLogLevel;
 import io.grpc.xds.client.XdsTransportFactory.StreamingCall;
 import io.grpc.xds.client.XdsTransportFactory.XdsTransport;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -74,12 +79,15 @@ final class ControlPlaneClient {
   // A version_info is used to update management server with client's most recent knowledge of
   // resources.
   private final Map<XdsResourceType<?>, String> versions = new HashMap<>();
+  // Last ACKed version of each resource, used instead of versions with servers speaking delta ADS.
+  // Sent in the initial request of a stream so the server can skip resources the client has.
+  private final Map<XdsResourceType<?>, Map<String, String>> resourceVersions = new HashMap<>();
 
   private boolean shutdown;
   private boolean inError;
 
   @Nullable
-  private AdsStream adsStream;
+  private AdsStream<?, ?> adsStream;
   @Nullable
   private BackoffPolicy retryBackoffPolicy;
   @Nullable
@@ -171,6 +179,7 @@ final class ControlPlaneClient {
       // for nonces. If the resource type becomes used again the control plane can ignore requests
       // for old/missing nonces. Old type's nonces are dropped when the ADS stream is restarted.
       versions.remove(resourceType);
+      resourceVersions.remove(resourceType);
     }
   }
 
@@ -179,8 +188,14 @@ final class ControlPlaneClient {
    * and sends an ACK request to the management server.
    */
   // Must be synchronized.
-  void ackResponse(XdsResourceType<?> type, String versionInfo, String nonce) {
+  void ackResponse(XdsResourceType<?> type, String versionInfo, String nonce,
+                   ProcessingTracker processingTracker) {
     versions.put(type, versionInfo);
+    // The stream may have closed, or restarted, while the response was being parsed. The nonce
+    // means nothing to a new stream.
+    if (adsStream == null || adsStream != processingTracker.getStream()) {
+      return;
+    }
     logger.log(XdsLogLevel.INFO, "Sending ACK for {0} update, nonce: {1}, current version: {2}",
         type.typeName(), nonce, versionInfo);
     Collection<String> resources = resourceStore.getSubscribedResources(serverInfo, type);
@@ -195,8 +210,12 @@ final class ControlPlaneClient {
    * accepted version) to the management server.
    */
   // Must be synchronized.
-  void nackResponse(XdsResourceType<?> type, String nonce, String errorDetail) {
+  void nackResponse(XdsResourceType<?> type, String nonce, String errorDetail,
+                    ProcessingTracker processingTracker) {
     String versionInfo = versions.getOrDefault(type, "");
+    if (adsStream == null || adsStream != processingTracker.getStream()) {
+      return;
+    }
     logger.log(XdsLogLevel.INFO, "Sending NACK for {0} update, nonce: {1}, current version: {2}",
         type.typeName(), nonce, versionInfo);
     Collection<String> resources = resourceStore.getSubscribedResources(serverInfo, type);
@@ -257,7 +276,7 @@ final class ControlPlaneClient {
       rpcRetryTimer = null;
     }
 
-    adsStream = new AdsStream();
+    adsStream = newAdsStream();
     adsStream.start();
     logger.log(XdsLogLevel.INFO, "ADS stream started");
     stopwatch.reset().start();
@@ -305,25 +324,18 @@ final class ControlPlaneClient {
     return resourceStore.getSubscribedResourceTypesWithTypeUrl().get(typeUrl);
   }
 
-  private class AdsStream implements XdsTransportFactory.EventHandler<DiscoveryResponse> {
-    private boolean responseReceived;
-    private boolean sentInitialRequest;
-    private boolean closed;
-    // Response nonce for the most recently received discovery responses of each resource type URL.
-    // Client initiated requests start response nonce with empty string.
-    // Nonce in each response is echoed back in the following ACK/NACK request. It is
-    // used for management server to identify which response the client is ACKing/NACking.
-    // To avoid confusion, client-initiated requests will always use the nonce in
-    // most recently received responses of each resource type. Nonces are never deleted from the
-    // map; nonces are only discarded once the stream closes because xds_protocol says "the
-    // management server should not send a DiscoveryResponse for any DiscoveryRequest that has a
-    // stale nonce."
-    private final Map<String, String> respNonces = new HashMap<>();
-    private final StreamingCall<DiscoveryRequest, DiscoveryResponse> call;
-    private final MethodDescriptor<DiscoveryRequest, DiscoveryResponse> methodDescriptor =
-        AggregatedDiscoveryServiceGrpc.getStreamAggregatedResourcesMethod();
+  private AdsStream<?, ?> newAdsStream() {
+    return serverInfo.deltaXds() ? new DeltaAdsStream() : new SotwAdsStream();
+  }
+
+  private abstract class AdsStream<ReqT extends MessageOrBuilder, RespT>
+      implements XdsTransportFactory.EventHandler<RespT> {
+    boolean responseReceived;
+    boolean sentInitialRequest;
+    boolean closed;
+    final StreamingCall<ReqT, RespT> call;
 
-    private AdsStream() {
+    AdsStream(MethodDescriptor<ReqT, RespT> methodDescriptor) {
       this.call = xdsTransport.createStreamingCall(methodDescriptor.getFullMethodName(),
           methodDescriptor.getRequestMarshaller(), methodDescriptor.getResponseMarshaller());
     }
@@ -338,39 +350,14 @@ final class ControlPlaneClient {
      * client-initiated discovery requests, use {@link
      * #sendDiscoveryRequest(XdsResourceType, Collection)}.
      */
-    void sendDiscoveryRequest(XdsResourceType<?> type, String versionInfo,
-                              Collection<String> resources, String nonce,
-                              @Nullable String errorDetail) {
-      DiscoveryRequest.Builder builder =
-          DiscoveryRequest.newBuilder()
-              .setVersionInfo(versionInfo)
-              .setNode(bootstrapNode.toEnvoyProtoNode())
-              .addAllResourceNames(resources)
-              .setTypeUrl(type.typeUrl())
-              .setResponseNonce(nonce);
-      if (errorDetail != null) {
-        com.google.rpc.Status error =
-            com.google.rpc.Status.newBuilder()
-                .setCode(Code.INVALID_ARGUMENT_VALUE)  // FIXME(chengyuanzhang): use correct code
-                .setMessage(errorDetail)
-                .build();
-        builder.setErrorDetail(error);
-      }
-      DiscoveryRequest request = builder.build();
-      call.sendMessage(request);
-      if (logger.isLoggable(XdsLogLevel.DEBUG)) {
-        logger.log(XdsLogLevel.DEBUG, "Sent DiscoveryRequest\n{0}", messagePrinter.print(request));
-      }
-    }
+    abstract void sendDiscoveryRequest(XdsResourceType<?> type, String versionInfo,
+                                       Collection<String> resources, String nonce,
+                                       @Nullable String errorDetail);
 
     /**
      * Sends a client-initiated discovery request.
      */
-    final void sendDiscoveryRequest(XdsResourceType<?> type, Collection<String> resources) {
-      logger.log(XdsLogLevel.INFO, "Sending {0} request for resources: {1}", type, resources);
-      sendDiscoveryRequest(type, versions.getOrDefault(type, ""), resources,
-          respNonces.getOrDefault(type.typeUrl(), ""), null);
-    }
+    abstract void sendDiscoveryRequest(XdsResourceType<?> type, Collection<String> resources);
 
     @Override
     public void onReady() {
@@ -389,40 +376,6 @@ final class ControlPlaneClient {
       });
     }
 
-    @Override
-    public void onRecvMessage(DiscoveryResponse response) {
-      syncContext.execute(new Runnable() {
-        @Override
-        public void run() {
-          if (closed) {
-            return;
-          }
-          boolean isFirstResponse = !responseReceived;
-          responseReceived = true;
-          inError = false;
-          respNonces.put(response.getTypeUrl(), response.getNonce());
-
-          XdsResourceType<?> type = fromTypeUrl(response.getTypeUrl());
-          if (logger.isLoggable(XdsLogLevel.DEBUG)) {
-            logger.log(
-                XdsLogLevel.DEBUG, "Received {0} response:\n{1}", type,
-                messagePrinter.print(response));
-          }
-          if (type == null) {
-            logger.log(
-                XdsLogLevel.WARNING,
-                "Ignore an unknown type of DiscoveryResponse: {0}",
-                response.getTypeUrl());
-
-            call.startRecvMessage();
-            return;
-          }
-          handleRpcResponse(type, response.getVersionInfo(), response.getResourcesList(),
-              response.getNonce(), isFirstResponse);
-        }
-      });
-    }
-
     @Override
     public void onStatusReceived(final Status status) {
       syncContext.execute(() -> {
@@ -430,15 +383,48 @@ final class ControlPlaneClient {
       });
     }
 
-    final void handleRpcResponse(XdsResourceType<?> type, String versionInfo, List<Any> resources,
-                                 String nonce, boolean isFirstResponse) {
-      checkNotNull(type, "type");
+    /**
+     * Records that a response was received and returns the resource type it is for, or {@code
+     * null} if the type is unknown, in which case the response is ignored.
+     */
+    @Nullable
+    final XdsResourceType<?> onResponse(String typeUrl, MessageOrBuilder response) {
+      responseReceived = true;
+      inError = false;
+      XdsResourceType<?> type = fromTypeUrl(typeUrl);
+      if (logger.isLoggable(XdsLogLevel.DEBUG)) {
+        logger.log(
+            XdsLogLevel.DEBUG, "Received {0} response:\n{1}", type,
+            messagePrinter.print(response));
+      }
+      if (type == null) {
+        logger.log(
+            XdsLogLevel.WARNING,
+            "Ignore an unknown type of DiscoveryResponse: {0}",
+            typeUrl);
 
-      ProcessingTracker processingTracker = new ProcessingTracker(
-          () -> call.startRecvMessage(), syncContext);
-      xdsResponseHandler.handleResourceResponse(type, serverInfo, versionInfo, resources, nonce,
-          isFirstResponse, processingTracker);
-      processingTracker.onComplete();
+        call.startRecvMessage();
+      }
+      return type;
+    }
+
+    /**
+     * Creates the tracker of a response received on this stream, which reads the next response
+     * once the response has been processed, unless the stream closed in the meantime.
+     */
+    final ProcessingTracker newProcessingTracker() {
+      return new ProcessingTracker(() -> {
+        if (!closed) {
+          call.startRecvMessage();
+        }
+      }, syncContext, this);
+    }
+
+    final void sendRequest(ReqT request) {
+      call.sendMessage(request);
+      if (logger.isLoggable(XdsLogLevel.DEBUG)) {
+        logger.log(XdsLogLevel.DEBUG, "Sent DiscoveryRequest\n{0}", messagePrinter.print(request));
+      }
     }
 
     private void handleRpcStreamClosed(Status status) {
@@ -509,6 +495,222 @@ final class ControlPlaneClient {
     }
   }
 
+  /** An ADS stream using the State of the World variant of the xDS protocol. */
+  private final class SotwAdsStream extends AdsStream<DiscoveryRequest, DiscoveryResponse> {
+    // Response nonce for the most recently received discovery responses of each resource type URL.
+    // Client initiated requests start response nonce with empty string.
+    // Nonce in each response is echoed back in the following ACK/NACK request. It is
+    // used for management server to identify which response the client is ACKing/NACking.
+    // To avoid confusion, client-initiated requests will always use the nonce in
+    // most recently received responses of each resource type. Nonces are never deleted from the
+    // map; nonces are only discarded once the stream closes because xds_protocol says "the
+    // management server should not send a DiscoveryResponse for any DiscoveryRequest that has a
+    // stale nonce."
+    private final Map<String, String> respNonces = new HashMap<>();
+
+    SotwAdsStream() {
+      super(AggregatedDiscoveryServiceGrpc.getStreamAggregatedResourcesMethod());
+    }
+
+    @Override
+    void sendDiscoveryRequest(XdsResourceType<?> type, String versionInfo,
+                              Collection<String> resources, String nonce,
+                              @Nullable String errorDetail) {
+      DiscoveryRequest.Builder builder =
+          DiscoveryRequest.newBuilder()
+              .setVersionInfo(versionInfo)
+              .setNode(bootstrapNode.toEnvoyProtoNode())
+              .addAllResourceNames(resources)
+              .setTypeUrl(type.typeUrl())
+              .setResponseNonce(nonce);
+      if (errorDetail != null) {
+        builder.setErrorDetail(toErrorDetail(errorDetail));
+      }
+      sendRequest(builder.build());
+    }
+
+    @Override
+    void sendDiscoveryRequest(XdsResourceType<?> type, Collection<String> resources) {
+      logger.log(XdsLogLevel.INFO, "Sending {0} request for resources: {1}", type, resources);
+      sendDiscoveryRequest(type, versions.getOrDefault(type, ""), resources,
+          respNonces.getOrDefault(type.typeUrl(), ""), null);
+    }
+
+    @Override
+    public void onRecvMessage(DiscoveryResponse response) {
+      syncContext.execute(new Runnable() {
+        @Override
+        public void run() {
+          if (closed) {
+            return;
+          }
+          boolean isFirstResponse = !responseReceived;
+          respNonces.put(response.getTypeUrl(), response.getNonce());
+          XdsResourceType<?> type = onResponse(response.getTypeUrl(), response);
+          if (type == null) {
+            return;
+          }
+          handleRpcResponse(type, response.getVersionInfo(), response.getResourcesList(),
+              response.getNonce(), isFirstResponse);
+        }
+      });
+    }
+
+    void handleRpcResponse(XdsResourceType<?> type, String versionInfo, List<Any> resources,
+                           String nonce, boolean isFirstResponse) {
+      checkNotNull(type, "type");
+
+      ProcessingTracker processingTracker = newProcessingTracker();
+      xdsResponseHandler.handleResourceResponse(type, serverInfo, versionInfo, resources, nonce,
+          isFirstResponse, processingTracker);
+      processingTracker.onComplete();
+    }
+  }
+
+  /**
+   * An ADS stream using the incremental (delta) variant of the xDS protocol. Requests only carry
+   * changes to the subscriptions, and responses only carry the resources that changed.
+   */
+  private final class DeltaAdsStream
+      extends AdsStream<DeltaDiscoveryRequest, DeltaDiscoveryResponse> {
+    // Resource names subscribed to on this stream, per resource type URL. A type without an entry
+    // has not been requested yet, so its next request is the initial one.
+    private final Map<String, Set<String>> subscriptions = new HashMap<>();
+    private boolean sentNode;
+    // The response being processed, whose resource versions are committed once it is ACKed.
+    @Nullable
+    private DeltaDiscoveryResponse pendingResponse;
+
+    DeltaAdsStream() {
+      super(AggregatedDiscoveryServiceGrpc.getDeltaAggregatedResourcesMethod());
+    }
+
+    @Override
+    void sendDiscoveryRequest(XdsResourceType<?> type, String versionInfo,
+                              Collection<String> resources, String nonce,
+                              @Nullable String errorDetail) {
+      DeltaDiscoveryRequest.Builder builder =
+          newRequestBuilder(type).setResponseNonce(nonce);
+      if (errorDetail != null) {
+        builder.setErrorDetail(toErrorDetail(errorDetail));
+      }
+      if (pendingResponse != null && pendingResponse.getNonce().equals(nonce)) {
+        if (errorDetail == null) {
+          commitResourceVersions(type, pendingResponse);
+        }
+        pendingResponse = null;
+      }
+      send(builder);
+    }
+
+    @Override
+    void sendDiscoveryRequest(XdsResourceType<?> type, Collection<String> resources) {
+      DeltaDiscoveryRequest.Builder builder = newRequestBuilder(type);
+      Map<String, String> knownVersions = resourceVersions.get(type);
+      Set<String> subscribed = subscriptions.get(type.typeUrl());
+      if (subscribed == null) {
+        // An initial request without any names would be a wildcard subscription.
+        if (resources.isEmpty()) {
+          return;
+        }
+        subscribed = Collections.emptySet();
+        // Lets the server skip the resources that the client already has, after a reconnect.
+        for (String resource : resources) {
+          String version = knownVersions != null ? knownVersions.get(resource) : null;
+          if (version != null) {
+            builder.putInitialResourceVersions(resource, version);
+          }
+        }
+      }
+      Set<String> wanted = new HashSet<>(resources);
+      for (String resource : subscribed) {
+        if (!wanted.contains(resource)) {
+          builder.addResourceNamesUnsubscribe(resource);
+          if (knownVersions != null) {
+            knownVersions.remove(resource);
+          }
+        }
+      }
+      for (String resource : wanted) {
+        if (!subscribed.contains(resource)) {
+          builder.addResourceNamesSubscribe(resource);
+        }
+      }
+      if (builder.getResourceNamesSubscribeCount() == 0
+          && builder.getResourceNamesUnsubscribeCount() == 0) {
+        return;
+      }
+      subscriptions.put(type.typeUrl(), wanted);
+      logger.log(XdsLogLevel.INFO, "Sending {0} delta request, subscribe: {1}, unsubscribe: {2}",
+          type, builder.getResourceNamesSubscribeList(),
+          builder.getResourceNamesUnsubscribeList());
+      send(builder);
+    }
+
+    private DeltaDiscoveryRequest.Builder newRequestBuilder(XdsResourceType<?> type) {
+      DeltaDiscoveryRequest.Builder builder =
+          DeltaDiscoveryRequest.newBuilder().setTypeUrl(type.typeUrl());
+      // The node only needs to be sent in the first request of the stream.
+      if (!sentNode) {
+        builder.setNode(bootstrapNode.toEnvoyProtoNode());
+      }
+      return builder;
+    }
+
+    private void send(DeltaDiscoveryRequest.Builder builder) {
+      sentNode = true;
+      sendRequest(builder.build());
+    }
+
+    private void commitResourceVersions(XdsResourceType<?> type, DeltaDiscoveryResponse response) {
+      Map<String, String> knownVersions =
+          resourceVersions.computeIfAbsent(type, k -> new HashMap<>());
+      for (Resource resource : response.getResourcesList()) {
+        knownVersions.put(resource.getName(), resource.getVersion());
+      }
+      knownVersions.keySet().removeAll(response.getRemovedResourcesList());
+    }
+
+    @Override
+    public void onRecvMessage(DeltaDiscoveryResponse response) {
+      syncContext.execute(new Runnable() {
+        @Override
+        public void run() {
+          if (closed) {
+            return;
+          }
+          boolean isFirstResponse = !responseReceived;
+          XdsResourceType<?> type = onResponse(response.getTypeUrl(), response);
+          if (type == null) {
+            return;
+          }
+          List<Any> resources = new ArrayList<>(response.getResourcesCount());
+          for (Resource resource : response.getResourcesList()) {
+            // A resource without a body only refreshes its TTL, which is not supported.
+            if (resource.hasResource()) {
+              resources.add(resource.getResource());
+            }
+          }
+          ProcessingTracker processingTracker = newProcessingTracker();
+          // Kept until the response is ACKed or NACKed, which may happen after the handler
+          // returns. The next response is not read before that.
+          pendingResponse = response;
+          xdsResponseHandler.handleDeltaResourceResponse(type, serverInfo,
+              response.getSystemVersionInfo(), resources, response.getRemovedResourcesList(),
+              response.getNonce(), isFirstResponse, processingTracker);
+          processingTracker.onComplete();
+        }
+      });
+    }
+  }
+
+  private static com.google.rpc.Status toErrorDetail(String errorDetail) {
+    return com.google.rpc.Status.newBuilder()
+        .setCode(Code.INVALID_ARGUMENT_VALUE)  // FIXME(chengyuanzhang): use correct code
+        .setMessage(errorDetail)
+        .build();
+  }
+
   @VisibleForTesting
   static class FailingXdsTransport implements XdsTransport {
     Status error;
@@ -210,6 +210,17 @@ public abstract class XdsClient {
           ResourceMetadataStatus.ACKED, version, updateTimeNanos, true, rawResource, null);
     }
 
+    /**
+     * A resource restored from the resource cache of an earlier process, which the xDS server has
+     * not sent yet.
+     */
+    public static ResourceMetadata newResourceMetadataFromCache(
+        Any rawResource, String version, long updateTimeNanos) {
+      checkNotNull(rawResource, "rawResource");
+      return new ResourceMetadata(
+          ResourceMetadataStatus.REQUESTED, version, updateTimeNanos, true, rawResource, null);
+    }
+
     public static ResourceMetadata newResourceMetadataNacked(
         ResourceMetadata metadata, String failedVersion, long failedUpdateTime,
         String failedDetails, boolean cached) {
@@ -437,10 +448,17 @@ public abstract class XdsClient {
     private final AtomicInteger pendingTask = new AtomicInteger(1);
     private final Executor executor;
     private final Runnable completionListener;
+    // The ADS stream that received the response being processed.
+    private final Object stream;
 
-    ProcessingTracker(Runnable completionListener, Executor executor) {
+    ProcessingTracker(Runnable completionListener, Executor executor, Object stream) {
       this.executor = executor;
       this.completionListener = completionListener;
+      this.stream = stream;
+    }
+
+    Object getStream() {
+      return stream;
     }
 
     void startTask() {
@@ -461,6 +479,15 @@ public abstract class XdsClient {
         List<Any> resources, String nonce, boolean isFirstResponse,
         ProcessingTracker processingTracker);
 
+    /**
+     * Called when an incremental xds response is received. Resources that are neither in
+     * {@code resources} nor in {@code removedResources} are unchanged.
+     */
+    void handleDeltaResourceResponse(
+        XdsResourceType<?> resourceType, ServerInfo serverInfo, String versionInfo,
+        List<Any> resources, Collection<String> removedResources, String nonce,
+        boolean isFirstResponse, ProcessingTracker processingTracker);
+
     /** Called when the ADS stream is closed passively. */
     // Must be synchronized.
     void handleStreamClosed(Status error, boolean shouldTryFallback);
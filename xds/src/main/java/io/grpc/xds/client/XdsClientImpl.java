@@ -27,9 +27,12 @@ import com.google.common.base.Stopwatch;
 import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import com.google.protobuf.Any;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
 import io.grpc.Internal;
 import io.grpc.InternalLogId;
 import io.grpc.Status;
@@ -37,6 +40,9 @@ import io.grpc.StatusOr;
 import io.grpc.SynchronizationContext;
 import io.grpc.SynchronizationContext.ScheduledHandle;
 import io.grpc.internal.BackoffPolicy;
+import io.grpc.internal.GrpcUtil;
+import io.grpc.internal.SerializingExecutor;
+import io.grpc.internal.SharedResourceHolder;
 import io.grpc.internal.TimeProvider;
 import io.grpc.xds.client.Bootstrapper.AuthorityInfo;
 import io.grpc.xds.client.Bootstrapper.ServerInfo;
@@ -54,8 +60,12 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
@@ -69,6 +79,12 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
   @VisibleForTesting
   public static final int INITIAL_RESOURCE_FETCH_TIMEOUT_SEC = 15;
   public static final int EXTENDED_RESOURCE_FETCH_TIMEOUT_SEC = 30;
+  // Number of resources parsed by each task on the parse executor. Responses with fewer resources
+  // are parsed on the sync context.
+  @VisibleForTesting
+  public static final int PARSE_CHUNK_SIZE = 64;
+  // Delay before writing the resource cache, so that a burst of responses is written once.
+  private static final long RESOURCE_CACHE_WRITE_DELAY_SEC = 1;
 
   private final SynchronizationContext syncContext = new SynchronizationContext(
       new Thread.UncaughtExceptionHandler() {
@@ -109,6 +125,20 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
   private volatile boolean isShutdown;
   private final MessagePrettyPrinter messagePrinter;
   private final XdsClientMetricReporter metricReporter;
+  @Nullable
+  private final Executor parseExecutor;
+  @Nullable
+  private final XdsResourceCache resourceCache;
+  /** Resources read from the resource cache by type URL and name, until they are subscribed. */
+  private final Map<String, Map<String, Resource>> restorableResources;
+  @Nullable
+  private ScheduledHandle resourceCacheWriteTimer;
+  // Runs the resource cache writes in order, off the sync context and the timer thread.
+  @Nullable
+  private final Executor resourceCacheWriteExecutor;
+  // The shared blocking executor, if the client acquired it for the resource cache writes.
+  @Nullable
+  private Executor sharedBlockingExecutor;
 
   public XdsClientImpl(
       XdsTransportFactory xdsTransportFactory,
@@ -120,6 +150,45 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
       MessagePrettyPrinter messagePrinter,
       Object securityConfig,
       XdsClientMetricReporter metricReporter) {
+    this(xdsTransportFactory, bootstrapInfo, timeService, backoffPolicyProvider, stopwatchSupplier,
+        timeProvider, messagePrinter, securityConfig, metricReporter, null);
+  }
+
+  /**
+   * Creates an XdsClient that parses large responses in parallel on {@code parseExecutor}, off
+   * the sync context. The next response is not read until the previous one has been applied.
+   */
+  public XdsClientImpl(
+      XdsTransportFactory xdsTransportFactory,
+      Bootstrapper.BootstrapInfo bootstrapInfo,
+      ScheduledExecutorService timeService,
+      BackoffPolicy.Provider backoffPolicyProvider,
+      Supplier<Stopwatch> stopwatchSupplier,
+      TimeProvider timeProvider,
+      MessagePrettyPrinter messagePrinter,
+      Object securityConfig,
+      XdsClientMetricReporter metricReporter,
+      @Nullable Executor parseExecutor) {
+    this(xdsTransportFactory, bootstrapInfo, timeService, backoffPolicyProvider, stopwatchSupplier,
+        timeProvider, messagePrinter, securityConfig, metricReporter, parseExecutor, null);
+  }
+
+  /**
+   * Creates an XdsClient that writes its resource cache, if it has one, from
+   * {@code blockingExecutor}. Without it, the client uses the shared blocking executor of gRPC.
+   */
+  public XdsClientImpl(
+      XdsTransportFactory xdsTransportFactory,
+      Bootstrapper.BootstrapInfo bootstrapInfo,
+      ScheduledExecutorService timeService,
+      BackoffPolicy.Provider backoffPolicyProvider,
+      Supplier<Stopwatch> stopwatchSupplier,
+      TimeProvider timeProvider,
+      MessagePrettyPrinter messagePrinter,
+      Object securityConfig,
+      XdsClientMetricReporter metricReporter,
+      @Nullable Executor parseExecutor,
+      @Nullable Executor blockingExecutor) {
     this.xdsTransportFactory = xdsTransportFactory;
     this.bootstrapInfo = bootstrapInfo;
     this.timeService = timeService;
@@ -129,9 +198,67 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
     this.messagePrinter = messagePrinter;
     this.securityConfig = securityConfig;
     this.metricReporter = metricReporter;
+    this.parseExecutor = parseExecutor;
     logId = InternalLogId.allocate("xds-client", null);
     logger = XdsLogger.withLogId(logId);
     logger.log(XdsLogLevel.INFO, "Created");
+    String resourceCachePath = bootstrapInfo.resourceCachePath();
+    resourceCache = resourceCachePath != null ? new XdsResourceCache(resourceCachePath) : null;
+    if (resourceCache != null && blockingExecutor == null) {
+      sharedBlockingExecutor = SharedResourceHolder.get(GrpcUtil.SHARED_CHANNEL_EXECUTOR);
+      blockingExecutor = sharedBlockingExecutor;
+    }
+    resourceCacheWriteExecutor =
+        blockingExecutor != null ? new SerializingExecutor(blockingExecutor) : null;
+    restorableResources = readResourceCache();
+  }
+
+  private Map<String, Map<String, Resource>> readResourceCache() {
+    if (resourceCache == null) {
+      return new HashMap<>();
+    }
+    try {
+      return resourceCache.read();
+    } catch (IOException e) {
+      logger.log(XdsLogLevel.WARNING, "Failed to read the xDS resource cache: {0}", e);
+      return new HashMap<>();
+    }
+  }
+
+  private void scheduleResourceCacheWrite() {
+    if (resourceCache == null
+        || (resourceCacheWriteTimer != null && resourceCacheWriteTimer.isPending())) {
+      return;
+    }
+    resourceCacheWriteTimer = syncContext.schedule(
+        this::writeResourceCache, RESOURCE_CACHE_WRITE_DELAY_SEC, TimeUnit.SECONDS, timeService);
+  }
+
+  private void writeResourceCache() {
+    List<Resource> resources = new ArrayList<>();
+    for (Map<String, ResourceSubscriber<? extends ResourceUpdate>> subscribers
+        : resourceSubscribers.values()) {
+      for (Map.Entry<String, ResourceSubscriber<?>> entry : subscribers.entrySet()) {
+        ResourceSubscriber<?> subscriber = entry.getValue();
+        if (subscriber.data == null || subscriber.metadata == null
+            || subscriber.metadata.getRawResource() == null) {
+          continue;
+        }
+        resources.add(Resource.newBuilder()
+            .setName(entry.getKey())
+            .setVersion(subscriber.metadata.getVersion())
+            .setResource(subscriber.metadata.getRawResource())
+            .build());
+      }
+    }
+    // Keep the blocking file IO off the sync context and the shared timer thread.
+    resourceCacheWriteExecutor.execute(() -> {
+      try {
+        resourceCache.write(resources);
+      } catch (IOException e) {
+        logger.log(XdsLogLevel.WARNING, "Failed to write the xDS resource cache: {0}", e);
+      }
+    });
   }
 
   @Override
@@ -151,6 +278,14 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
               lrsClient.stopLoadReporting();
             }
             cleanUpResourceTimers(null);
+            if (resourceCacheWriteTimer != null) {
+              resourceCacheWriteTimer.cancel();
+            }
+            if (sharedBlockingExecutor != null) {
+              // A write already started still completes.
+              sharedBlockingExecutor = SharedResourceHolder.release(
+                  GrpcUtil.SHARED_CHANNEL_EXECUTOR, sharedBlockingExecutor);
+            }
             activatedCpClients.clear();
           }
         });
@@ -209,7 +344,7 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
 
     for (String resourceName : resourceNames) {
       ResourceSubscriber<?> subscriber = subscriberMap.get(resourceName);
-      if (subscriber.respTimer == null && !subscriber.hasResult()) {
+      if (subscriber.respTimer == null && (!subscriber.hasResult() || subscriber.dataFromCache)) {
         subscriber.restartTimer();
       }
     }
@@ -269,6 +404,7 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
           resourceSubscribers.get(type).put(resourceName, subscriber);
 
           if (subscriber.errorDescription == null) {
+            subscriber.restoreFromResourceCache();
             CpcWithFallbackState cpcToUse = manageControlPlaneClient(subscriber);
             if (cpcToUse.cpc != null) {
               cpcToUse.cpc.adjustResourceSubscription(type);
@@ -556,9 +692,66 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
     }
   }
 
-  @SuppressWarnings("unchecked")
   private <T extends ResourceUpdate> void handleResourceUpdate(
-      XdsResourceType.Args args, List<Any> resources, XdsResourceType<T> xdsResourceType,
+      XdsResourceType.Args args, List<Any> resources,
+      @Nullable Collection<String> removedResources, XdsResourceType<T> xdsResourceType,
+      boolean isFirstResponse, ProcessingTracker processingTracker) {
+    if (parseExecutor == null || resources.size() < PARSE_CHUNK_SIZE) {
+      Stopwatch stopwatch = stopwatchSupplier.get().start();
+      ValidatedResourceUpdate<T> result = xdsResourceType.parse(args, resources);
+      reportParseTime(args, xdsResourceType, stopwatch.elapsed(TimeUnit.NANOSECONDS));
+      applyResourceUpdate(args, result, removedResources, xdsResourceType, isFirstResponse,
+          processingTracker);
+      return;
+    }
+
+    // Fork the parsing into chunks, and join them back in order on the sync context. The
+    // tracker holds off reading the next response until this one has been applied.
+    AtomicLong parseNanos = new AtomicLong();
+    List<ListenableFuture<ValidatedResourceUpdate<T>>> chunks = new ArrayList<>();
+    for (int i = 0; i < resources.size(); i += PARSE_CHUNK_SIZE) {
+      int fromIndex = i;
+      int toIndex = Math.min(i + PARSE_CHUNK_SIZE, resources.size());
+      Supplier<ValidatedResourceUpdate<T>> parseChunk = () -> {
+        Stopwatch stopwatch = stopwatchSupplier.get().start();
+        try {
+          return xdsResourceType.parse(args, resources, fromIndex, toIndex);
+        } finally {
+          parseNanos.addAndGet(stopwatch.elapsed(TimeUnit.NANOSECONDS));
+        }
+      };
+      try {
+        chunks.add(Futures.submit(parseChunk::get, parseExecutor));
+      } catch (RejectedExecutionException e) {
+        chunks.add(Futures.immediateFuture(parseChunk.get()));
+      }
+    }
+    ListenableFuture<List<ValidatedResourceUpdate<T>>> parsed = Futures.allAsList(chunks);
+    processingTracker.startTask();
+    parsed.addListener(() -> syncContext.execute(() -> {
+      try {
+        if (isShutdown || !serverCpClientMap.containsKey(args.serverInfo)) {
+          return;
+        }
+        reportParseTime(args, xdsResourceType, parseNanos.get());
+        applyResourceUpdate(args, XdsResourceType.merge(Futures.getUnchecked(parsed)),
+            removedResources, xdsResourceType, isFirstResponse, processingTracker);
+      } finally {
+        processingTracker.onComplete();
+      }
+    }), MoreExecutors.directExecutor());
+  }
+
+  private void reportParseTime(
+      XdsResourceType.Args args, XdsResourceType<?> xdsResourceType, long parseNanos) {
+    metricReporter.reportResourceParseTime(parseNanos / (double) TimeUnit.SECONDS.toNanos(1),
+        args.getServerInfo().target(), xdsResourceType.typeUrl());
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T extends ResourceUpdate> void applyResourceUpdate(
+      XdsResourceType.Args args, ValidatedResourceUpdate<T> result,
+      @Nullable Collection<String> removedResources, XdsResourceType<T> xdsResourceType,
       boolean isFirstResponse, ProcessingTracker processingTracker) {
     ControlPlaneClient controlPlaneClient = serverCpClientMap.get(args.serverInfo);
 
@@ -566,13 +759,14 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
       shutdownLowerPriorityCpcs(controlPlaneClient);
     }
 
-    ValidatedResourceUpdate<T> result = xdsResourceType.parse(args, resources);
     logger.log(XdsLogger.XdsLogLevel.INFO,
         "Received {0} Response version {1} nonce {2}. Parsed resources: {3}",
         xdsResourceType.typeName(), args.versionInfo, args.nonce, result.unpackedResources);
     Map<String, ParsedResource<T>> parsedResources = result.parsedResources;
     Set<String> invalidResources = result.invalidResources;
-    metricReporter.reportResourceUpdates(Long.valueOf(parsedResources.size()),
+    Map<String, Any> unchangedResources = result.unchangedResources;
+    metricReporter.reportResourceUpdates(
+        Long.valueOf(parsedResources.size() + unchangedResources.size()),
         Long.valueOf(invalidResources.size()),
         args.getServerInfo().target(), xdsResourceType.typeUrl());
 
@@ -580,21 +774,50 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
     String errorDetail = null;
     if (errors.isEmpty()) {
       checkArgument(invalidResources.isEmpty(), "found invalid resources but missing errors");
-      controlPlaneClient.ackResponse(xdsResourceType, args.versionInfo, args.nonce);
+      controlPlaneClient.ackResponse(
+          xdsResourceType, args.versionInfo, args.nonce, processingTracker);
     } else {
       errorDetail = Joiner.on('\n').join(errors);
       logger.log(XdsLogLevel.WARNING,
           "Failed processing {0} Response version {1} nonce {2}. Errors:\n{3}",
           xdsResourceType.typeName(), args.versionInfo, args.nonce, errorDetail);
-      controlPlaneClient.nackResponse(xdsResourceType, args.nonce, errorDetail);
+      controlPlaneClient.nackResponse(xdsResourceType, args.nonce, errorDetail, processingTracker);
     }
 
+    // Written once the subscribers below have been updated.
+    scheduleResourceCacheWrite();
+
     long updateTime = timeProvider.currentTimeNanos();
     Map<String, ResourceSubscriber<? extends ResourceUpdate>> subscribedResources =
         resourceSubscribers.getOrDefault(xdsResourceType, Collections.emptyMap());
     for (Map.Entry<String, ResourceSubscriber<?>> entry : subscribedResources.entrySet()) {
       String resourceName = entry.getKey();
       ResourceSubscriber<T> subscriber = (ResourceSubscriber<T>) entry.getValue();
+      Any unchangedResource = unchangedResources.get(resourceName);
+      if (unchangedResource != null) {
+        if (subscriber.data != null
+            && unchangedResource.equals(subscriber.metadata.getRawResource())) {
+          // Same as the resource the subscriber already has, so there is nothing to notify.
+          subscriber.onUnchanged(args.versionInfo, updateTime, processingTracker);
+          continue;
+        }
+        // The subscriber lost the resource while the response was being parsed in parallel, e.g.
+        // its watch was cancelled and added again. The server won't send it again, so parse it.
+        ValidatedResourceUpdate<T> reparsed = xdsResourceType.parse(
+            new XdsResourceType.Args(args.serverInfo, args.versionInfo, args.nonce,
+                args.bootstrapInfo, args.securityConfig, null),
+            Collections.singletonList(unchangedResource));
+        ParsedResource<T> parsedResource = reparsed.parsedResources.get(resourceName);
+        if (parsedResource != null) {
+          subscriber.onData(parsedResource, args.versionInfo, updateTime, processingTracker);
+        } else {
+          String reparseErrorDetail = Joiner.on('\n').join(reparsed.errors);
+          subscriber.onRejected(args.versionInfo, updateTime, reparseErrorDetail);
+          subscriber.onError(
+              Status.UNAVAILABLE.withDescription(reparseErrorDetail), processingTracker);
+        }
+        continue;
+      }
       if (parsedResources.containsKey(resourceName)) {
         // Happy path: the resource updated successfully. Notify the watchers of the update.
         subscriber.onData(parsedResources.get(resourceName), args.versionInfo, updateTime,
@@ -620,6 +843,15 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
         continue;
       }
 
+      // Delta ADS responses only carry changed resources, and name the deleted ones explicitly.
+      if (removedResources != null) {
+        if (removedResources.contains(resourceName)
+            && getActiveCpc(subscriber.authority) == controlPlaneClient) {
+          subscriber.onAbsent(processingTracker, args.serverInfo);
+        }
+        continue;
+      }
+
       // Nothing else to do for incremental ADS resources.
       if (!xdsResourceType.isFullStateOfTheWorld()) {
         continue;
@@ -682,8 +914,12 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
     private final XdsResourceType<T> type;
     private final String resource;
     private final Map<ResourceWatcher<T>, Executor> watchers = new HashMap<>();
+    // The same watchers, grouped so that each executor runs one task per notification.
+    private final Map<Executor, WatcherGroup> watcherGroups = new HashMap<>();
     @Nullable
     private T data;
+    // Whether the data was only restored from the resource cache, and not sent by the xDS server.
+    private boolean dataFromCache;
     private boolean absent;
     // Tracks whether the deletion has been ignored per bootstrap server feature.
     // See https://github.com/grpc/proposal/blob/master/A53-xds-ignore-resource-deletion.md
@@ -727,9 +963,44 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
           + '}';
     }
 
+    /**
+     * Serves the resource from the resource cache of an earlier process, if it is there, until
+     * the xDS server sends it or says it does not exist.
+     */
+    void restoreFromResourceCache() {
+      Map<String, Resource> resources = restorableResources.get(type.typeUrl());
+      Resource cached = resources != null ? resources.remove(resource) : null;
+      if (cached == null) {
+        return;
+      }
+      // Parsed as if it came from the primary server of the authority.
+      XdsResourceType.Args args = new XdsResourceType.Args(getServerInfos(authority).get(0),
+          cached.getVersion(), "", bootstrapInfo, securityConfig, null);
+      ValidatedResourceUpdate<T> result =
+          type.parse(args, Collections.singletonList(cached.getResource()));
+      if (result.parsedResources.size() != 1) {
+        logger.log(XdsLogLevel.WARNING, "Ignoring cached {0} resource {1}: {2}",
+            type, resource, result.errors);
+        return;
+      }
+      ParsedResource<T> parsedResource = result.parsedResources.values().iterator().next();
+      data = parsedResource.getResourceUpdate();
+      dataFromCache = true;
+      metadata = ResourceMetadata.newResourceMetadataFromCache(
+          parsedResource.getRawResource(), cached.getVersion(), timeProvider.currentTimeNanos());
+      logger.log(XdsLogLevel.INFO, "Restored {0} resource {1} version {2} from the cache",
+          type, resource, cached.getVersion());
+    }
+
     void addWatcher(ResourceWatcher<T> watcher, Executor watcherExecutor) {
       checkArgument(!watchers.containsKey(watcher), "watcher %s already registered", watcher);
       watchers.put(watcher, watcherExecutor);
+      WatcherGroup group = watcherGroups.get(watcherExecutor);
+      if (group == null) {
+        group = new WatcherGroup(watcherExecutor);
+        watcherGroups.put(watcherExecutor, group);
+      }
+      group.add(watcher);
       T savedData = data;
       boolean savedAbsent = absent;
       Status savedError = lastError;
@@ -755,11 +1026,17 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
 
     void removeWatcher(ResourceWatcher<T> watcher) {
       checkArgument(watchers.containsKey(watcher), "watcher %s not registered", watcher);
-      watchers.remove(watcher);
+      Executor watcherExecutor = watchers.remove(watcher);
+      WatcherGroup group = watcherGroups.get(watcherExecutor);
+      group.remove(watcher);
+      if (group.watchers.isEmpty()) {
+        watcherGroups.remove(watcherExecutor);
+      }
     }
 
     void restartTimer() {
-      if (data != null || absent) {  // resource already resolved
+      // Restored data is only served until the xDS server confirms it, so it is still fetched.
+      if ((data != null && !dataFromCache) || absent) {  // resource already resolved
         return;
       }
       ControlPlaneClient activeCpc = getActiveCpc(authority);
@@ -786,8 +1063,11 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
         }
       }
 
-      // Initial fetch scheduled or rescheduled, transition metadata state to REQUESTED.
-      metadata = ResourceMetadata.newResourceMetadataRequested();
+      // Initial fetch scheduled or rescheduled, transition metadata state to REQUESTED. Restored
+      // metadata is already in that state.
+      if (!dataFromCache) {
+        metadata = ResourceMetadata.newResourceMetadataRequested();
+      }
 
       if (respTimer != null) {
         respTimer.cancel();
@@ -833,6 +1113,7 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
       }
       ResourceUpdate oldData = this.data;
       this.data = parsedResource.getResourceUpdate();
+      dataFromCache = false;
       this.metadata = ResourceMetadata.newResourceMetadataAcked(
           parsedResource.getRawResource(), version, updateTime);
       absent = false;
@@ -845,19 +1126,16 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
       }
       if (!Objects.equals(oldData, data)) {
         StatusOr<T> update = StatusOr.fromValue(data);
-        for (ResourceWatcher<T> watcher : watchers.keySet()) {
-          processingTracker.startTask();
-          watchers.get(watcher).execute(() -> {
-            try {
-              watcher.onResourceChanged(update);
-            } finally {
-              processingTracker.onComplete();
-            }
-          });
-        }
+        notifyWatchers(watcher -> watcher.onResourceChanged(update), processingTracker);
       }
     }
 
+    void onUnchanged(String version, long updateTime, ProcessingTracker processingTracker) {
+      // Still goes through onData, to record the new version and clear any earlier error.
+      onData(new ParsedResource<>(data, metadata.getRawResource()), version, updateTime,
+          processingTracker);
+    }
+
     private String getTarget() {
       ControlPlaneClient activeCpc = getActiveCpc(authority);
       return (activeCpc != null)
@@ -879,7 +1157,8 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
       boolean failOnDataErrors = serverInfo.failOnDataErrors();
       boolean xdsDataErrorHandlingEnabled = BootstrapperImpl.xdsDataErrorHandlingEnabled;
 
-      if (type.isFullStateOfTheWorld() && data != null) {
+      // Restored data the xDS server never sent is simply absent.
+      if (type.isFullStateOfTheWorld() && data != null && !dataFromCache) {
         // New behavior (per gRFC A88): Default is to treat deletions as ambient errors
         if (xdsDataErrorHandlingEnabled && !failOnDataErrors) {
           if (!resourceDeletionIgnored) {
@@ -911,6 +1190,7 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
       logger.log(XdsLogLevel.INFO, "Conclude {0} resource {1} not exist", type, resource);
       if (!absent) {
         data = null;
+        dataFromCache = false;
         absent = true;
         lastError = null;
 
@@ -930,20 +1210,7 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
         }
 
         StatusOr<T> update = StatusOr.fromStatus(status);
-        for (Map.Entry<ResourceWatcher<T>, Executor> entry : watchers.entrySet()) {
-          if (processingTracker != null) {
-            processingTracker.startTask();
-          }
-          entry.getValue().execute(() -> {
-            try {
-              entry.getKey().onResourceChanged(update);
-            } finally {
-              if (processingTracker != null) {
-                processingTracker.onComplete();
-              }
-            }
-          });
-        }
+        notifyWatchers(watcher -> watcher.onResourceChanged(update), processingTracker);
       }
     }
 
@@ -967,37 +1234,25 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
       } else {
         // No data, this is a definitive resource error.
         StatusOr<T> update = StatusOr.fromStatus(errorAugmented);
-        for (Map.Entry<ResourceWatcher<T>, Executor> entry : watchers.entrySet()) {
-          if (tracker != null) {
-            tracker.startTask();
-          }
-          entry.getValue().execute(() -> {
-            try {
-              entry.getKey().onResourceChanged(update);
-            } finally {
-              if (tracker != null) {
-                tracker.onComplete();
-              }
-            }
-          });
-        }
+        notifyWatchers(watcher -> watcher.onResourceChanged(update), tracker);
       }
     }
 
     private void onAmbientError(Status error, @Nullable ProcessingTracker tracker) {
-      for (Map.Entry<ResourceWatcher<T>, Executor> entry : watchers.entrySet()) {
-        if (tracker != null) {
-          tracker.startTask();
-        }
-        entry.getValue().execute(() -> {
-          try {
-            entry.getKey().onAmbientError(error);
-          } finally {
-            if (tracker != null) {
-              tracker.onComplete();
-            }
-          }
-        });
+      for (WatcherGroup group : watcherGroups.values()) {
+        group.send(watcher -> watcher.onAmbientError(error), tracker, false);
+      }
+    }
+
+    /**
+     * Notifies the watchers of a change of the resource. Changes not tracked by a response may be
+     * coalesced with an earlier one that a group of watchers did not start to consume yet.
+     * Tracked changes need not be, since the next response is only read once they are consumed.
+     */
+    private void notifyWatchers(
+        Consumer<ResourceWatcher<T>> notification, @Nullable ProcessingTracker tracker) {
+      for (WatcherGroup group : watcherGroups.values()) {
+        group.send(notification, tracker, tracker == null);
       }
     }
 
@@ -1006,6 +1261,96 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
           .newResourceMetadataNacked(metadata, rejectedVersion, rejectedTime, rejectedDetails,
               data != null);
     }
+
+    /** The watchers that share an executor, which are notified by a single task. */
+    private final class WatcherGroup {
+      private final Executor executor;
+      // Copied on write, so that queued notifications keep the watchers they were sent to.
+      private List<ResourceWatcher<T>> watchers = ImmutableList.of();
+      // The last notification queued for the group, if it may still be replaced by a later one.
+      @Nullable
+      private WatcherNotification replaceableNotification;
+
+      WatcherGroup(Executor executor) {
+        this.executor = executor;
+      }
+
+      void add(ResourceWatcher<T> watcher) {
+        watchers = ImmutableList.<ResourceWatcher<T>>builder()
+            .addAll(watchers).add(watcher).build();
+        // A replaced notification would miss the new watcher.
+        replaceableNotification = null;
+      }
+
+      void remove(ResourceWatcher<T> watcher) {
+        List<ResourceWatcher<T>> remaining = new ArrayList<>(watchers);
+        remaining.remove(watcher);
+        watchers = ImmutableList.copyOf(remaining);
+        replaceableNotification = null;
+      }
+
+      void send(Consumer<ResourceWatcher<T>> notification,
+          @Nullable ProcessingTracker tracker, boolean replaceable) {
+        if (replaceable && replaceableNotification != null
+            && replaceableNotification.replaceIfPending(notification)) {
+          return;
+        }
+        WatcherNotification task = new WatcherNotification(watchers, notification, tracker);
+        replaceableNotification = replaceable ? task : null;
+        if (tracker != null) {
+          tracker.startTask();
+        }
+        executor.execute(task);
+      }
+    }
+
+    /** Delivers a notification to each watcher of a group in turn. */
+    private final class WatcherNotification implements Runnable {
+      private final List<ResourceWatcher<T>> watchers;
+      // Taken when the task starts, after which the notification can't be replaced anymore.
+      private final AtomicReference<Consumer<ResourceWatcher<T>>> notification;
+      @Nullable
+      private final ProcessingTracker tracker;
+
+      WatcherNotification(List<ResourceWatcher<T>> watchers,
+          Consumer<ResourceWatcher<T>> notification, @Nullable ProcessingTracker tracker) {
+        this.watchers = watchers;
+        this.notification = new AtomicReference<>(notification);
+        this.tracker = tracker;
+      }
+
+      boolean replaceIfPending(Consumer<ResourceWatcher<T>> newNotification) {
+        return notification.getAndUpdate(pending -> pending == null ? null : newNotification)
+            != null;
+      }
+
+      @Override
+      public void run() {
+        Consumer<ResourceWatcher<T>> pending = notification.getAndSet(null);
+        RuntimeException failure = null;
+        try {
+          for (ResourceWatcher<T> watcher : watchers) {
+            // A failing watcher must not keep the others of the group from being notified.
+            try {
+              pending.accept(watcher);
+            } catch (RuntimeException e) {
+              if (failure == null) {
+                failure = e;
+              } else {
+                failure.addSuppressed(e);
+              }
+            }
+          }
+        } finally {
+          if (tracker != null) {
+            tracker.onComplete();
+          }
+        }
+        if (failure != null) {
+          throw failure;
+        }
+      }
+    }
   }
 
   private class ResponseHandler implements XdsResponseHandler {
@@ -1022,13 +1367,60 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
         ProcessingTracker processingTracker) {
       checkNotNull(xdsResourceType, "xdsResourceType");
       syncContext.throwIfNotInThisSynchronizationContext();
+      handleResourceUpdate(newArgs(xdsResourceType, serverInfo, versionInfo, nonce), resources,
+          null, xdsResourceType, isFirstResponse, processingTracker);
+    }
+
+    @Override
+    public void handleDeltaResourceResponse(
+        XdsResourceType<?> xdsResourceType, ServerInfo serverInfo, String versionInfo,
+        List<Any> resources, Collection<String> removedResources, String nonce,
+        boolean isFirstResponse, ProcessingTracker processingTracker) {
+      checkNotNull(xdsResourceType, "xdsResourceType");
+      checkNotNull(removedResources, "removedResources");
+      syncContext.throwIfNotInThisSynchronizationContext();
+      handleResourceUpdate(newArgs(xdsResourceType, serverInfo, versionInfo, nonce), resources,
+          removedResources, xdsResourceType, isFirstResponse, processingTracker);
+    }
+
+    private XdsResourceType.Args newArgs(
+        XdsResourceType<?> xdsResourceType, ServerInfo serverInfo, String versionInfo,
+        String nonce) {
       Set<String> toParseResourceNames =
           xdsResourceType.shouldRetrieveResourceKeysForArgs()
           ? getResourceKeys(xdsResourceType)
           : null;
-      XdsResourceType.Args args = new XdsResourceType.Args(serverInfo, versionInfo, nonce,
-          bootstrapInfo, securityConfig, toParseResourceNames);
-      handleResourceUpdate(args, resources, xdsResourceType, isFirstResponse, processingTracker);
+      // The response may be parsed while the subscriptions change.
+      if (toParseResourceNames != null && parseExecutor != null) {
+        toParseResourceNames = new HashSet<>(toParseResourceNames);
+      }
+      return new XdsResourceType.Args(serverInfo, versionInfo, nonce,
+          bootstrapInfo, securityConfig, toParseResourceNames,
+          getCachedResources(xdsResourceType, serverInfo));
+    }
+
+    /**
+     * Returns the raw resources that subscribers have accepted from the given server, so that
+     * resources that did not change since are not parsed again.
+     */
+    private Map<Any, String> getCachedResources(
+        XdsResourceType<?> xdsResourceType, ServerInfo serverInfo) {
+      Map<String, ResourceSubscriber<? extends ResourceUpdate>> subscribers =
+          resourceSubscribers.getOrDefault(xdsResourceType, Collections.emptyMap());
+      Map<Any, String> cachedResources = new HashMap<>(subscribers.size());
+      for (Map.Entry<String, ResourceSubscriber<?>> entry : subscribers.entrySet()) {
+        ResourceSubscriber<?> subscriber = entry.getValue();
+        if (subscriber.data == null || subscriber.metadata == null
+            || subscriber.metadata.getRawResource() == null) {
+          continue;
+        }
+        // Parsing may depend on the server, e.g. whether it is trusted.
+        ControlPlaneClient activeCpc = getActiveCpc(subscriber.authority);
+        if (activeCpc != null && activeCpc.getServerInfo().equals(serverInfo)) {
+          cachedResources.put(subscriber.metadata.getRawResource(), entry.getKey());
+        }
+      }
+      return cachedResources;
     }
 
     @Override
@@ -1057,8 +1449,9 @@ public final class XdsClientImpl extends XdsClient implements ResourceStore {
           if (!authoritiesForClosedCpc.contains(subscriber.authority)) {
             continue;
           }
-          // If subscriber already has data, this is an ambient error.
-          if (subscriber.hasResult()) {
+          // If subscriber already has data, this is an ambient error. Data only restored from the
+          // resource cache is not confirmed by any server, so try to fall back for it instead.
+          if (subscriber.hasResult() && !subscriber.dataFromCache) {
             subscriber.onError(status, null);
             continue;
           }
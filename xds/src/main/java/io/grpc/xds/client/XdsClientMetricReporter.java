@@ -45,4 +45,16 @@ public interface XdsClientMetricReporter {
   default void reportServerFailure(long serverFailure, String xdsServer) {
   }
 
+  /**
+   * Reports the time spent parsing and validating the resources of a response.
+   *
+   * @param parseTimeSeconds Total time spent parsing, summed across threads when the resources
+   *     were parsed in parallel.
+   * @param xdsServer Target URI of the xDS server with which the XdsClient is communicating.
+   * @param resourceType Type of XDS resource (e.g., "envoy.config.listener.v3.Listener").
+   */
+  default void reportResourceParseTime(double parseTimeSeconds, String xdsServer,
+      String resourceType) {
+  }
+
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.xds.client;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A file holding the last resources accepted by the XdsClient, so that a new process can serve
+ * them before the xDS server responds. The file is a sequence of length-delimited
+ * {@link Resource}s, each with the name it was subscribed to and its version.
+ */
+@ThreadSafe
+final class XdsResourceCache {
+  private final Path path;
+
+  XdsResourceCache(String path) {
+    this.path = Paths.get(checkNotNull(path, "path"));
+  }
+
+  /**
+   * Reads the cached resources, keyed by type URL and then by resource name. Returns an empty map
+   * if the file does not exist yet.
+   */
+  synchronized Map<String, Map<String, Resource>> read() throws IOException {
+    Map<String, Map<String, Resource>> resources = new HashMap<>();
+    try (InputStream in = Files.newInputStream(path)) {
+      Resource resource;
+      while ((resource = Resource.parseDelimitedFrom(in)) != null) {
+        resources.computeIfAbsent(resource.getResource().getTypeUrl(), k -> new HashMap<>())
+            .put(resource.getName(), resource);
+      }
+    } catch (NoSuchFileException e) {
+      return new HashMap<>();
+    }
+    return resources;
+  }
+
+  /**
+   * Replaces the cached resources. The file is replaced atomically, so that a crash while writing
+   * leaves the previous version in place.
+   */
+  synchronized void write(Collection<Resource> resources) throws IOException {
+    Path dir = path.toAbsolutePath().getParent();
+    Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream out = Files.newOutputStream(tmp)) {
+        for (Resource resource : resources) {
+          resource.writeDelimitedTo(out);
+        }
+      }
+      Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+}
@@ -90,17 +90,31 @@ public abstract class XdsResourceType<T extends ResourceUpdate> {
     // unrequested resources.
     // Only resources in the set needs to be parsed. Null means parse everything.
     final @Nullable Set<String> subscribedResources;
+    // Raw resources the client has already accepted, mapped to their names. A resource that is
+    // identical to one of them is reported as unchanged instead of being unpacked and validated
+    // again. Null means parse everything.
+    final @Nullable Map<Any, String> cachedResources;
 
     public Args(ServerInfo serverInfo, String versionInfo, String nonce,
                 Bootstrapper.BootstrapInfo bootstrapInfo,
                 Object securityConfig,
                 @Nullable Set<String> subscribedResources) {
+      this(serverInfo, versionInfo, nonce, bootstrapInfo, securityConfig, subscribedResources,
+          null);
+    }
+
+    public Args(ServerInfo serverInfo, String versionInfo, String nonce,
+                Bootstrapper.BootstrapInfo bootstrapInfo,
+                Object securityConfig,
+                @Nullable Set<String> subscribedResources,
+                @Nullable Map<Any, String> cachedResources) {
       this.serverInfo = serverInfo;
       this.versionInfo = versionInfo;
       this.nonce = nonce;
       this.bootstrapInfo = bootstrapInfo;
       this.securityConfig = securityConfig;
       this.subscribedResources = subscribedResources;
+      this.cachedResources = cachedResources;
     }
 
     public ServerInfo getServerInfo() {
@@ -134,12 +148,23 @@ public abstract class XdsResourceType<T extends ResourceUpdate> {
   }
 
   ValidatedResourceUpdate<T> parse(Args args, List<Any> resources) {
-    Map<String, ParsedResource<T>> parsedResources = new HashMap<>(resources.size());
-    Set<String> unpackedResources = new HashSet<>(resources.size());
+    return parse(args, resources, 0, resources.size());
+  }
+
+  /**
+   * Parses {@code resources[fromIndex, toIndex)}. Indices in error messages are relative to the
+   * whole list, so that the results of parsing consecutive ranges may be {@link #merge merged}.
+   * May be called concurrently for different ranges of the same response.
+   */
+  ValidatedResourceUpdate<T> parse(Args args, List<Any> resources, int fromIndex, int toIndex) {
+    int size = toIndex - fromIndex;
+    Map<String, ParsedResource<T>> parsedResources = new HashMap<>(size);
+    Set<String> unpackedResources = new HashSet<>(size);
     Set<String> invalidResources = new HashSet<>();
+    Map<String, Any> unchangedResources = new HashMap<>();
     List<String> errors = new ArrayList<>();
 
-    for (int i = 0; i < resources.size(); i++) {
+    for (int i = fromIndex; i < toIndex; i++) {
       Any resource = resources.get(i);
 
       Message unpackedMessage;
@@ -151,6 +176,15 @@ public abstract class XdsResourceType<T extends ResourceUpdate> {
           resource = wrappedResource.getResource();
           name = wrappedResource.getName();
         } 
+        // Comparing the bytes is much cheaper than unpacking and validating the resource.
+        String cachedName =
+            args.cachedResources != null ? args.cachedResources.get(resource) : null;
+        if (cachedName != null
+            && (name.isEmpty() || canonifyResourceName(name).equals(cachedName))) {
+          unpackedResources.add(cachedName);
+          unchangedResources.put(cachedName, resource);
+          continue;
+        }
         unpackedMessage = unpackCompatibleType(resource, unpackedClassName(), typeUrl(), null);
       } catch (InvalidProtocolBufferException e) {
         errors.add(String.format("%s response Resource index %d - can't decode %s: %s",
@@ -196,10 +230,35 @@ public abstract class XdsResourceType<T extends ResourceUpdate> {
       parsedResources.put(cname, new ParsedResource<T>(resourceUpdate, resource));
     }
     return new ValidatedResourceUpdate<T>(parsedResources, unpackedResources, invalidResources,
-        errors);
+        unchangedResources, errors);
 
   }
 
+  /**
+   * Combines the results of parsing consecutive ranges of a response, in order. Later ranges win
+   * if a resource is duplicated, as when parsing the response at once.
+   */
+  static <T extends ResourceUpdate> ValidatedResourceUpdate<T> merge(
+      List<ValidatedResourceUpdate<T>> updates) {
+    if (updates.size() == 1) {
+      return updates.get(0);
+    }
+    Map<String, ParsedResource<T>> parsedResources = new HashMap<>();
+    Set<String> unpackedResources = new HashSet<>();
+    Set<String> invalidResources = new HashSet<>();
+    Map<String, Any> unchangedResources = new HashMap<>();
+    List<String> errors = new ArrayList<>();
+    for (ValidatedResourceUpdate<T> update : updates) {
+      parsedResources.putAll(update.parsedResources);
+      unpackedResources.addAll(update.unpackedResources);
+      invalidResources.addAll(update.invalidResources);
+      unchangedResources.putAll(update.unchangedResources);
+      errors.addAll(update.errors);
+    }
+    return new ValidatedResourceUpdate<T>(parsedResources, unpackedResources, invalidResources,
+        unchangedResources, errors);
+  }
+
   protected abstract T doParse(Args args, Message unpackedMessage) throws ResourceInvalidException;
 
   /**
@@ -245,16 +304,21 @@ public abstract class XdsResourceType<T extends ResourceUpdate> {
     Map<String, ParsedResource<T>> parsedResources;
     Set<String> unpackedResources;
     Set<String> invalidResources;
+    // Resources identical to the ones in Args.cachedResources, which were not parsed again, mapped
+    // to their raw resources.
+    Map<String, Any> unchangedResources;
     List<String> errors;
 
     // validated resource update
     public ValidatedResourceUpdate(Map<String, ParsedResource<T>> parsedResources,
                                    Set<String> unpackedResources,
                                    Set<String> invalidResources,
+                                   Map<String, Any> unchangedResources,
                                    List<String> errors) {
       this.parsedResources = parsedResources;
       this.unpackedResources = unpackedResources;
       this.invalidResources = invalidResources;
+      this.unchangedResources = unchangedResources;
       this.errors = errors;
     }
   }
@@ -19,10 +19,11 @@ package io.grpc.xds.internal;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.re2j.Pattern;
 import java.math.BigInteger;
 import java.net.InetAddress;
-import java.util.Locale;
 import javax.annotation.Nullable;
 
 /**
@@ -30,6 +31,11 @@ import javax.annotation.Nullable;
  * argument in the input matches a predefined matching pattern.
  */
 public final class Matchers {
+  // Characters that end the literal prefix of a regular expression.
+  private static final String REGEX_META_CHARS = "\\.+*?()|[]{}^$";
+  // Quantifiers that make the character before them optional.
+  private static final String OPTIONAL_QUANTIFIERS = "?*{";
+
   // Prevent instantiation.
   private Matchers() {}
 
@@ -150,32 +156,43 @@ public final class Matchers {
       if (value == null) {
         return present() != null && present() == inverted();
       }
-      boolean baseMatch;
+      return compiled().matches(value) != inverted();
+    }
+
+    // The match of present header values, specialized once for the kind of this matcher.
+    @Memoized
+    ValueMatcher compiled() {
       if (exactValue() != null) {
-        baseMatch = exactValue().equals(value);
+        String exactValue = exactValue();
+        return exactValue::equals;
       } else if (safeRegEx() != null) {
-        baseMatch = safeRegEx().matches(value);
+        return compileRegEx(safeRegEx());
       } else if (range() != null) {
-        long numValue;
-        try {
-          numValue = Long.parseLong(value);
-          baseMatch = numValue >= range().start()
-              && numValue <= range().end();
-        } catch (NumberFormatException ignored) {
-          baseMatch = false;
-        }
+        long start = range().start();
+        long end = range().end();
+        return value -> {
+          long numValue;
+          try {
+            numValue = Long.parseLong(value);
+          } catch (NumberFormatException ignored) {
+            return false;
+          }
+          return numValue >= start && numValue <= end;
+        };
       } else if (prefix() != null) {
-        baseMatch = value.startsWith(prefix());
+        String prefix = prefix();
+        return value -> value.startsWith(prefix);
       } else if (present() != null) {
-        baseMatch = present();
+        boolean present = present();
+        return value -> present;
       } else if (suffix() != null) {
-        baseMatch = value.endsWith(suffix());
+        String suffix = suffix();
+        return value -> value.endsWith(suffix);
       } else if (contains() != null) {
-        baseMatch = value.contains(contains());
-      } else {
-        baseMatch = stringMatcher().matches(value);
+        String contains = contains();
+        return value -> value.contains(contains);
       }
-      return baseMatch != inverted();
+      return stringMatcher().compiled();
     }
 
     /** Represents an integer range. */
@@ -268,22 +285,32 @@ public final class Matchers {
       if (args == null) {
         return false;
       }
+      return compiled().matches(args);
+    }
+
+    // Specialized once for the kind of this matcher. The case insensitive matches compare the
+    // regions in place, instead of lowercasing the input on every match.
+    @Memoized
+    ValueMatcher compiled() {
       if (exact() != null) {
-        return ignoreCase()
-            ? exact().equalsIgnoreCase(args)
-            : exact().equals(args);
+        String exact = exact();
+        return ignoreCase() ? exact::equalsIgnoreCase : exact::equals;
       } else if (prefix() != null) {
+        String prefix = prefix();
         return ignoreCase()
-            ? args.toLowerCase(Locale.ROOT).startsWith(prefix().toLowerCase(Locale.ROOT))
-            : args.startsWith(prefix());
+            ? args -> args.regionMatches(true, 0, prefix, 0, prefix.length())
+            : args -> args.startsWith(prefix);
       } else if (suffix() != null) {
+        String suffix = suffix();
         return ignoreCase()
-            ? args.toLowerCase(Locale.ROOT).endsWith(suffix().toLowerCase(Locale.ROOT))
-            : args.endsWith(suffix());
+            ? args -> args.regionMatches(
+                true, args.length() - suffix.length(), suffix, 0, suffix.length())
+            : args -> args.endsWith(suffix);
       } else if (contains() != null) {
-        return args.contains(contains());
+        String contains = contains();
+        return args -> args.contains(contains);
       }
-      return regEx().matches(args);
+      return compileRegEx(regEx());
     }
 
     private static StringMatcher create(@Nullable String exact, @Nullable String prefix,
@@ -294,6 +321,47 @@ public final class Matchers {
     }
   }
 
+  /** Matches a non-null string. */
+  interface ValueMatcher {
+    boolean matches(String value);
+  }
+
+  /**
+   * Matches the whole input against {@code regEx}. A regular expression that is a plain literal is
+   * matched with {@link String#equals}, and inputs without the literal prefix of a regular
+   * expression are rejected before running RE2.
+   */
+  @VisibleForTesting
+  static ValueMatcher compileRegEx(Pattern regEx) {
+    String prefix = literalPrefix(regEx);
+    if (prefix.length() == regEx.pattern().length()) {
+      return prefix::equals;
+    }
+    if (prefix.isEmpty()) {
+      return regEx::matches;
+    }
+    return value -> value.startsWith(prefix) && regEx.matches(value);
+  }
+
+  /** Returns the literal every full match of {@code regEx} starts with, possibly empty. */
+  @VisibleForTesting
+  static String literalPrefix(Pattern regEx) {
+    String pattern = regEx.pattern();
+    // An alternative need not start with the prefix of the first one.
+    if ((regEx.flags() & Pattern.CASE_INSENSITIVE) != 0 || pattern.indexOf('|') >= 0) {
+      return "";
+    }
+    int end = 0;
+    while (end < pattern.length() && REGEX_META_CHARS.indexOf(pattern.charAt(end)) < 0) {
+      end++;
+    }
+    if (end > 0 && end < pattern.length()
+        && OPTIONAL_QUANTIFIERS.indexOf(pattern.charAt(end)) >= 0) {
+      end = pattern.offsetByCodePoints(end, -1);
+    }
+    return pattern.substring(0, end);
+  }
+
   /** Matcher to evaluate whether an IPv4 or IPv6 address is within a CIDR range. */
   @AutoValue
   public abstract static class CidrMatcher {
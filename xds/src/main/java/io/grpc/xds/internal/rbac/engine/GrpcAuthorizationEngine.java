@@ -36,8 +36,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
@@ -280,6 +282,8 @@ public final class GrpcAuthorizationEngine {
   private static final class EvaluateArgs {
     private final Metadata metadata;
     private final ServerCall<?,?> serverCall;
+    // Header values already looked up by the matchers of this RPC, including absent ones.
+    private final Map<String, String> headers = new HashMap<>();
     // https://github.com/envoyproxy/envoy/blob/63619d578e1abe0c1725ea28ba02f361466662e1/api/envoy/config/rbac/v3/rbac.proto#L238-L240
     private static final int URI_SAN = 6;
     private static final int DNS_SAN = 2;
@@ -347,6 +351,16 @@ public final class GrpcAuthorizationEngine {
 
     @Nullable
     private String getHeader(String headerName) {
+      String value = headers.get(headerName);
+      if (value == null && !headers.containsKey(headerName)) {
+        value = lookUpHeader(headerName);
+        headers.put(headerName, value);
+      }
+      return value;
+    }
+
+    @Nullable
+    private String lookUpHeader(String headerName) {
       headerName = headerName.toLowerCase(Locale.ROOT);
       if ("te".equals(headerName)) {
         return null;
@@ -58,4 +58,17 @@ public class AddressFilterTest {
     assertThat(filteredAddress0.getAttributes().get(key1)).isEqualTo("value1");
     assertThat(filteredAddress1.getAddresses()).containsExactlyElementsIn(eag3.getAddresses());
   }
+
+  @Test
+  public void equalPathFilters_equalAddresses() {
+    EquivalentAddressGroup eag = new EquivalentAddressGroup(new InetSocketAddress(8000));
+    EquivalentAddressGroup eag0 = AddressFilter.setPathFilter(eag, Arrays.asList("A", "B"));
+    EquivalentAddressGroup eag1 = AddressFilter.setPathFilter(eag, Arrays.asList("A", "B"));
+    EquivalentAddressGroup eag2 = AddressFilter.setPathFilter(eag, Arrays.asList("A", "C"));
+    assertThat(eag0).isEqualTo(eag1);
+    assertThat(eag0.hashCode()).isEqualTo(eag1.hashCode());
+    assertThat(eag0).isNotEqualTo(eag2);
+    assertThat(AddressFilter.filter(Arrays.asList(eag0), "A"))
+        .isEqualTo(AddressFilter.filter(Arrays.asList(eag1), "A"));
+  }
 }
@@ -824,6 +824,85 @@ public class GrpcBootstrapperImplTest {
     assertThat(serverInfo.failOnDataErrors()).isFalse();
   }
 
+  @Test
+  public void serverFeature_deltaXds() throws XdsInitializationException {
+    String rawData = "{\n"
+        + "  \"xds_servers\": [\n"
+        + "    {\n"
+        + "      \"server_uri\": \"" + SERVER_URI + "\",\n"
+        + "      \"channel_creds\": [\n"
+        + "        {\"type\": \"insecure\"}\n"
+        + "      ],\n"
+        + "      \"server_features\": [\"delta_xds\"]\n"
+        + "    }\n"
+        + "  ]\n"
+        + "}";
+    bootstrapper.setFileReader(createFileReader(BOOTSTRAP_FILE_PATH, rawData));
+
+    BootstrapperImpl.xdsDeltaEnabled = false;
+    assertThat(Iterables.getOnlyElement(bootstrapper.bootstrap().servers()).deltaXds()).isFalse();
+
+    BootstrapperImpl.xdsDeltaEnabled = true;
+    try {
+      assertThat(Iterables.getOnlyElement(bootstrapper.bootstrap().servers()).deltaXds())
+          .isTrue();
+    } finally {
+      BootstrapperImpl.xdsDeltaEnabled = false;
+    }
+  }
+
+  @Test
+  public void resourceCache() throws XdsInitializationException {
+    String rawData = "{\n"
+        + "  \"xds_servers\": [\n"
+        + "    {\n"
+        + "      \"server_uri\": \"" + SERVER_URI + "\",\n"
+        + "      \"channel_creds\": [\n"
+        + "        {\"type\": \"insecure\"}\n"
+        + "      ]\n"
+        + "    }\n"
+        + "  ],\n"
+        + "  \"resource_cache\": {\"path\": \"/var/cache/xds-resources\"}\n"
+        + "}";
+    bootstrapper.setFileReader(createFileReader(BOOTSTRAP_FILE_PATH, rawData));
+
+    BootstrapperImpl.xdsResourceCacheEnabled = false;
+    assertThat(bootstrapper.bootstrap().resourceCachePath()).isNull();
+
+    BootstrapperImpl.xdsResourceCacheEnabled = true;
+    try {
+      assertThat(bootstrapper.bootstrap().resourceCachePath())
+          .isEqualTo("/var/cache/xds-resources");
+    } finally {
+      BootstrapperImpl.xdsResourceCacheEnabled = false;
+    }
+  }
+
+  @Test
+  public void resourceCache_missingPath() {
+    String rawData = "{\n"
+        + "  \"xds_servers\": [\n"
+        + "    {\n"
+        + "      \"server_uri\": \"" + SERVER_URI + "\",\n"
+        + "      \"channel_creds\": [\n"
+        + "        {\"type\": \"insecure\"}\n"
+        + "      ]\n"
+        + "    }\n"
+        + "  ],\n"
+        + "  \"resource_cache\": {}\n"
+        + "}";
+    bootstrapper.setFileReader(createFileReader(BOOTSTRAP_FILE_PATH, rawData));
+
+    BootstrapperImpl.xdsResourceCacheEnabled = true;
+    try {
+      XdsInitializationException e =
+          assertThrows(XdsInitializationException.class, bootstrapper::bootstrap);
+      assertThat(e).hasMessageThat().contains("'resource_cache' has no path");
+    } finally {
+      BootstrapperImpl.xdsResourceCacheEnabled = false;
+    }
+  }
+
   @Test
   public void notFound() {
     bootstrapper.bootstrapPathFromEnvVar = null;
@@ -178,12 +178,14 @@ public class GrpcXdsClientImplDataTest {
   private boolean originalEnableRouteLookup;
   private boolean originalEnableLeastRequest;
   private boolean originalEnableUseSystemRootCerts;
+  private boolean originalEnableInterning;
 
   @Before
   public void setUp() {
     originalEnableRouteLookup = XdsRouteConfigureResource.enableRouteLookup;
     originalEnableLeastRequest = XdsClusterResource.enableLeastRequest;
     originalEnableUseSystemRootCerts = XdsClusterResource.enableSystemRootCerts;
+    originalEnableInterning = XdsResourceInterner.enabled;
   }
 
   @After
@@ -191,6 +193,7 @@ public class GrpcXdsClientImplDataTest {
     XdsRouteConfigureResource.enableRouteLookup = originalEnableRouteLookup;
     XdsClusterResource.enableLeastRequest = originalEnableLeastRequest;
     XdsClusterResource.enableSystemRootCerts = originalEnableUseSystemRootCerts;
+    XdsResourceInterner.enabled = originalEnableInterning;
   }
 
   @Test
@@ -1079,6 +1082,31 @@ public class GrpcXdsClientImplDataTest {
             100, 1, ImmutableMap.of()));
   }
 
+  @Test
+  public void parseLocalityLbEndpoints_interned() throws ResourceInvalidException {
+    XdsResourceInterner.enabled = true;
+    io.envoyproxy.envoy.config.endpoint.v3.LocalityLbEndpoints proto =
+        io.envoyproxy.envoy.config.endpoint.v3.LocalityLbEndpoints.newBuilder()
+            .setLocality(Locality.newBuilder()
+                .setRegion("region-foo").setZone("zone-foo").setSubZone("subZone-foo"))
+            .setLoadBalancingWeight(UInt32Value.newBuilder().setValue(100))
+            .setPriority(1)
+            .addLbEndpoints(io.envoyproxy.envoy.config.endpoint.v3.LbEndpoint.newBuilder()
+                .setEndpoint(Endpoint.newBuilder()
+                    .setAddress(Address.newBuilder()
+                        .setSocketAddress(
+                            SocketAddress.newBuilder()
+                                .setAddress("172.14.14.5").setPortValue(8888))))
+                .setLoadBalancingWeight(UInt32Value.newBuilder().setValue(20)))
+            .build();
+    LocalityLbEndpoints first = XdsEndpointResource.parseLocalityLbEndpoints(proto).getStruct();
+    LocalityLbEndpoints second = XdsEndpointResource.parseLocalityLbEndpoints(
+        proto.toBuilder().setPriority(2).build()).getStruct();
+    assertThat(second).isNotEqualTo(first);
+    // Equal endpoints are shared, even by different localities.
+    assertThat(second.endpoints().get(0)).isSameInstanceAs(first.endpoints().get(0));
+  }
+
   @Test
   public void parseLocalityLbEndpoints_onlyPermitIp() {
     io.envoyproxy.envoy.config.endpoint.v3.LocalityLbEndpoints proto =
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.xds;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import com.google.protobuf.UInt32Value;
+import io.envoyproxy.envoy.config.core.v3.Address;
+import io.envoyproxy.envoy.config.core.v3.Locality;
+import io.envoyproxy.envoy.config.core.v3.SocketAddress;
+import io.envoyproxy.envoy.config.endpoint.v3.ClusterLoadAssignment;
+import io.envoyproxy.envoy.config.endpoint.v3.Endpoint;
+import io.envoyproxy.envoy.config.endpoint.v3.LbEndpoint;
+import io.envoyproxy.envoy.config.endpoint.v3.LocalityLbEndpoints;
+import io.envoyproxy.envoy.service.discovery.v3.AggregatedDiscoveryServiceGrpc;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryRequest;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryResponse;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusOr;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.internal.BackoffPolicy;
+import io.grpc.internal.FakeClock;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import io.grpc.xds.GrpcXdsTransportFactory.GrpcXdsTransport;
+import io.grpc.xds.XdsEndpointResource.EdsUpdate;
+import io.grpc.xds.client.Bootstrapper.BootstrapInfo;
+import io.grpc.xds.client.Bootstrapper.ServerInfo;
+import io.grpc.xds.client.EnvoyProtoData.Node;
+import io.grpc.xds.client.XdsClient.ResourceWatcher;
+import io.grpc.xds.client.XdsClientImpl;
+import io.grpc.xds.client.XdsClientMetricReporter;
+import io.grpc.xds.internal.security.TlsContextManagerImpl;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Tests for {@link XdsClientImpl} with a control plane that speaks the incremental (delta)
+ * variant of ADS.
+ */
+@RunWith(JUnit4.class)
+public class GrpcXdsClientImplDeltaTest {
+  private static final String SERVER_URI = "trafficdirector.googleapis.com";
+  private static final Node NODE = Node.newBuilder().setId("cool-node-id").build();
+  private static final String EDS_TYPE_URL = XdsEndpointResource.getInstance().typeUrl();
+
+  @Rule
+  public final GrpcCleanupRule cleanupRule = new GrpcCleanupRule();
+  @Rule
+  public final MockitoRule mocks = MockitoJUnit.rule();
+
+  private final FakeClock fakeClock = new FakeClock();
+  private final BlockingQueue<DeltaDiscoveryRequest> requests = new LinkedBlockingQueue<>();
+  private StreamObserver<DeltaDiscoveryResponse> responseObserver;
+  private ManagedChannel channel;
+  private XdsClientImpl xdsClient;
+
+  @Mock
+  private BackoffPolicy.Provider backoffPolicyProvider;
+  @Mock
+  private BackoffPolicy backoffPolicy;
+  @Mock
+  private XdsClientMetricReporter xdsClientMetricReporter;
+  @Mock
+  private ResourceWatcher<EdsUpdate> watcherA;
+  @Mock
+  private ResourceWatcher<EdsUpdate> watcherB;
+
+  @Before
+  public void setUp() throws Exception {
+    when(backoffPolicyProvider.get()).thenReturn(backoffPolicy);
+    when(backoffPolicy.nextBackoffNanos()).thenReturn(10L);
+    String serverName = InProcessServerBuilder.generateName();
+    cleanupRule.register(InProcessServerBuilder.forName(serverName)
+        .addService(new AggregatedDiscoveryServiceGrpc.AggregatedDiscoveryServiceImplBase() {
+          @Override
+          public StreamObserver<DeltaDiscoveryRequest> deltaAggregatedResources(
+              StreamObserver<DeltaDiscoveryResponse> responseObserver) {
+            GrpcXdsClientImplDeltaTest.this.responseObserver = responseObserver;
+            return new StreamObserver<DeltaDiscoveryRequest>() {
+              @Override
+              public void onNext(DeltaDiscoveryRequest request) {
+                requests.add(request);
+              }
+
+              @Override
+              public void onError(Throwable t) {}
+
+              @Override
+              public void onCompleted() {}
+            };
+          }
+        })
+        .directExecutor()
+        .build()
+        .start());
+    channel = cleanupRule.register(
+        InProcessChannelBuilder.forName(serverName).directExecutor().build());
+
+    ServerInfo serverInfo = ServerInfo.create(
+        SERVER_URI, InsecureChannelCredentials.create(), false, true, false, false, true);
+    BootstrapInfo bootstrapInfo = BootstrapInfo.builder()
+        .servers(ImmutableList.of(serverInfo))
+        .node(NODE)
+        .build();
+    xdsClient = new XdsClientImpl(
+        info -> new GrpcXdsTransport(channel),
+        bootstrapInfo,
+        fakeClock.getScheduledExecutorService(),
+        backoffPolicyProvider,
+        fakeClock.getStopwatchSupplier(),
+        fakeClock.getTimeProvider(),
+        MessagePrinter.INSTANCE,
+        new TlsContextManagerImpl(bootstrapInfo),
+        xdsClientMetricReporter);
+  }
+
+  @After
+  public void tearDown() {
+    xdsClient.shutdown();
+  }
+
+  @Test
+  public void subscriptionChanges_sendOnlyTheDifference() {
+    xdsClient.watchXdsResource(XdsEndpointResource.getInstance(), "a", watcherA);
+    DeltaDiscoveryRequest request = requests.poll();
+    assertThat(request.getTypeUrl()).isEqualTo(EDS_TYPE_URL);
+    assertThat(request.hasNode()).isTrue();
+    assertThat(request.getResourceNamesSubscribeList()).containsExactly("a");
+    assertThat(request.getResourceNamesUnsubscribeList()).isEmpty();
+
+    xdsClient.watchXdsResource(XdsEndpointResource.getInstance(), "b", watcherB);
+    request = requests.poll();
+    assertThat(request.hasNode()).isFalse();
+    assertThat(request.getResourceNamesSubscribeList()).containsExactly("b");
+    assertThat(request.getResourceNamesUnsubscribeList()).isEmpty();
+
+    xdsClient.cancelXdsResourceWatch(XdsEndpointResource.getInstance(), "a", watcherA);
+    request = requests.poll();
+    assertThat(request.getResourceNamesSubscribeList()).isEmpty();
+    assertThat(request.getResourceNamesUnsubscribeList()).containsExactly("a");
+    assertThat(requests).isEmpty();
+  }
+
+  @Test
+  public void response_onlyNotifiesChangedAndRemovedResources() {
+    xdsClient.watchXdsResource(XdsEndpointResource.getInstance(), "a", watcherA);
+    xdsClient.watchXdsResource(XdsEndpointResource.getInstance(), "b", watcherB);
+    requests.clear();
+
+    responseObserver.onNext(DeltaDiscoveryResponse.newBuilder()
+        .setTypeUrl(EDS_TYPE_URL)
+        .addResources(resource("a", "1"))
+        .setNonce("0")
+        .build());
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<StatusOr<EdsUpdate>> captor = ArgumentCaptor.forClass(StatusOr.class);
+    verify(watcherA).onResourceChanged(captor.capture());
+    assertThat(captor.getValue().getValue().clusterName).isEqualTo("a");
+    // Resource b is not in the response, which does not mean it does not exist.
+    verify(watcherB, never()).onResourceChanged(any());
+    DeltaDiscoveryRequest ack = requests.poll();
+    assertThat(ack.getTypeUrl()).isEqualTo(EDS_TYPE_URL);
+    assertThat(ack.getResponseNonce()).isEqualTo("0");
+    assertThat(ack.hasErrorDetail()).isFalse();
+    assertThat(ack.getResourceNamesSubscribeList()).isEmpty();
+
+    responseObserver.onNext(DeltaDiscoveryResponse.newBuilder()
+        .setTypeUrl(EDS_TYPE_URL)
+        .addRemovedResources("a")
+        .setNonce("1")
+        .build());
+    verify(watcherA, times(2)).onResourceChanged(captor.capture());
+    assertThat(captor.getValue().getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND);
+    verify(watcherB, never()).onResourceChanged(any());
+    assertThat(requests.poll().getResponseNonce()).isEqualTo("1");
+  }
+
+  @Test
+  public void nack_includesErrorDetail() {
+    xdsClient.watchXdsResource(XdsEndpointResource.getInstance(), "a", watcherA);
+    requests.clear();
+
+    responseObserver.onNext(DeltaDiscoveryResponse.newBuilder()
+        .setTypeUrl(EDS_TYPE_URL)
+        .addResources(Resource.newBuilder()
+            .setName("a")
+            .setVersion("1")
+            .setResource(Any.pack(ClusterLoadAssignment.newBuilder()
+                .setClusterName("a")
+                .addEndpoints(LocalityLbEndpoints.newBuilder().setPriority(-1))
+                .build())))
+        .setNonce("0")
+        .build());
+    DeltaDiscoveryRequest nack = requests.poll();
+    assertThat(nack.getResponseNonce()).isEqualTo("0");
+    assertThat(nack.hasErrorDetail()).isTrue();
+  }
+
+  @Test
+  public void reconnect_sendsAckedResourceVersions() {
+    xdsClient.watchXdsResource(XdsEndpointResource.getInstance(), "a", watcherA);
+    xdsClient.watchXdsResource(XdsEndpointResource.getInstance(), "b", watcherB);
+    responseObserver.onNext(DeltaDiscoveryResponse.newBuilder()
+        .setTypeUrl(EDS_TYPE_URL)
+        .addResources(resource("a", "1"))
+        .setNonce("0")
+        .build());
+    requests.clear();
+
+    responseObserver.onCompleted();
+    fakeClock.forwardNanos(10L);
+    DeltaDiscoveryRequest request = requests.poll();
+    assertThat(request.hasNode()).isTrue();
+    assertThat(request.getResourceNamesSubscribeList()).containsExactly("a", "b");
+    assertThat(request.getInitialResourceVersionsMap()).containsExactly("a", "1");
+  }
+
+  private static Resource resource(String name, String version) {
+    ClusterLoadAssignment clusterLoadAssignment = ClusterLoadAssignment.newBuilder()
+        .setClusterName(name)
+        .addEndpoints(LocalityLbEndpoints.newBuilder()
+            .setLocality(Locality.newBuilder().setRegion("region1"))
+            .setLoadBalancingWeight(UInt32Value.of(1))
+            .addLbEndpoints(LbEndpoint.newBuilder()
+                .setEndpoint(Endpoint.newBuilder()
+                    .setAddress(Address.newBuilder()
+                        .setSocketAddress(SocketAddress.newBuilder()
+                            .setAddress("10.0.0.1")
+                            .setPortValue(8080))))))
+        .build();
+    return Resource.newBuilder()
+        .setName(name)
+        .setVersion(version)
+        .setResource(Any.pack(clusterLoadAssignment))
+        .build();
+  }
+}
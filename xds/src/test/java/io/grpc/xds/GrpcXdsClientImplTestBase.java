@@ -51,6 +51,7 @@ import io.envoyproxy.envoy.config.route.v3.FilterConfig;
 import io.envoyproxy.envoy.config.route.v3.WeightedCluster;
 import io.envoyproxy.envoy.extensions.filters.http.router.v3.Router;
 import io.envoyproxy.envoy.extensions.transport_sockets.tls.v3.CertificateProviderPluginInstance;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
 import io.grpc.BindableService;
 import io.grpc.ChannelCredentials;
 import io.grpc.Context;
@@ -108,8 +109,14 @@ import io.grpc.xds.client.XdsResourceType.ResourceInvalidException;
 import io.grpc.xds.client.XdsTransportFactory;
 import io.grpc.xds.internal.security.CommonTlsContextTestsUtil;
 import io.grpc.xds.internal.security.TlsContextManagerImpl;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -130,6 +137,7 @@ import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 import org.mockito.ArgumentCaptor;
@@ -219,6 +227,8 @@ public abstract class GrpcXdsClientImplTestBase {
   public final GrpcCleanupRule cleanupRule = new GrpcCleanupRule();
   @Rule
   public final MockitoRule mocks = MockitoJUnit.rule();
+  @Rule
+  public final TemporaryFolder tempFolder = new TemporaryFolder();
 
   private final FakeClock fakeClock = new FakeClock();
   protected final BlockingDeque<DiscoveryRpcCall> resourceDiscoveryCalls =
@@ -3170,6 +3180,319 @@ public abstract class GrpcXdsClientImplTestBase {
     verify(cdsResourceWatcher, times(3)).onResourceChanged(any());
   }
 
+  // Assures that CDS resources identical to the accepted ones are not parsed again.
+  @Test
+  public void cdsResourceUnchanged_notParsedAgain() {
+    DiscoveryRpcCall call = startResourceWatcher(XdsClusterResource.getInstance(), CDS_RESOURCE,
+        cdsResourceWatcher);
+    Any leastRequestConfig = Any.pack(
+        mf.buildEdsCluster(CDS_RESOURCE, null, "least_request_experimental",
+            null, mf.buildLeastRequestLbConfig(2), false, null,
+            "envoy.transport_sockets.tls", null, null
+        ));
+    call.sendResponse(CDS, leastRequestConfig, VERSION_1, "0000");
+    call.verifyRequest(CDS, CDS_RESOURCE, VERSION_1, "0000", NODE);
+    verify(cdsResourceWatcher).onResourceChanged(argThat(StatusOr::hasValue));
+
+    // Parsing the resource again would now reject it.
+    XdsClusterResource.enableLeastRequest = false;
+    call.sendResponse(CDS, leastRequestConfig, VERSION_2, "0001");
+    call.verifyRequest(CDS, CDS_RESOURCE, VERSION_2, "0001", NODE);
+    verify(cdsResourceWatcher).onResourceChanged(any());
+    verifyResourceMetadataAcked(
+        CDS, CDS_RESOURCE, leastRequestConfig, VERSION_2, TIME_INCREMENT * 2);
+    verifyResourceValidInvalidCount(2, 1, 0, xdsServerInfo.target(), CDS.typeUrl());
+
+    // A changed resource is parsed.
+    Any changedLeastRequestConfig = Any.pack(
+        mf.buildEdsCluster(CDS_RESOURCE, null, "least_request_experimental",
+            null, mf.buildLeastRequestLbConfig(3), false, null,
+            "envoy.transport_sockets.tls", null, null
+        ));
+    call.sendResponse(CDS, changedLeastRequestConfig, VERSION_3, "0002");
+    call.verifyRequestNack(CDS, CDS_RESOURCE, VERSION_2, "0002", NODE, ImmutableList.of(
+        "CDS response Cluster 'cluster.googleapis.com' validation error: "));
+  }
+
+  @Test
+  public void largeResponse_parsedOnParseExecutor() {
+    BootstrapInfo bootstrapInfo =
+        Bootstrapper.BootstrapInfo.builder()
+            .servers(Collections.singletonList(xdsServerInfo))
+            .node(NODE)
+            .build();
+    xdsClient = new XdsClientImpl(
+        xdsTransportFactory,
+        bootstrapInfo,
+        fakeClock.getScheduledExecutorService(),
+        backoffPolicyProvider,
+        fakeClock.getStopwatchSupplier(),
+        timeProvider,
+        MessagePrinter.INSTANCE,
+        new TlsContextManagerImpl(bootstrapInfo),
+        xdsClientMetricReporter,
+        fakeClock.getScheduledExecutorService());
+    DiscoveryRpcCall call = startResourceWatcher(XdsClusterResource.getInstance(), CDS_RESOURCE,
+        cdsResourceWatcher);
+    List<Any> clusters = new ArrayList<>();
+    clusters.add(testClusterRoundRobin);
+    for (int i = 1; i <= XdsClientImpl.PARSE_CHUNK_SIZE; i++) {
+      clusters.add(Any.pack(mf.buildEdsCluster("cluster-" + i, null, "round_robin", null,
+          null, false, null, "envoy.transport_sockets.tls", null, null)));
+    }
+    call.sendResponse(CDS, clusters, VERSION_1, "0000");
+    // Nothing is applied until the chunks have been parsed.
+    verify(cdsResourceWatcher, never()).onResourceChanged(any());
+    verifyResourceMetadataRequested(CDS, CDS_RESOURCE);
+
+    fakeClock.runDueTasks();
+    call.verifyRequest(CDS, CDS_RESOURCE, VERSION_1, "0000", NODE);
+    verify(cdsResourceWatcher).onResourceChanged(cdsUpdateCaptor.capture());
+    verifyGoldenClusterRoundRobin(cdsUpdateCaptor.getValue().getValue());
+    verifyResourceValidInvalidCount(1, clusters.size(), 0, xdsServerInfo.target(),
+        CDS.typeUrl());
+    verify(xdsClientMetricReporter).reportResourceParseTime(
+        eq(0.0), eq(xdsServerInfo.target()), eq(CDS.typeUrl()));
+  }
+
+  @Test
+  public void largeResponse_streamRestartedWhileParsing() {
+    BootstrapInfo bootstrapInfo =
+        Bootstrapper.BootstrapInfo.builder()
+            .servers(Collections.singletonList(xdsServerInfo))
+            .node(NODE)
+            .build();
+    Queue<Runnable> parseTasks = new ArrayDeque<>();
+    xdsClient = new XdsClientImpl(
+        xdsTransportFactory,
+        bootstrapInfo,
+        fakeClock.getScheduledExecutorService(),
+        backoffPolicyProvider,
+        fakeClock.getStopwatchSupplier(),
+        timeProvider,
+        MessagePrinter.INSTANCE,
+        new TlsContextManagerImpl(bootstrapInfo),
+        xdsClientMetricReporter,
+        parseTasks::add);
+    DiscoveryRpcCall call = startResourceWatcher(XdsClusterResource.getInstance(), CDS_RESOURCE,
+        cdsResourceWatcher);
+    List<Any> clusters = new ArrayList<>();
+    clusters.add(testClusterRoundRobin);
+    for (int i = 1; i <= XdsClientImpl.PARSE_CHUNK_SIZE; i++) {
+      clusters.add(Any.pack(mf.buildEdsCluster("cluster-" + i, null, "round_robin", null,
+          null, false, null, "envoy.transport_sockets.tls", null, null)));
+    }
+    call.sendResponse(CDS, clusters, VERSION_1, "0000");
+
+    // The stream restarts before the response has been parsed.
+    call.sendError(Status.UNAVAILABLE.asException());
+    ScheduledTask retryTask =
+        Iterables.getOnlyElement(fakeClock.getPendingTasks(RPC_RETRY_TASK_FILTER));
+    fakeClock.forwardNanos(retryTask.getDelay(TimeUnit.NANOSECONDS));
+    DiscoveryRpcCall newCall = resourceDiscoveryCalls.poll();
+    newCall.verifyRequest(CDS, CDS_RESOURCE, "", "", NODE);
+
+    while (!parseTasks.isEmpty()) {
+      parseTasks.poll().run();
+    }
+    // Still applied, but the ACK of the old stream's nonce is not sent on the new stream.
+    verify(cdsResourceWatcher).onResourceChanged(cdsUpdateCaptor.capture());
+    verifyGoldenClusterRoundRobin(cdsUpdateCaptor.getValue().getValue());
+    newCall.verifyRequest(CDS, CDS_RESOURCE, VERSION_1, "0000", NODE, never());
+    newCall.verifyNoMoreRequest();
+
+    // The new stream still reads its responses.
+    newCall.sendResponse(CDS, testClusterRoundRobin, VERSION_2, "0001");
+    newCall.verifyRequest(CDS, CDS_RESOURCE, VERSION_2, "0001", NODE);
+  }
+
+  @Test
+  public void largeResponse_watchAddedAgainWhileParsing_unchangedResourceApplied() {
+    BootstrapInfo bootstrapInfo =
+        Bootstrapper.BootstrapInfo.builder()
+            .servers(Collections.singletonList(xdsServerInfo))
+            .node(NODE)
+            .build();
+    Queue<Runnable> parseTasks = new ArrayDeque<>();
+    xdsClient = new XdsClientImpl(
+        xdsTransportFactory,
+        bootstrapInfo,
+        fakeClock.getScheduledExecutorService(),
+        backoffPolicyProvider,
+        fakeClock.getStopwatchSupplier(),
+        timeProvider,
+        MessagePrinter.INSTANCE,
+        new TlsContextManagerImpl(bootstrapInfo),
+        xdsClientMetricReporter,
+        parseTasks::add);
+    DiscoveryRpcCall call = startResourceWatcher(XdsClusterResource.getInstance(), CDS_RESOURCE,
+        cdsResourceWatcher);
+    call.sendResponse(CDS, testClusterRoundRobin, VERSION_1, "0000");
+    call.verifyRequest(CDS, CDS_RESOURCE, VERSION_1, "0000", NODE);
+    verify(cdsResourceWatcher).onResourceChanged(any());
+
+    List<Any> clusters = new ArrayList<>();
+    clusters.add(testClusterRoundRobin);
+    for (int i = 1; i <= XdsClientImpl.PARSE_CHUNK_SIZE; i++) {
+      clusters.add(Any.pack(mf.buildEdsCluster("cluster-" + i, null, "round_robin", null,
+          null, false, null, "envoy.transport_sockets.tls", null, null)));
+    }
+    call.sendResponse(CDS, clusters, VERSION_2, "0001");
+
+    // The resource is unchanged, but the watch is added again before the response is applied.
+    xdsClient.cancelXdsResourceWatch(
+        XdsClusterResource.getInstance(), CDS_RESOURCE, cdsResourceWatcher);
+    xdsClient.watchXdsResource(XdsClusterResource.getInstance(), CDS_RESOURCE, cdsResourceWatcher);
+    while (!parseTasks.isEmpty()) {
+      parseTasks.poll().run();
+    }
+    call.verifyRequest(CDS, CDS_RESOURCE, VERSION_2, "0001", NODE);
+    verify(cdsResourceWatcher, times(2)).onResourceChanged(cdsUpdateCaptor.capture());
+    verifyGoldenClusterRoundRobin(cdsUpdateCaptor.getValue().getValue());
+    verifyResourceMetadataAcked(CDS, CDS_RESOURCE, testClusterRoundRobin, VERSION_2,
+        TIME_INCREMENT * 2);
+
+    // The server won't send it again, and it is not reported as missing.
+    fakeClock.forwardTime(XdsClientImpl.INITIAL_RESOURCE_FETCH_TIMEOUT_SEC, TimeUnit.SECONDS);
+    verify(cdsResourceWatcher, times(2)).onResourceChanged(any());
+    assertThat(fakeClock.getPendingTasks(CDS_RESOURCE_FETCH_TIMEOUT_TASK_FILTER)).isEmpty();
+  }
+
+  @Test
+  public void cdsResourceRestoredFromResourceCache() throws IOException {
+    File cacheFile = writeResourceCache(CDS_RESOURCE, testClusterRoundRobin);
+    xdsClient = createXdsClientWithResourceCache(cacheFile);
+
+    // Served before the xDS server responds, without waiting for it.
+    xdsClient.watchXdsResource(XdsClusterResource.getInstance(), CDS_RESOURCE, cdsResourceWatcher);
+    DiscoveryRpcCall call = resourceDiscoveryCalls.poll();
+    call.verifyRequest(CDS, CDS_RESOURCE, "", "", NODE);
+    verify(cdsResourceWatcher).onResourceChanged(cdsUpdateCaptor.capture());
+    verifyGoldenClusterRoundRobin(cdsUpdateCaptor.getValue().getValue());
+    verifyResourceMetadata(CDS, CDS_RESOURCE, testClusterRoundRobin,
+        ResourceMetadataStatus.REQUESTED, VERSION_1, TIME_INCREMENT, false);
+    // Still fetched from the xDS server.
+    assertThat(fakeClock.getPendingTasks(CDS_RESOURCE_FETCH_TIMEOUT_TASK_FILTER)).hasSize(1);
+
+    // The xDS server has the final say.
+    Any changedCluster = Any.pack(mf.buildEdsCluster(CDS_RESOURCE,
+        "eds-service-bar.googleapis.com", "round_robin", null, null, false, null,
+        "envoy.transport_sockets.tls", null, null));
+    call.sendResponse(CDS, changedCluster, VERSION_2, "0000");
+    call.verifyRequest(CDS, CDS_RESOURCE, VERSION_2, "0000", NODE);
+    verify(cdsResourceWatcher, times(2)).onResourceChanged(cdsUpdateCaptor.capture());
+    assertThat(cdsUpdateCaptor.getValue().getValue().edsServiceName())
+        .isEqualTo("eds-service-bar.googleapis.com");
+    assertThat(fakeClock.getPendingTasks(CDS_RESOURCE_FETCH_TIMEOUT_TASK_FILTER)).isEmpty();
+
+    // And what it sent is written back.
+    fakeClock.forwardTime(1, TimeUnit.SECONDS);
+    try (InputStream in = new FileInputStream(cacheFile)) {
+      Resource resource = Resource.parseDelimitedFrom(in);
+      assertThat(resource.getName()).isEqualTo(CDS_RESOURCE);
+      assertThat(resource.getVersion()).isEqualTo(VERSION_2);
+      assertThat(resource.getResource()).isEqualTo(changedCluster);
+      assertThat(Resource.parseDelimitedFrom(in)).isNull();
+    }
+  }
+
+  @Test
+  public void cdsResourceRestoredFromResourceCache_notSentByServer() throws IOException {
+    xdsClient = createXdsClientWithResourceCache(
+        writeResourceCache(CDS_RESOURCE, testClusterRoundRobin));
+    xdsClient.watchXdsResource(XdsClusterResource.getInstance(), CDS_RESOURCE, cdsResourceWatcher);
+    DiscoveryRpcCall call = resourceDiscoveryCalls.poll();
+    verify(cdsResourceWatcher).onResourceChanged(cdsUpdateCaptor.capture());
+    verifyGoldenClusterRoundRobin(cdsUpdateCaptor.getValue().getValue());
+
+    // The server does not have the restored resource, which is not a deletion to ignore.
+    Any otherCluster = Any.pack(mf.buildEdsCluster("cluster-bar.googleapis.com", null,
+        "round_robin", null, null, false, null, "envoy.transport_sockets.tls", null, null));
+    call.sendResponse(CDS, otherCluster, VERSION_1, "0000");
+    call.verifyRequest(CDS, CDS_RESOURCE, VERSION_1, "0000", NODE);
+    verify(cdsResourceWatcher).onResourceChanged(any());
+
+    fakeClock.forwardTime(XdsClientImpl.INITIAL_RESOURCE_FETCH_TIMEOUT_SEC, TimeUnit.SECONDS);
+    verify(cdsResourceWatcher, times(2)).onResourceChanged(cdsUpdateCaptor.capture());
+    StatusOr<CdsUpdate> update = cdsUpdateCaptor.getValue();
+    assertThat(update.hasValue()).isFalse();
+    assertThat(update.getStatus().getDescription()).contains(CDS_RESOURCE);
+    verify(cdsResourceWatcher, never()).onAmbientError(any());
+    assertThat(fakeClock.getPendingTasks(CDS_RESOURCE_FETCH_TIMEOUT_TASK_FILTER)).isEmpty();
+    verifyResourceMetadataDoesNotExist(CDS, CDS_RESOURCE);
+  }
+
+  @Test
+  public void cdsResourceRestoredFromResourceCache_primaryFails_fallsBack() throws IOException {
+    ServerInfo fallbackServerInfo =
+        ServerInfo.create(SERVER_URI_CUSTOM_AUTHORITY, CHANNEL_CREDENTIALS);
+    xdsClient = createXdsClientWithResourceCache(
+        writeResourceCache(CDS_RESOURCE, testClusterRoundRobin),
+        ImmutableList.of(xdsServerInfo, fallbackServerInfo));
+    xdsClient.watchXdsResource(XdsClusterResource.getInstance(), CDS_RESOURCE, cdsResourceWatcher);
+    DiscoveryRpcCall call = resourceDiscoveryCalls.poll();
+    call.verifyRequest(CDS, CDS_RESOURCE, "", "", NODE);
+    verify(cdsResourceWatcher).onResourceChanged(cdsUpdateCaptor.capture());
+    verifyGoldenClusterRoundRobin(cdsUpdateCaptor.getValue().getValue());
+
+    // The restored data is not confirmed by any server, so the client falls back instead of
+    // serving it until the primary server comes back.
+    call.sendError(Status.UNAVAILABLE.asException());
+    DiscoveryRpcCall fallbackCall = resourceDiscoveryCalls.poll();
+    assertThat(fallbackCall).isNotNull();
+    fallbackCall.verifyRequest(CDS, CDS_RESOURCE, "", "", NODE);
+    verify(cdsResourceWatcher, never()).onAmbientError(any());
+
+    Any changedCluster = Any.pack(mf.buildEdsCluster(CDS_RESOURCE,
+        "eds-service-bar.googleapis.com", "round_robin", null, null, false, null,
+        "envoy.transport_sockets.tls", null, null));
+    fallbackCall.sendResponse(CDS, changedCluster, VERSION_2, "0000");
+    fallbackCall.verifyRequest(CDS, CDS_RESOURCE, VERSION_2, "0000", NODE);
+    verify(cdsResourceWatcher, times(2)).onResourceChanged(cdsUpdateCaptor.capture());
+    assertThat(cdsUpdateCaptor.getValue().getValue().edsServiceName())
+        .isEqualTo("eds-service-bar.googleapis.com");
+  }
+
+  private File writeResourceCache(String name, Any resource) throws IOException {
+    File cacheFile = tempFolder.newFile("xds-resources");
+    try (OutputStream out = new FileOutputStream(cacheFile)) {
+      Resource.newBuilder()
+          .setName(name)
+          .setVersion(VERSION_1)
+          .setResource(resource)
+          .build()
+          .writeDelimitedTo(out);
+    }
+    return cacheFile;
+  }
+
+  private XdsClientImpl createXdsClientWithResourceCache(File cacheFile) {
+    return createXdsClientWithResourceCache(cacheFile, Collections.singletonList(xdsServerInfo));
+  }
+
+  private XdsClientImpl createXdsClientWithResourceCache(
+      File cacheFile, List<ServerInfo> servers) {
+    BootstrapInfo bootstrapInfo =
+        Bootstrapper.BootstrapInfo.builder()
+            .servers(servers)
+            .node(NODE)
+            .resourceCachePath(cacheFile.getPath())
+            .build();
+    // Writes the cache right when its write timer fires on the fake clock.
+    return new XdsClientImpl(
+        xdsTransportFactory,
+        bootstrapInfo,
+        fakeClock.getScheduledExecutorService(),
+        backoffPolicyProvider,
+        fakeClock.getStopwatchSupplier(),
+        timeProvider,
+        MessagePrinter.INSTANCE,
+        new TlsContextManagerImpl(bootstrapInfo),
+        xdsClientMetricReporter,
+        null,
+        MoreExecutors.directExecutor());
+  }
+
   @Test
   public void cdsResourceDeleted() {
     Assume.assumeFalse(ignoreResourceDeletion());
@@ -3975,6 +4298,49 @@ public abstract class GrpcXdsClientImplTestBase {
     };
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void watchersSharingExecutor_notifiedByOneTask() {
+    FakeClock fakeWatchClock = new FakeClock();
+    DiscoveryRpcCall call = startResourceWatcher(XdsEndpointResource.getInstance(), EDS_RESOURCE,
+        edsResourceWatcher, fakeWatchClock.getScheduledExecutorService());
+    ResourceWatcher<EdsUpdate> anotherWatcher = mock(ResourceWatcher.class);
+    xdsClient.watchXdsResource(XdsEndpointResource.getInstance(), EDS_RESOURCE, anotherWatcher,
+        fakeWatchClock.getScheduledExecutorService());
+    assertThat(fakeWatchClock.runDueTasks()).isEqualTo(2);
+
+    call.sendResponse(EDS, testClusterLoadAssignment, VERSION_1, "0000");
+    assertThat(fakeWatchClock.getPendingTasks()).hasSize(1);
+    assertThat(fakeWatchClock.runDueTasks()).isEqualTo(1);
+    verify(edsResourceWatcher).onResourceChanged(argThat(StatusOr::hasValue));
+    verify(anotherWatcher).onResourceChanged(argThat(StatusOr::hasValue));
+    call.verifyRequest(EDS, EDS_RESOURCE, VERSION_1, "0000", NODE);
+  }
+
+  @Test
+  public void untrackedErrors_coalescedUntilConsumed() {
+    FakeClock fakeWatchClock = new FakeClock();
+    DiscoveryRpcCall call = startResourceWatcher(XdsEndpointResource.getInstance(), EDS_RESOURCE,
+        edsResourceWatcher, fakeWatchClock.getScheduledExecutorService());
+    assertThat(fakeWatchClock.runDueTasks()).isEqualTo(1);
+
+    fakeClock.forwardNanos(1000L);
+    call.sendError(Status.UNKNOWN.asException());
+    assertThat(fakeWatchClock.getPendingTasks()).hasSize(1);
+    fakeClock.forwardNanos(10L);
+    call = resourceDiscoveryCalls.poll();
+    call.verifyRequest(EDS, EDS_RESOURCE, "", "", NODE);
+    call.sendError(Status.UNAVAILABLE.asException());
+
+    // The watcher only sees the latest error.
+    assertThat(fakeWatchClock.getPendingTasks()).hasSize(1);
+    assertThat(fakeWatchClock.runDueTasks()).isEqualTo(1);
+    verify(edsResourceWatcher).onResourceChanged(
+        argThat(statusOr -> statusOr.getStatus().getCode() == Code.UNAVAILABLE));
+    verify(edsResourceWatcher, never()).onResourceChanged(
+        argThat(statusOr -> statusOr.getStatus().getCode() == Code.UNKNOWN));
+  }
+
   @Test
   public void simpleFlowControl() throws Exception {
     FakeClock fakeWatchClock = new FakeClock();
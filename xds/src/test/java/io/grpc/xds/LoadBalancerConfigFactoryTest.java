@@ -38,13 +38,16 @@ import io.envoyproxy.envoy.config.cluster.v3.Cluster.RingHashLbConfig;
 import io.envoyproxy.envoy.config.cluster.v3.Cluster.RingHashLbConfig.HashFunction;
 import io.envoyproxy.envoy.config.cluster.v3.LoadBalancingPolicy;
 import io.envoyproxy.envoy.config.cluster.v3.LoadBalancingPolicy.Policy;
+import io.envoyproxy.envoy.config.core.v3.RuntimeDouble;
 import io.envoyproxy.envoy.config.core.v3.TypedExtensionConfig;
 import io.envoyproxy.envoy.extensions.load_balancing_policies.client_side_weighted_round_robin.v3.ClientSideWeightedRoundRobin;
+import io.envoyproxy.envoy.extensions.load_balancing_policies.common.v3.SlowStartConfig;
 import io.envoyproxy.envoy.extensions.load_balancing_policies.least_request.v3.LeastRequest;
 import io.envoyproxy.envoy.extensions.load_balancing_policies.pick_first.v3.PickFirst;
 import io.envoyproxy.envoy.extensions.load_balancing_policies.ring_hash.v3.RingHash;
 import io.envoyproxy.envoy.extensions.load_balancing_policies.round_robin.v3.RoundRobin;
 import io.envoyproxy.envoy.extensions.load_balancing_policies.wrr_locality.v3.WrrLocality;
+import io.envoyproxy.envoy.type.v3.Percent;
 import io.grpc.LoadBalancer;
 import io.grpc.LoadBalancer.Helper;
 import io.grpc.LoadBalancerProvider;
@@ -117,6 +120,20 @@ public class LoadBalancerConfigFactoryTest {
                           .build()))
                   .build())
               .build();
+  private static final Policy WRR_POLICY_WITH_SLOW_START = Policy.newBuilder()
+              .setTypedExtensionConfig(TypedExtensionConfig.newBuilder()
+                  .setName("backend")
+                  .setTypedConfig(
+                      Any.pack(ClientSideWeightedRoundRobin.newBuilder()
+                          .setSlowStartConfig(SlowStartConfig.newBuilder()
+                              .setSlowStartWindow(Duration.newBuilder().setSeconds(30).build())
+                              .setAggression(RuntimeDouble.newBuilder()
+                                  .setDefaultValue(2.0).setRuntimeKey("aggression").build())
+                              .setMinWeightPercent(Percent.newBuilder().setValue(5.0).build())
+                              .build())
+                          .build()))
+                  .build())
+              .build();
   private static final String CUSTOM_POLICY_NAME = "myorg.MyCustomLeastRequestPolicy";
   private static final String CUSTOM_POLICY_FIELD_KEY = "choiceCount";
   private static final double CUSTOM_POLICY_FIELD_VALUE = 2;
@@ -155,6 +172,13 @@ public class LoadBalancerConfigFactoryTest {
                       "errorUtilizationPenalty", 1.75F,
                       LoadBalancerConfigFactory.METRIC_NAMES_FOR_COMPUTING_UTILIZATION,
                       ImmutableList.of("foo", "bar"))))));
+  private static final LbConfig VALID_WRR_CONFIG_WITH_SLOW_START =
+      new LbConfig("wrr_locality_experimental",
+          ImmutableMap.of("childPolicy",
+              ImmutableList.of(ImmutableMap.of("weighted_round_robin",
+                  ImmutableMap.of(LoadBalancerConfigFactory.SLOW_START_CONFIG,
+                      ImmutableMap.of("slowStartWindow", "30s", "aggression", 2.0,
+                          "minWeightPercent", 5.0))))));
   private static final LbConfig VALID_RING_HASH_CONFIG = new LbConfig("ring_hash_experimental",
       ImmutableMap.of("minRingSize", (double) RING_HASH_MIN_RING_SIZE, "maxRingSize",
           (double) RING_HASH_MAX_RING_SIZE));
@@ -197,6 +221,13 @@ public class LoadBalancerConfigFactoryTest {
     assertThat(newLbConfig(cluster, true)).isEqualTo(VALID_WRR_CONFIG_WITH_METRICS);
   }
 
+  @Test
+  public void weightedRoundRobin_withSlowStart() throws ResourceInvalidException {
+    Cluster cluster = newCluster(buildWrrPolicy(WRR_POLICY_WITH_SLOW_START));
+
+    assertThat(newLbConfig(cluster, true)).isEqualTo(VALID_WRR_CONFIG_WITH_SLOW_START);
+  }
+
   @Test
   public void weightedRoundRobin_invalid() throws ResourceInvalidException {
     Cluster cluster = newCluster(buildWrrPolicy(Policy.newBuilder()
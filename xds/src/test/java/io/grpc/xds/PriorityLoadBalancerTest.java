@@ -241,6 +241,65 @@ public class PriorityLoadBalancerTest {
     verify(barBalancer0, never()).shutdown();
   }
 
+  @Test
+  public void acceptResolvedAddresses_unchangedPriorityNotUpdated() {
+    EquivalentAddressGroup eag0 = AddressFilter.setPathFilter(
+        new EquivalentAddressGroup(new InetSocketAddress(8080)), ImmutableList.of("p0"));
+    EquivalentAddressGroup eag1 = AddressFilter.setPathFilter(
+        new EquivalentAddressGroup(new InetSocketAddress(8081)), ImmutableList.of("p1"));
+    Object fooConfig = new Object();
+    Object barConfig = new Object();
+    PriorityLbConfig priorityLbConfig =
+        new PriorityLbConfig(
+            ImmutableMap.of(
+                "p0", new PriorityChildConfig(newChildConfig(fooLbProvider, fooConfig), true),
+                "p1", new PriorityChildConfig(newChildConfig(barLbProvider, barConfig), true)),
+            ImmutableList.of("p0", "p1"));
+    priorityLb.acceptResolvedAddresses(
+        ResolvedAddresses.newBuilder()
+            .setAddresses(ImmutableList.of(eag0, eag1))
+            .setLoadBalancingPolicyConfig(priorityLbConfig)
+            .build());
+    // Fail over to p1.
+    fakeClock.forwardTime(10, TimeUnit.SECONDS);
+    LoadBalancer fooBalancer = Iterables.getOnlyElement(fooBalancers);
+    LoadBalancer barBalancer = Iterables.getOnlyElement(barBalancers);
+
+    // Only p1's addresses changed.
+    EquivalentAddressGroup newEag1 = AddressFilter.setPathFilter(
+        new EquivalentAddressGroup(new InetSocketAddress(8082)), ImmutableList.of("p1"));
+    priorityLb.acceptResolvedAddresses(
+        ResolvedAddresses.newBuilder()
+            .setAddresses(ImmutableList.of(eag0, newEag1))
+            .setLoadBalancingPolicyConfig(priorityLbConfig)
+            .build());
+    verify(fooBalancer).acceptResolvedAddresses(any(ResolvedAddresses.class));
+    verify(barBalancer, times(2)).acceptResolvedAddresses(resolvedAddressesCaptor.capture());
+    assertThat(Iterables.getOnlyElement(resolvedAddressesCaptor.getValue().getAddresses())
+        .getAddresses()).containsExactly(new InetSocketAddress(8082));
+
+    // Nothing changed.
+    priorityLb.acceptResolvedAddresses(
+        ResolvedAddresses.newBuilder()
+            .setAddresses(ImmutableList.of(eag0, newEag1))
+            .setLoadBalancingPolicyConfig(priorityLbConfig)
+            .build());
+    verify(fooBalancer).acceptResolvedAddresses(any(ResolvedAddresses.class));
+    verify(barBalancer, times(2)).acceptResolvedAddresses(any(ResolvedAddresses.class));
+
+    // After an error, which children may show in their pickers, equal addresses are passed on.
+    priorityLb.handleNameResolutionError(Status.UNAVAILABLE.withDescription("no DNS"));
+    verify(fooBalancer).handleNameResolutionError(any(Status.class));
+    verify(barBalancer).handleNameResolutionError(any(Status.class));
+    priorityLb.acceptResolvedAddresses(
+        ResolvedAddresses.newBuilder()
+            .setAddresses(ImmutableList.of(eag0, newEag1))
+            .setLoadBalancingPolicyConfig(priorityLbConfig)
+            .build());
+    verify(fooBalancer, times(2)).acceptResolvedAddresses(any(ResolvedAddresses.class));
+    verify(barBalancer, times(3)).acceptResolvedAddresses(any(ResolvedAddresses.class));
+  }
+
   @Test
   public void acceptResolvedAddresses_propagatesChildFailures() {
     LoadBalancerProvider lbProvider = new CannedLoadBalancer.Provider();
@@ -228,4 +228,33 @@ public class RoutingUtilsTest {
     assertThat(RoutingUtils.matchRoute(routeMatch9, "/FooService/barMethod", headers, random))
         .isFalse();
   }
+
+  @Test
+  public void headerValues_sharedAcrossRoutes() {
+    Metadata headers = new Metadata();
+    Metadata.Key<String> customKey =
+        Metadata.Key.of("custom-key", Metadata.ASCII_STRING_MARSHALLER);
+    headers.put(customKey, "custom-value1");
+    headers.put(customKey, "custom-value2");
+    RoutingUtils.HeaderValues headerValues = new RoutingUtils.HeaderValues(headers);
+    assertThat(headerValues.get("custom-key")).isEqualTo("custom-value1,custom-value2");
+    assertThat(headerValues.get("absent-key")).isNull();
+    assertThat(headerValues.get("content-type")).isEqualTo("application/grpc");
+    assertThat(headerValues.get("custom-key-bin")).isNull();
+
+    // Values are looked up once per RPC.
+    headers.removeAll(customKey);
+    headers.put(Metadata.Key.of("absent-key", Metadata.ASCII_STRING_MARSHALLER), "value");
+    assertThat(headerValues.get("custom-key")).isEqualTo("custom-value1,custom-value2");
+    assertThat(headerValues.get("absent-key")).isNull();
+
+    ThreadSafeRandom random = mock(ThreadSafeRandom.class);
+    RouteMatch routeMatch = RouteMatch.create(
+        PathMatcher.fromPrefix("/fooservice/", false),
+        Collections.singletonList(
+            HeaderMatcher.forSuffix("custom-key", "value2", false)),
+        null);
+    assertThat(RoutingUtils.matchRoute(routeMatch, "/FooService/barMethod", headerValues, random))
+        .isTrue();
+  }
 }
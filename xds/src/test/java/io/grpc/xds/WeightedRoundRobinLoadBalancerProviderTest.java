@@ -127,6 +127,38 @@ public class WeightedRoundRobinLoadBalancerProviderTest {
     }
   }
 
+  @Test
+  public void parseLoadBalancingConfigSlowStart() throws IOException {
+    System.setProperty("GRPC_EXPERIMENTAL_WRR_SLOW_START", "true");
+    try {
+      String lbConfig = "{\"slowStartConfig\" : {\"slowStartWindow\" : \"30s\", "
+          + "\"aggression\" : 2.0, \"minWeightPercent\" : 5.0}}";
+      ConfigOrError configOrError = provider.parseLoadBalancingPolicyConfig(
+          parseJsonObject(lbConfig));
+      assertThat(configOrError.getConfig()).isNotNull();
+      WeightedRoundRobinLoadBalancerConfig config =
+          (WeightedRoundRobinLoadBalancerConfig) configOrError.getConfig();
+      assertThat(config.slowStartWindowNanos).isEqualTo(30_000_000_000L);
+      assertThat(config.slowStartAggression).isEqualTo(2.0);
+      assertThat(config.slowStartMinWeightPercent).isEqualTo(5.0);
+    } finally {
+      System.clearProperty("GRPC_EXPERIMENTAL_WRR_SLOW_START");
+    }
+  }
+
+  @Test
+  public void parseLoadBalancingConfigSlowStart_invalidAggression() throws IOException {
+    System.setProperty("GRPC_EXPERIMENTAL_WRR_SLOW_START", "true");
+    try {
+      String lbConfig = "{\"slowStartConfig\" : {\"aggression\" : 0}}";
+      ConfigOrError configOrError = provider.parseLoadBalancingPolicyConfig(
+          parseJsonObject(lbConfig));
+      assertThat(configOrError.getError()).isNotNull();
+    } finally {
+      System.clearProperty("GRPC_EXPERIMENTAL_WRR_SLOW_START");
+    }
+  }
+
 
   @SuppressWarnings("unchecked")
   private static Map<String, ?> parseJsonObject(String json) throws IOException {
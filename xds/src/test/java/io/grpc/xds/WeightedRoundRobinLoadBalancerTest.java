@@ -253,6 +253,15 @@ public class WeightedRoundRobinLoadBalancerTest {
         .addEqualityGroup(
             WeightedRoundRobinLoadBalancerConfig.newBuilder()
               .setErrorUtilizationPenalty(Float.NaN).build())
+        .addEqualityGroup(
+            WeightedRoundRobinLoadBalancerConfig.newBuilder()
+              .setSlowStartWindowNanos(5).build())
+        .addEqualityGroup(
+            WeightedRoundRobinLoadBalancerConfig.newBuilder()
+              .setSlowStartAggression(2).build())
+        .addEqualityGroup(
+            WeightedRoundRobinLoadBalancerConfig.newBuilder()
+              .setSlowStartMinWeightPercent(50).build())
         .testEquals();
   }
 
@@ -860,6 +869,106 @@ public class WeightedRoundRobinLoadBalancerTest {
     assertThat(Math.abs(pickCount.get(servers.get(2)) / 1000.0 - 3.0 / 9)).isLessThan(0.002);
   }
 
+  @Test
+  public void slowStart_newEndpointWeightRampsUp() {
+    weightedConfig = WeightedRoundRobinLoadBalancerConfig.newBuilder()
+        .setBlackoutPeriodNanos(0)
+        .setSlowStartWindowNanos(TimeUnit.SECONDS.toNanos(20))
+        .build();
+    syncContext.execute(() -> wrr.acceptResolvedAddresses(ResolvedAddresses.newBuilder()
+            .setAddresses(servers).setLoadBalancingPolicyConfig(weightedConfig)
+            .setAttributes(affinity).build()));
+    Iterator<Subchannel> it = subchannels.values().iterator();
+    getSubchannelStateListener(it.next())
+        .onSubchannelState(ConnectivityStateInfo.forNonError(ConnectivityState.READY));
+    getSubchannelStateListener(it.next())
+        .onSubchannelState(ConnectivityStateInfo.forNonError(ConnectivityState.READY));
+    verify(helper, times(2)).updateBalancingState(
+            eq(ConnectivityState.READY), pickerCaptor.capture());
+    WeightedRoundRobinPicker weightedPicker = getWrrPicker(pickerCaptor.getValue());
+    ((WeightedChildLbState) getChild(weightedPicker, 0)).new OrcaReportListener(
+        weightedConfig.errorUtilizationPenalty, weightedConfig.metricNamesForComputingUtilization)
+        .onLoadReport(InternalCallMetricRecorder.createMetricReport(
+            0.1, 0, 0.1, 1, 0, new HashMap<>(), new HashMap<>(), new HashMap<>()));
+    ((WeightedChildLbState) getChild(weightedPicker, 1)).new OrcaReportListener(
+        weightedConfig.errorUtilizationPenalty, weightedConfig.metricNamesForComputingUtilization)
+        .onLoadReport(InternalCallMetricRecorder.createMetricReport(
+            0.2, 0, 0.1, 1, 0, new HashMap<>(), new HashMap<>(), new HashMap<>()));
+    // The first two endpoints are out of the slow start window when the third becomes READY.
+    fakeClock.forwardTime(20, TimeUnit.SECONDS);
+    getSubchannelStateListener(it.next())
+        .onSubchannelState(ConnectivityStateInfo.forNonError(ConnectivityState.READY));
+    verify(helper, times(3)).updateBalancingState(
+            eq(ConnectivityState.READY), pickerCaptor.capture());
+    weightedPicker = getWrrPicker(pickerCaptor.getValue());
+
+    // A quarter into the window, the third endpoint gets a quarter of the mean weight.
+    fakeClock.forwardTime(5, TimeUnit.SECONDS);
+    Map<EquivalentAddressGroup, Integer> pickCount = new HashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      Subchannel result = weightedPicker.pickSubchannel(mockArgs).getSubchannel();
+      pickCount.merge(result.getAddresses(), 1, Integer::sum);
+    }
+    assertThat(pickCount.get(servers.get(0)) / 1000.0).isWithin(0.01).of(10 / 16.875);
+    assertThat(pickCount.get(servers.get(1)) / 1000.0).isWithin(0.01).of(5 / 16.875);
+    assertThat(pickCount.get(servers.get(2)) / 1000.0).isWithin(0.01).of(1.875 / 16.875);
+
+    // After the window, it gets the mean weight.
+    fakeClock.forwardTime(15, TimeUnit.SECONDS);
+    pickCount.clear();
+    for (int i = 0; i < 1000; i++) {
+      Subchannel result = weightedPicker.pickSubchannel(mockArgs).getSubchannel();
+      pickCount.merge(result.getAddresses(), 1, Integer::sum);
+    }
+    assertThat(pickCount.get(servers.get(0)) / 1000.0).isWithin(0.01).of(4.0 / 9);
+    assertThat(pickCount.get(servers.get(1)) / 1000.0).isWithin(0.01).of(2.0 / 9);
+    assertThat(pickCount.get(servers.get(2)) / 1000.0).isWithin(0.01).of(3.0 / 9);
+  }
+
+  @Test
+  public void slowStart_withoutLoadReports_newEndpointRampsUp() {
+    weightedConfig = WeightedRoundRobinLoadBalancerConfig.newBuilder()
+        .setSlowStartWindowNanos(TimeUnit.SECONDS.toNanos(20))
+        .build();
+    syncContext.execute(() -> wrr.acceptResolvedAddresses(ResolvedAddresses.newBuilder()
+            .setAddresses(servers).setLoadBalancingPolicyConfig(weightedConfig)
+            .setAttributes(affinity).build()));
+    Iterator<Subchannel> it = subchannels.values().iterator();
+    getSubchannelStateListener(it.next())
+        .onSubchannelState(ConnectivityStateInfo.forNonError(ConnectivityState.READY));
+    getSubchannelStateListener(it.next())
+        .onSubchannelState(ConnectivityStateInfo.forNonError(ConnectivityState.READY));
+    fakeClock.forwardTime(20, TimeUnit.SECONDS);
+    getSubchannelStateListener(it.next())
+        .onSubchannelState(ConnectivityStateInfo.forNonError(ConnectivityState.READY));
+    verify(helper, times(3)).updateBalancingState(
+            eq(ConnectivityState.READY), pickerCaptor.capture());
+    WeightedRoundRobinPicker weightedPicker = getWrrPicker(pickerCaptor.getValue());
+
+    // No endpoint reports its load, so the established ones are weighted equally, and a quarter
+    // into the window, the third endpoint gets a quarter of their weight.
+    fakeClock.forwardTime(5, TimeUnit.SECONDS);
+    Map<EquivalentAddressGroup, Integer> pickCount = new HashMap<>();
+    for (int i = 0; i < 900; i++) {
+      Subchannel result = weightedPicker.pickSubchannel(mockArgs).getSubchannel();
+      pickCount.merge(result.getAddresses(), 1, Integer::sum);
+    }
+    assertThat(pickCount.get(servers.get(0)) / 900.0).isWithin(0.01).of(4.0 / 9);
+    assertThat(pickCount.get(servers.get(1)) / 900.0).isWithin(0.01).of(4.0 / 9);
+    assertThat(pickCount.get(servers.get(2)) / 900.0).isWithin(0.01).of(1.0 / 9);
+
+    // After the window, it is round robin again.
+    fakeClock.forwardTime(15, TimeUnit.SECONDS);
+    pickCount.clear();
+    for (int i = 0; i < 900; i++) {
+      Subchannel result = weightedPicker.pickSubchannel(mockArgs).getSubchannel();
+      pickCount.merge(result.getAddresses(), 1, Integer::sum);
+    }
+    assertThat(pickCount.get(servers.get(0)) / 900.0).isWithin(0.01).of(1.0 / 3);
+    assertThat(pickCount.get(servers.get(1)) / 900.0).isWithin(0.01).of(1.0 / 3);
+    assertThat(pickCount.get(servers.get(2)) / 900.0).isWithin(0.01).of(1.0 / 3);
+  }
+
   @Test
   public void pickFromOtherThread() throws Exception {
     syncContext.execute(() -> wrr.acceptResolvedAddresses(ResolvedAddresses.newBuilder()
@@ -26,6 +26,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -273,6 +274,85 @@ public class WeightedTargetLoadBalancerTest {
     }
   }
 
+  @Test
+  public void acceptResolvedAddresses_onlyChangedTargetsUpdated() {
+    Map<String, WeightedPolicySelection> targets = ImmutableMap.of(
+        "target0", weightedLbConfig0,
+        "target1", weightedLbConfig1);
+    EquivalentAddressGroup eag0 = AddressFilter.setPathFilter(
+        new EquivalentAddressGroup(socketAddresses[0]), ImmutableList.of("target0"));
+    EquivalentAddressGroup eag1 = AddressFilter.setPathFilter(
+        new EquivalentAddressGroup(socketAddresses[1]), ImmutableList.of("target1"));
+    weightedTargetLb.acceptResolvedAddresses(
+        ResolvedAddresses.newBuilder()
+            .setAddresses(ImmutableList.of(eag0, eag1))
+            .setLoadBalancingPolicyConfig(new WeightedTargetConfig(targets))
+            .build());
+    verify(childBalancers.get(0)).acceptResolvedAddresses(any());
+    verify(childBalancers.get(1)).acceptResolvedAddresses(any());
+
+    // Only target1's addresses changed.
+    EquivalentAddressGroup newEag1 = AddressFilter.setPathFilter(
+        new EquivalentAddressGroup(socketAddresses[2]), ImmutableList.of("target1"));
+    Status status = weightedTargetLb.acceptResolvedAddresses(
+        ResolvedAddresses.newBuilder()
+            .setAddresses(ImmutableList.of(eag0, newEag1))
+            .setLoadBalancingPolicyConfig(new WeightedTargetConfig(targets))
+            .build());
+    assertThat(status.isOk()).isTrue();
+    verify(childBalancers.get(0)).acceptResolvedAddresses(any());
+    verify(childBalancers.get(1), times(2)).acceptResolvedAddresses(any());
+
+    // A skipped target keeps reporting the result of its last update.
+    Status acceptReturnStatus = Status.UNAVAILABLE.withDescription("Didn't like something");
+    when(childBalancers.get(1).acceptResolvedAddresses(any())).thenReturn(acceptReturnStatus);
+    weightedTargetLb.acceptResolvedAddresses(
+        ResolvedAddresses.newBuilder()
+            .setAddresses(ImmutableList.of(eag0, eag1))
+            .setLoadBalancingPolicyConfig(new WeightedTargetConfig(targets))
+            .build());
+    status = weightedTargetLb.acceptResolvedAddresses(
+        ResolvedAddresses.newBuilder()
+            .setAddresses(ImmutableList.of(eag0, eag1))
+            .setLoadBalancingPolicyConfig(new WeightedTargetConfig(targets))
+            .build());
+    assertThat(status.getCode()).isEqualTo(acceptReturnStatus.getCode());
+    verify(childBalancers.get(0)).acceptResolvedAddresses(any());
+    verify(childBalancers.get(1), times(3)).acceptResolvedAddresses(any());
+  }
+
+  @Test
+  public void acceptResolvedAddresses_afterNameResolutionError_unchangedTargetUpdated() {
+    Map<String, WeightedPolicySelection> targets = ImmutableMap.of("target0", weightedLbConfig0);
+    ResolvedAddresses resolvedAddresses = ResolvedAddresses.newBuilder()
+        .setAddresses(ImmutableList.of(AddressFilter.setPathFilter(
+            new EquivalentAddressGroup(socketAddresses[0]), ImmutableList.of("target0"))))
+        .setLoadBalancingPolicyConfig(new WeightedTargetConfig(targets))
+        .build();
+    weightedTargetLb.acceptResolvedAddresses(resolvedAddresses);
+    LoadBalancer childBalancer = childBalancers.get(0);
+    Helper childHelper = childHelpers.get(0);
+    // Like the endpoint picking policies, the child fails its picks on an error while not READY,
+    // and recovers on the next addresses.
+    SubchannelPicker readyPicker = mock(SubchannelPicker.class);
+    doAnswer(invocation -> {
+      childHelper.updateBalancingState(READY, readyPicker);
+      return Status.OK;
+    }).when(childBalancer).acceptResolvedAddresses(any());
+    doAnswer(invocation -> {
+      childHelper.updateBalancingState(TRANSIENT_FAILURE,
+          new FixedResultPicker(PickResult.withError(invocation.getArgument(0))));
+      return null;
+    }).when(childBalancer).handleNameResolutionError(any());
+
+    weightedTargetLb.handleNameResolutionError(Status.UNAVAILABLE.withDescription("no DNS"));
+    verify(helper).updateBalancingState(eq(TRANSIENT_FAILURE), any(SubchannelPicker.class));
+
+    weightedTargetLb.acceptResolvedAddresses(resolvedAddresses);
+    verify(childBalancer, times(2)).acceptResolvedAddresses(any());
+    verify(helper).updateBalancingState(eq(READY), any(SubchannelPicker.class));
+  }
+
   @Test
   public void handleNameResolutionError() {
     ArgumentCaptor<SubchannelPicker> pickerCaptor = ArgumentCaptor.forClass(SubchannelPicker.class);
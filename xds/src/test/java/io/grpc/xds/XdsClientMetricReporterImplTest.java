@@ -114,6 +114,15 @@ public class XdsClientMetricReporterImplTest {
         eq(Lists.newArrayList()));
   }
 
+  @Test
+  public void reportResourceParseTime() {
+    reporter.reportResourceParseTime(0.25, server, resourceTypeUrl);
+    verify(mockMetricRecorder).recordDoubleHistogram(
+        eqMetricInstrumentName("grpc.xds_client.resource_parse_time"), eq(0.25),
+        eq(Lists.newArrayList(target, server, resourceTypeUrl)),
+        eq(Lists.newArrayList()));
+  }
+
   @Test
   public void reportServerFailure() {
     reporter.reportServerFailure(1, server);
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 The gRPC Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.grpc.xds.client;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import io.envoyproxy.envoy.config.cluster.v3.Cluster;
+import io.envoyproxy.envoy.config.listener.v3.Listener;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
+import java.io.File;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Unit tests for {@link XdsResourceCache}. */
+@RunWith(JUnit4.class)
+public class XdsResourceCacheTest {
+  @Rule
+  public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void read_missingFile() throws Exception {
+    XdsResourceCache cache =
+        new XdsResourceCache(new File(tempFolder.getRoot(), "cache").getPath());
+    assertThat(cache.read()).isEmpty();
+  }
+
+  @Test
+  public void writeThenRead() throws Exception {
+    XdsResourceCache cache =
+        new XdsResourceCache(new File(tempFolder.getRoot(), "cache").getPath());
+    Resource listener = resource("listener", "1", Any.pack(Listener.newBuilder()
+        .setName("listener")
+        .build()));
+    Resource cluster = resource("cluster", "2", Any.pack(Cluster.newBuilder()
+        .setName("cluster")
+        .build()));
+    cache.write(ImmutableList.of(listener, cluster));
+
+    Map<String, Map<String, Resource>> resources = cache.read();
+    assertThat(resources).hasSize(2);
+    assertThat(resources.get(listener.getResource().getTypeUrl()))
+        .containsExactly("listener", listener);
+    assertThat(resources.get(cluster.getResource().getTypeUrl()))
+        .containsExactly("cluster", cluster);
+  }
+
+  @Test
+  public void write_replacesPreviousResources() throws Exception {
+    XdsResourceCache cache =
+        new XdsResourceCache(new File(tempFolder.getRoot(), "cache").getPath());
+    Any cluster = Any.pack(Cluster.newBuilder().setName("cluster").build());
+    cache.write(ImmutableList.of(resource("cluster", "1", cluster)));
+    cache.write(ImmutableList.of(resource("cluster", "2", cluster)));
+
+    assertThat(cache.read().get(cluster.getTypeUrl()).get("cluster").getVersion())
+        .isEqualTo("2");
+    // The temporary file was moved in place.
+    assertThat(tempFolder.getRoot().list()).asList().containsExactly("cache");
+  }
+
+  private static Resource resource(String name, String version, Any resource) {
+    return Resource.newBuilder()
+        .setName(name)
+        .setVersion(version)
+        .setResource(resource)
+        .build();
+  }
+}
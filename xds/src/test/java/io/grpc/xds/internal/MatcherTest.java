@@ -199,4 +199,59 @@ public class MatcherTest {
     assertThat(matcher.matches("v1")).isFalse();
     assertThat(matcher.matches(null)).isFalse();
   }
+
+  @Test
+  public void stringMatcher_ignoreCaseLongerThanInput() {
+    assertThat(StringMatcher.forPrefix("Essence", true).matches("ess")).isFalse();
+    assertThat(StringMatcher.forSuffix("Essence", true).matches("nce")).isFalse();
+    assertThat(StringMatcher.forSuffix("Essence", true).matches("QUINTESSENCE")).isTrue();
+  }
+
+  @Test
+  public void stringMatcher_equalityIgnoresCompiledMatcher() {
+    StringMatcher matcher = StringMatcher.forPrefix("ess", true);
+    assertThat(matcher.matches("essence")).isTrue();
+    assertThat(matcher).isEqualTo(StringMatcher.forPrefix("ess", true));
+    assertThat(matcher.hashCode()).isEqualTo(StringMatcher.forPrefix("ess", true).hashCode());
+  }
+
+  @Test
+  public void literalPrefix() {
+    assertThat(Matchers.literalPrefix(Pattern.compile("v1\\..*"))).isEqualTo("v1");
+    assertThat(Matchers.literalPrefix(Pattern.compile("grpc-java/.+"))).isEqualTo("grpc-java/");
+    assertThat(Matchers.literalPrefix(Pattern.compile("plain"))).isEqualTo("plain");
+    // The last literal character is optional.
+    assertThat(Matchers.literalPrefix(Pattern.compile("abc?d"))).isEqualTo("ab");
+    assertThat(Matchers.literalPrefix(Pattern.compile("abc*"))).isEqualTo("ab");
+    assertThat(Matchers.literalPrefix(Pattern.compile("abc{0,2}"))).isEqualTo("ab");
+    assertThat(Matchers.literalPrefix(Pattern.compile("abc+"))).isEqualTo("abc");
+    assertThat(Matchers.literalPrefix(Pattern.compile("a\uD83D\uDE00?"))).isEqualTo("a");
+    // No prefix is required of every match.
+    assertThat(Matchers.literalPrefix(Pattern.compile("abc|def"))).isEmpty();
+    assertThat(Matchers.literalPrefix(Pattern.compile("x(a|b)"))).isEmpty();
+    assertThat(Matchers.literalPrefix(Pattern.compile("^abc"))).isEmpty();
+    assertThat(Matchers.literalPrefix(Pattern.compile("abc", Pattern.CASE_INSENSITIVE)))
+        .isEmpty();
+  }
+
+  @Test
+  public void compileRegEx() {
+    Matchers.ValueMatcher matcher = Matchers.compileRegEx(Pattern.compile("v1\\.[0-9]+"));
+    assertThat(matcher.matches("v1.43")).isTrue();
+    assertThat(matcher.matches("v1.")).isFalse();
+    assertThat(matcher.matches("v2.43")).isFalse();
+    assertThat(matcher.matches("")).isFalse();
+
+    matcher = Matchers.compileRegEx(Pattern.compile("plain"));
+    assertThat(matcher.matches("plain")).isTrue();
+    assertThat(matcher.matches("plainer")).isFalse();
+
+    matcher = Matchers.compileRegEx(Pattern.compile("abc?"));
+    assertThat(matcher.matches("ab")).isTrue();
+    assertThat(matcher.matches("abc")).isTrue();
+    assertThat(matcher.matches("a")).isFalse();
+
+    matcher = Matchers.compileRegEx(Pattern.compile("abc|def"));
+    assertThat(matcher.matches("def")).isTrue();
+  }
 }